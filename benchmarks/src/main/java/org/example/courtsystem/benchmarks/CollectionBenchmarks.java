@@ -0,0 +1,80 @@
+package org.example.courtsystem.benchmarks;
+
+import org.example.courtsystem.custom.collections.CustomLinkedList;
+import org.example.courtsystem.generics.CaseArchive;
+import org.example.courtsystem.model.cases.ConcreteCase;
+import org.example.courtsystem.model.people.Client;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// CustomLinkedList and CaseArchive operations by collection size
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CollectionBenchmarks {
+
+    @Param({"10", "1000", "10000"})
+    public int size;
+
+    private CustomLinkedList<String> linkedList;
+    private CaseArchive<ConcreteCase> archive;
+    private ConcreteCase[] cases;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        linkedList = new CustomLinkedList<>();
+        for (int i = 0; i < size; i++) {
+            linkedList.add("Item " + i);
+        }
+        Client client = new Client("Mike Ross");
+        archive = new CaseArchive<>();
+        cases = new ConcreteCase[size];
+        for (int i = 0; i < size; i++) {
+            cases[i] = new ConcreteCase("Case " + i, client, null);
+            archive.archiveCase(cases[i]);
+        }
+    }
+
+    // Appends walk the whole list, so this is O(size)
+    @Benchmark
+    public int linkedListAppendAndRemoveTail() {
+        linkedList.add("Tail");
+        linkedList.remove("Tail");
+        return linkedList.size();
+    }
+
+    @Benchmark
+    public String linkedListGetMiddle() {
+        return linkedList.get(size / 2);
+    }
+
+    @Benchmark
+    public ConcreteCase archiveRetrieve() {
+        cursor = cursor + 1 == size ? 0 : cursor + 1;
+        return archive.retrieveCase(cursor);
+    }
+
+    @Benchmark
+    public CaseArchive<ConcreteCase> archiveBuild() {
+        CaseArchive<ConcreteCase> fresh = new CaseArchive<>();
+        for (ConcreteCase courtCase : cases) {
+            fresh.archiveCase(courtCase);
+        }
+        return fresh;
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.courtsystem.benchmarks;
+
+import org.example.courtsystem.util.DocumentAnalyzer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+// DocumentAnalyzer.analyzeDocument on 1 KB, 16 KB and 256 KB documents
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DocumentAnalyzerBenchmarks {
+
+    @Param({"small", "medium", "large"})
+    public String document;
+
+    private String resourcePath;
+    // Reports go to a scratch directory, never into the source tree
+    private Path outputDirectory;
+
+    @Setup
+    public void setUp() throws IOException {
+        resourcePath = "documents/" + document + ".txt";
+        outputDirectory = Files.createTempDirectory("document-analyzer-bench");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(outputDirectory.resolve("analysis_results.txt"));
+        Files.deleteIfExists(outputDirectory);
+    }
+
+    @Benchmark
+    public void analyzeDocument() throws IOException {
+        DocumentAnalyzer.analyzeDocument(resourcePath, outputDirectory);
+    }
+}
@@ -0,0 +1,63 @@
+package org.example.courtsystem.benchmarks;
+
+import org.example.courtsystem.exceptions.InvalidEvidenceException;
+import org.example.courtsystem.model.EvidenceType;
+import org.example.courtsystem.model.cases.Evidence;
+import org.example.courtsystem.model.people.Judge;
+import org.example.courtsystem.model.people.Witness;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Judge.considerEvidence by evidence count, with and without narration
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JudgeBenchmarks {
+    private static final EvidenceType[] TYPES = EvidenceType.values();
+
+    @Param({"1", "10", "100"})
+    public int evidenceCount;
+
+    @Param({"false", "true"})
+    public boolean narrate;
+
+    private Judge judge;
+    private List<Evidence> evidence;
+    private List<Witness> witnesses;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        witnesses = List.of(new Witness("Jessica Pearson"), new Witness("Louis Litt"));
+        evidence = new ArrayList<>(evidenceCount);
+        for (int i = 0; i < evidenceCount; i++) {
+            evidence.add(new Evidence("Exhibit " + i, TYPES[i % TYPES.length]));
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void newJudge() {
+        judge = new Judge("Judith DeLuca", 20);
+    }
+
+    @Benchmark
+    public boolean considerEvidence() throws InvalidEvidenceException {
+        return judge.considerEvidence(evidence, witnesses, narrate);
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.courtsystem.benchmarks;
+
+import org.example.courtsystem.exceptions.CourtException;
+import org.example.courtsystem.model.EvidenceType;
+import org.example.courtsystem.model.cases.ConcreteCase;
+import org.example.courtsystem.model.cases.Evidence;
+import org.example.courtsystem.model.court.Court;
+import org.example.courtsystem.model.court.TrialMode;
+import org.example.courtsystem.model.documents.Verdict;
+import org.example.courtsystem.model.people.Client;
+import org.example.courtsystem.model.people.Judge;
+import org.example.courtsystem.model.people.Lawyer;
+import org.example.courtsystem.model.people.Witness;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Court.startTrial and Court.preTrialEvidenceReview by evidence count and trial mode
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TrialBenchmarks {
+    private static final EvidenceType[] TYPES = EvidenceType.values();
+
+    @Param({"1", "10", "100"})
+    public int evidenceCount;
+
+    @Param({"HEADLESS", "NARRATED"})
+    public TrialMode mode;
+
+    private Court court;
+    private List<Evidence> evidence;
+    private List<Witness> witnesses;
+    private Client client;
+    private Lawyer lawyer;
+    private int caseNumber;
+
+    @Setup(Level.Trial)
+    public void setUp() throws CourtException {
+        client = new Client("Mike Ross");
+        lawyer = new Lawyer("Harvey Specter", 12, 10);
+        witnesses = List.of(new Witness("Jessica Pearson"), new Witness("Louis Litt"));
+        evidence = new ArrayList<>(evidenceCount);
+        for (int i = 0; i < evidenceCount; i++) {
+            evidence.add(new Evidence("Exhibit " + i, TYPES[i % TYPES.length]));
+        }
+    }
+
+    // A fresh judge per iteration keeps the judge's evidence set from growing across iterations
+    @Setup(Level.Iteration)
+    public void newCourt() throws CourtException {
+        court = new Court("Benchmark Court", new Judge("Judith DeLuca", 20));
+        court.setTrialMode(mode);
+    }
+
+    @Benchmark
+    public Verdict startTrial() throws CourtException {
+        ConcreteCase courtCase = new ConcreteCase("Case " + caseNumber++, client, lawyer);
+        evidence.forEach(courtCase::addEvidence);
+        witnesses.forEach(courtCase::addWitness);
+        return court.startTrial(courtCase);
+    }
+
+    @Benchmark
+    public List<Evidence> preTrialEvidenceReview() throws CourtException {
+        court.preTrialEvidenceReview(evidence);
+        return evidence;
+    }
+}
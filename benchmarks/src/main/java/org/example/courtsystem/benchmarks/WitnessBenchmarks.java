@@ -0,0 +1,51 @@
+package org.example.courtsystem.benchmarks;
+
+import org.example.courtsystem.model.people.Witness;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Field;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// Witness construction, which draws random ids until it finds an unused one.
+// Only 1000 ids exist, so each invocation clears the id pool and constructs
+// witnessCount witnesses; the cost per witness rises as the pool fills.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WitnessBenchmarks {
+
+    @Param({"10", "500", "1000"})
+    public int witnessCount;
+
+    private Set<?> usedIds;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        Field field = Witness.class.getDeclaredField("usedIds");
+        field.setAccessible(true);
+        usedIds = (Set<?>) field.get(null);
+    }
+
+    @Benchmark
+    public void constructWitnesses(Blackhole blackhole) {
+        usedIds.clear();
+        for (int i = 0; i < witnessCount; i++) {
+            blackhole.consume(new Witness("Witness " + i));
+        }
+    }
+}
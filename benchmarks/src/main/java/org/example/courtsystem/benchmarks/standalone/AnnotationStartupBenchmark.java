@@ -0,0 +1,90 @@
+package org.example.courtsystem.benchmarks.standalone;
+
+import org.example.courtsystem.annotations.AnnotatedClassMetadata;
+import org.example.courtsystem.annotations.GeneratedAnnotationRegistry;
+import org.example.courtsystem.util.AnnotationProcessor;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Cold-start cost of reading annotation metadata for every class in the module,
+// reflectively versus from the build-time GeneratedAnnotationRegistry.
+// Each measurement runs in a fresh JVM. Both modes load every class before the
+// timed pass, so the pass compares only the metadata lookup (annotation parsing
+// for reflection, a map read for the registry), not class loading.
+// Usage: AnnotationStartupBenchmark [runs]   (child mode: AnnotationStartupBenchmark reflection|generated)
+public class AnnotationStartupBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && (args[0].equals("reflection") || args[0].equals("generated"))) {
+            measureInThisJvm(args[0].equals("reflection"));
+            return;
+        }
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 7;
+        for (String mode : List.of("reflection", "generated")) {
+            long[] passMicros = new long[runs];
+            long[] uptimeMillis = new long[runs];
+            int classes = 0;
+            for (int i = 0; i < runs; i++) {
+                String[] result = runChild(mode).trim().split(" ");
+                classes = Integer.parseInt(result[0]);
+                passMicros[i] = Long.parseLong(result[1]);
+                uptimeMillis[i] = Long.parseLong(result[2]);
+            }
+            Arrays.sort(passMicros);
+            Arrays.sort(uptimeMillis);
+            System.out.printf("%-10s classes=%d median metadata pass=%d us, median JVM uptime at end=%d ms%n",
+                    mode, classes, passMicros[runs / 2], uptimeMillis[runs / 2]);
+        }
+    }
+
+    private static void measureInThisJvm(boolean reflection) throws ClassNotFoundException {
+        List<String> classNames = new ArrayList<>(GeneratedAnnotationRegistry.classNames());
+        // Logger setup in AnnotationProcessor's static initializer is common to both paths
+        Class.forName(AnnotationProcessor.class.getName());
+        // A program asking for metadata has its classes loaded already
+        Class<?>[] classes = new Class<?>[classNames.size()];
+        for (int i = 0; i < classes.length; i++) {
+            classes[i] = Class.forName(classNames.get(i), false, AnnotationStartupBenchmark.class.getClassLoader());
+        }
+        int annotated = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < classes.length; i++) {
+            AnnotatedClassMetadata metadata = reflection
+                    ? AnnotationProcessor.readReflectively(classes[i])
+                    : AnnotationProcessor.metadataFor(classNames.get(i));
+            if (!metadata.isEmpty()) {
+                annotated++;
+            }
+        }
+        long elapsedMicros = (System.nanoTime() - start) / 1_000;
+        long uptime = ManagementFactory.getRuntimeMXBean().getUptime();
+        // annotated is printed so the loop cannot be optimised away
+        System.out.println(classNames.size() + " " + elapsedMicros + " " + uptime + " " + annotated);
+    }
+
+    private static String runChild(String mode) throws IOException, InterruptedException {
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        Process process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                AnnotationStartupBenchmark.class.getName(), mode)
+                .redirectErrorStream(true)
+                .start();
+        String line;
+        String last = "";
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            while ((line = reader.readLine()) != null) {
+                last = line;
+            }
+        }
+        if (process.waitFor() != 0) {
+            throw new IllegalStateException("Child JVM failed: " + last);
+        }
+        return last;
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.courtsystem.benchmarks.standalone;
+
+import org.example.courtsystem.model.cases.ConcreteCase;
+import org.example.courtsystem.model.people.Client;
+import org.example.courtsystem.model.people.Lawyer;
+import org.example.courtsystem.threads.CaseExecutionService;
+import org.example.courtsystem.threads.CaseProcessorThread;
+import org.example.courtsystem.util.CourtLogger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// Blocking case processing on CaseExecutionService versus the fixed pool of
+// three threads used before. The fixed pool gets fewer cases so it finishes
+// in reasonable time; compare the cases/sec figures.
+// Usage: CaseExecutionBenchmark [cases] [workMillis] [fixedPoolCases]
+// Run on Java 21+ to get virtual threads.
+public class CaseExecutionBenchmark {
+    public static void main(String[] args) throws InterruptedException {
+        int cases = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        long workMillis = args.length > 1 ? Long.parseLong(args[1]) : 100;
+        int fixedPoolCases = args.length > 2 ? Integer.parseInt(args[2]) : 300;
+
+        // Measure scheduling, not the log drainer
+        CourtLogger.getInstance().setOverflowPolicy(CourtLogger.OverflowPolicy.DROP);
+        Client client = new Client("Benchmark Client");
+        Lawyer lawyer = new Lawyer("Benchmark Lawyer", 10, 5);
+
+        List<ConcreteCase> docket = new ArrayList<>(cases);
+        for (int i = 0; i < Math.max(cases, fixedPoolCases); i++) {
+            docket.add(new ConcreteCase("Case " + i, client, lawyer));
+        }
+
+        ExecutorService fixedPool = Executors.newFixedThreadPool(3);
+        long start = System.nanoTime();
+        for (ConcreteCase courtCase : docket.subList(0, fixedPoolCases)) {
+            fixedPool.execute(new CaseProcessorThread(courtCase, workMillis));
+        }
+        fixedPool.shutdown();
+        fixedPool.awaitTermination(1, TimeUnit.HOURS);
+        report("fixed pool (3)", fixedPoolCases, System.nanoTime() - start, 3);
+
+        CaseExecutionService service = new CaseExecutionService();
+        int peakInFlight = 0;
+        start = System.nanoTime();
+        for (ConcreteCase courtCase : docket.subList(0, cases)) {
+            service.submit(courtCase, new CaseProcessorThread(courtCase, workMillis));
+            peakInFlight = Math.max(peakInFlight, service.getInFlightCount());
+        }
+        service.shutdown(1, TimeUnit.HOURS);
+        report(service.usesVirtualThreads() ? "virtual threads" : "fallback pool", cases,
+                System.nanoTime() - start, peakInFlight);
+        System.out.printf("completed=%d failed=%d cancelled=%d log entries dropped=%d%n",
+                service.getCompletedCount(), service.getFailedCount(), service.getCancelledCount(),
+                CourtLogger.getInstance().getDroppedCount());
+    }
+
+    private static void report(String name, int cases, long elapsedNanos, int peakInFlight) {
+        System.out.printf("%-16s cases=%d elapsed=%.2fs cases/sec=%.0f peak in flight=%d%n",
+                name, cases, elapsedNanos / 1e9, cases * 1e9 / elapsedNanos, peakInFlight);
+    }
+}
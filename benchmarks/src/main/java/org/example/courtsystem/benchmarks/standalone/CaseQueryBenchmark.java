@@ -0,0 +1,96 @@
+package org.example.courtsystem.benchmarks.standalone;
+
+import org.example.courtsystem.interfaces.CaseFilter;
+import org.example.courtsystem.model.EvidenceType;
+import org.example.courtsystem.model.cases.ConcreteCase;
+import org.example.courtsystem.model.cases.Evidence;
+import org.example.courtsystem.model.people.Client;
+import org.example.courtsystem.model.people.Lawyer;
+import org.example.courtsystem.query.CaseFilters;
+import org.example.courtsystem.query.CaseQueryEngine;
+import org.example.courtsystem.query.IndexedField;
+import org.example.courtsystem.query.QueryFilter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Compares a hand-written CaseFilter scan with the planned query, first
+// without indexes and then with a CLIENT index.
+// Usage: CaseQueryBenchmark [cases] [rounds]
+public class CaseQueryBenchmark {
+    private static final EvidenceType[] TYPES = EvidenceType.values();
+
+    public static void main(String[] args) {
+        int caseCount = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        List<ConcreteCase> cases = generateCases(caseCount);
+
+        // Written in the order a person would: expensive evidence scan first
+        CaseFilter naive = courtCase -> {
+            ConcreteCase concrete = (ConcreteCase) courtCase;
+            return concrete.getEvidenceList().stream().filter(e -> e.type() == EvidenceType.DIGITAL).count() >= 2
+                    && !concrete.getTitle().contains("Appeal")
+                    && concrete.isComplex()
+                    && concrete.getClient().getName().equals("Client 42");
+        };
+        QueryFilter query = CaseFilters.and(
+                CaseFilters.evidenceAtLeast(EvidenceType.DIGITAL, 2),
+                CaseFilters.not(CaseFilters.titleContains("Appeal")),
+                CaseFilters.complex(true),
+                CaseFilters.clientNamed("Client 42"));
+
+        measure("naive scan", rounds, () -> {
+            int hits = 0;
+            for (ConcreteCase courtCase : cases) {
+                if (naive.test(courtCase)) {
+                    hits++;
+                }
+            }
+            return hits;
+        });
+
+        CaseQueryEngine<ConcreteCase> engine = new CaseQueryEngine<>(cases);
+        measure("planned scan", rounds, () -> engine.execute(query).size());
+        System.out.print(engine.explain(query));
+
+        engine.createIndex(IndexedField.CLIENT);
+        measure("planned + index", rounds, () -> engine.execute(query).size());
+        System.out.print(engine.explain(query));
+    }
+
+    private interface Query {
+        int run();
+    }
+
+    private static void measure(String label, int rounds, Query query) {
+        int hits = query.run();
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            hits = query.run();
+        }
+        double millis = (System.nanoTime() - start) / 1_000_000.0 / rounds;
+        System.out.printf("%-16s hits=%d avg=%.3f ms/query%n", label, hits, millis);
+    }
+
+    private static List<ConcreteCase> generateCases(int count) {
+        Random random = new Random(42);
+        List<Client> clients = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            clients.add(new Client("Client " + i));
+        }
+        Lawyer lawyer = new Lawyer("Harvey Specter", 12, 10);
+        List<ConcreteCase> cases = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String title = (random.nextInt(10) == 0 ? "Appeal " : "Case ") + i;
+            ConcreteCase courtCase = new ConcreteCase(title, clients.get(random.nextInt(clients.size())), lawyer);
+            courtCase.setComplex(random.nextInt(3) == 0);
+            int evidence = random.nextInt(6);
+            for (int e = 0; e < evidence; e++) {
+                courtCase.addEvidence(new Evidence("Exhibit " + e, TYPES[random.nextInt(TYPES.length)]));
+            }
+            cases.add(courtCase);
+        }
+        return cases;
+    }
+}
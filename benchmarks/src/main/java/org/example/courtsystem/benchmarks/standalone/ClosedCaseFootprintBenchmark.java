@@ -0,0 +1,71 @@
+package org.example.courtsystem.benchmarks.standalone;
+
+import org.example.courtsystem.loadgen.DocketGenerator;
+import org.example.courtsystem.loadgen.DocketProfile;
+import org.example.courtsystem.model.CaseStatus;
+import org.example.courtsystem.model.cases.CaseCompactor;
+import org.example.courtsystem.model.cases.ClosedCase;
+import org.example.courtsystem.model.cases.ConcreteCase;
+import org.example.courtsystem.model.people.PersonRegistry;
+import org.example.courtsystem.model.people.Witness;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.List;
+
+// Retained heap per closed case as a ConcreteCase and as a ClosedCase.
+// Clients, lawyers and most witnesses come from the generator's pools; each case
+// also gets one witness of its own, as cases recovered from the write-ahead log
+// do. Heap is measured for the whole JVM, so anything the archive leaves behind
+// in PersonRegistry is counted against the ClosedCases.
+// Usage: ClosedCaseFootprintBenchmark [cases]   (run with -XX:+UseSerialGC for stable numbers)
+public class ClosedCaseFootprintBenchmark {
+    private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        DocketGenerator generator = new DocketGenerator(DocketProfile.standard(), 42);
+        CaseCompactor compactor = new CaseCompactor();
+        // Warm up the converter and register the pooled people before the baseline
+        compactor.freezeAll(close(generator.nextCases(5_000)));
+
+        long baseline = usedHeap();
+        int registered = PersonRegistry.getInstance().size();
+        List<ConcreteCase> cases = close(withOwnWitness(generator.nextCases(count)));
+        long concreteBytes = usedHeap() - baseline;
+
+        long start = System.nanoTime();
+        List<ClosedCase> frozen = compactor.freezeAll(cases);
+        long elapsed = System.nanoTime() - start;
+        cases = null;
+        long frozenBytes = usedHeap() - baseline;
+
+        System.out.printf("cases=%d evidence pool=%d registry +%d people%n", frozen.size(),
+                compactor.evidencePoolSize(), PersonRegistry.getInstance().size() - registered);
+        System.out.printf("ConcreteCase  %,8.1f bytes/case%n", (double) concreteBytes / count);
+        System.out.printf("ClosedCase    %,8.1f bytes/case (%.1fx smaller)%n",
+                (double) frozenBytes / count, (double) concreteBytes / frozenBytes);
+        System.out.printf("freeze        %,8.1f ns/case%n", (double) elapsed / count);
+    }
+
+    private static List<ConcreteCase> withOwnWitness(List<ConcreteCase> cases) {
+        for (int i = 0; i < cases.size(); i++) {
+            cases.get(i).addWitness(Witness.restore("Bystander " + i, "Statement " + i, i % 1000));
+        }
+        return cases;
+    }
+
+    private static List<ConcreteCase> close(List<ConcreteCase> cases) {
+        for (ConcreteCase courtCase : cases) {
+            courtCase.transitionTo(CaseStatus.CLOSED);
+        }
+        return cases;
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return MEMORY.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.courtsystem.benchmarks.standalone;
+
+import org.example.courtsystem.generics.LegalPair;
+import org.example.courtsystem.model.court.LawFirm;
+import org.example.courtsystem.model.people.Client;
+import org.example.courtsystem.model.people.Lawyer;
+import org.example.courtsystem.model.services.ConflictOfInterestIndex;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Conflict checks against millions of historical representations.
+// Usage: ConflictCheckBenchmark [pairs] [checks]
+public class ConflictCheckBenchmark {
+
+    public static void main(String[] args) {
+        int pairCount = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        int checkCount = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+        int clientCount = pairCount / 2;
+        Random random = new Random(3);
+
+        List<LawFirm> firms = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            firms.add(new LawFirm("Firm " + i));
+        }
+        // Lawyer construction logs, so keep the population modest
+        List<Lawyer> lawyers = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            lawyers.add(new Lawyer("Lawyer " + i, random.nextInt(20), 5));
+        }
+        List<Client> clients = new ArrayList<>(clientCount);
+        for (int i = 0; i < clientCount; i++) {
+            clients.add(new Client("Client " + i));
+        }
+
+        ConflictOfInterestIndex index = new ConflictOfInterestIndex(pairCount);
+        long start = System.nanoTime();
+        for (int i = 0; i < lawyers.size(); i++) {
+            index.addFirmMember(firms.get(i % firms.size()), lawyers.get(i));
+        }
+        for (int i = 0; i < pairCount; i++) {
+            index.recordRepresentation(new LegalPair<>(lawyers.get(random.nextInt(lawyers.size())),
+                    clients.get(random.nextInt(clientCount))));
+        }
+        for (int i = 0; i < clientCount / 4; i++) {
+            Client first = clients.get(random.nextInt(clientCount));
+            Client second = clients.get(random.nextInt(clientCount));
+            if (!first.equals(second)) {
+                index.recordAdverse(first, second);
+            }
+        }
+        System.out.printf("loaded %d pairs in %.0f ms%n", pairCount, (System.nanoTime() - start) / 1e6);
+
+        int conflicts = 0;
+        start = System.nanoTime();
+        for (int i = 0; i < checkCount; i++) {
+            if (index.hasConflict(lawyers.get(random.nextInt(lawyers.size())),
+                    clients.get(random.nextInt(clientCount)))) {
+                conflicts++;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("checks=%d conflicts=%d avg=%.3f us/check%n", checkCount, conflicts,
+                elapsed / 1000.0 / checkCount);
+        System.out.println(index.getStats());
+    }
+}
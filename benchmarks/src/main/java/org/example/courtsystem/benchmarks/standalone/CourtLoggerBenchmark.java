@@ -0,0 +1,118 @@
+package org.example.courtsystem.benchmarks.standalone;
+
+import org.example.courtsystem.util.CourtLogger;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+// Compares the old synchronous CourtLogger path (string concatenation and a
+// direct Log4j call) with the ring-buffer CourtLogger.
+// Reports bytes allocated per call on the calling threads and caller latency
+// percentiles. Run with a file-only Log4j configuration to keep console I/O out
+// of the numbers, e.g.:
+//   java -cp ... org.example.courtsystem.benchmark.CourtLoggerBenchmark [threads] [callsPerThread]
+public class CourtLoggerBenchmark {
+    private static final Logger syncLogger = LogManager.getLogger(CourtLoggerBenchmark.class);
+
+    public static void main(String[] args) throws InterruptedException {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : 4;
+        int calls = args.length > 1 ? Integer.parseInt(args[1]) : 50_000;
+        CourtLogger courtLogger = CourtLogger.getInstance();
+
+        // Warm-up so both paths are compiled before measuring
+        run("warm-up sync", threads, calls / 10, CourtLoggerBenchmark::logSynchronously);
+        run("warm-up async", threads, calls / 10, (caseNo, threadName) ->
+                courtLogger.logEvent("Processing case: {} in thread: {}", caseNo, threadName));
+        courtLogger.flush(30, TimeUnit.SECONDS);
+
+        Result sync = run("sync (baseline)", threads, calls, CourtLoggerBenchmark::logSynchronously);
+        Result async = run("async ring buffer", threads, calls, (caseNo, threadName) ->
+                courtLogger.logEvent("Processing case: {} in thread: {}", caseNo, threadName));
+        courtLogger.flush(30, TimeUnit.SECONDS);
+
+        System.out.println(sync);
+        System.out.println(async);
+        System.out.printf("dropped=%d policy=%s capacity=%d%n", courtLogger.getDroppedCount(),
+                courtLogger.getOverflowPolicy(), courtLogger.getCapacity());
+    }
+
+    // The logging call as it was before the ring buffer
+    private static void logSynchronously(Integer caseNo, String threadName) {
+        syncLogger.info("[COURT EVENT] " + "Processing case: " + caseNo + " in thread: " + threadName);
+    }
+
+    @FunctionalInterface
+    private interface LogCall {
+        void log(Integer caseNo, String threadName);
+    }
+
+    private record Result(String name, long totalCalls, double bytesPerCall,
+                          long p50Nanos, long p99Nanos, long p999Nanos, double callsPerSecond) {
+        @Override
+        public String toString() {
+            return String.format("%-20s calls=%d alloc=%.1f B/call p50=%dns p99=%dns p99.9=%dns throughput=%.0f calls/s",
+                    name, totalCalls, bytesPerCall, p50Nanos, p99Nanos, p999Nanos, callsPerSecond);
+        }
+    }
+
+    private static Result run(String name, int threads, int calls, LogCall call) throws InterruptedException {
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long[][] latencies = new long[threads][calls];
+        long[] allocated = new long[threads];
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            int worker = t;
+            Thread thread = new Thread(() -> {
+                String threadName = Thread.currentThread().getName();
+                Integer[] caseNumbers = new Integer[256];
+                for (int i = 0; i < caseNumbers.length; i++) {
+                    caseNumbers[i] = 1000 + i;
+                }
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                long id = Thread.currentThread().getId();
+                long before = threadBean.getThreadAllocatedBytes(id);
+                for (int i = 0; i < calls; i++) {
+                    long begin = System.nanoTime();
+                    call.log(caseNumbers[i & 255], threadName);
+                    latencies[worker][i] = System.nanoTime() - begin;
+                }
+                allocated[worker] = threadBean.getThreadAllocatedBytes(id) - before;
+            }, "bench-" + t);
+            workers.add(thread);
+            thread.start();
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long elapsed = System.nanoTime() - begin;
+
+        long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        long totalCalls = (long) threads * calls;
+        return new Result(name, totalCalls,
+                (double) Arrays.stream(allocated).sum() / totalCalls,
+                percentile(all, 0.50), percentile(all, 0.99), percentile(all, 0.999),
+                totalCalls * 1_000_000_000.0 / elapsed);
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1);
+        return sorted[Math.max(0, index)];
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.courtsystem.benchmarks.standalone;
+
+import org.example.courtsystem.loadgen.DocketLoadGenerator;
+import org.example.courtsystem.loadgen.DocketProfile;
+
+// Open-loop docket load at a target arrival rate.
+// Usage: DocketLoadBenchmark [cases] [casesPerSecond] [courts] [forgedRate]
+public class DocketLoadBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int cases = args.length > 0 ? Integer.parseInt(args[0]) : 50_000;
+        double rate = args.length > 1 ? Double.parseDouble(args[1]) : 10_000;
+        int courts = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+        double forgedRate = args.length > 3 ? Double.parseDouble(args[3]) : 0.01;
+
+        DocketProfile profile = DocketProfile.standard().withForgedRate(forgedRate);
+        System.out.println(new DocketLoadGenerator(profile, courts, rate, 42).run(cases));
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.courtsystem.benchmarks.standalone;
+
+import org.example.courtsystem.exceptions.CourtException;
+import org.example.courtsystem.model.CourtType;
+import org.example.courtsystem.model.EvidenceType;
+import org.example.courtsystem.model.cases.ConcreteCase;
+import org.example.courtsystem.model.cases.Evidence;
+import org.example.courtsystem.model.court.Court;
+import org.example.courtsystem.model.court.TrialMode;
+import org.example.courtsystem.model.people.Client;
+import org.example.courtsystem.model.people.Judge;
+import org.example.courtsystem.model.people.Lawyer;
+import org.example.courtsystem.threads.DocketScheduler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+// Time-to-verdict with and without work stealing when most cases are filed
+// with one court of each tier.
+// Usage: DocketSchedulerBenchmark [cases] [courtsPerTier]
+public class DocketSchedulerBenchmark {
+    private static final CourtType[] TIERS = {CourtType.DISTRICT, CourtType.FEDERAL};
+
+    public static void main(String[] args) throws Exception {
+        int caseCount = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int courtsPerTier = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+
+        for (boolean stealing : new boolean[]{false, true}) {
+            run(stealing, caseCount, courtsPerTier);
+        }
+    }
+
+    private static void run(boolean stealing, int caseCount, int courtsPerTier)
+            throws CourtException, InterruptedException {
+        DocketScheduler scheduler = new DocketScheduler(stealing);
+        List<List<Court>> courts = new ArrayList<>();
+        for (CourtType tier : TIERS) {
+            List<Court> tierCourts = new ArrayList<>();
+            for (int i = 0; i < courtsPerTier; i++) {
+                Court court = new Court(tier.name() + "-" + i, new Judge("Judge " + tier + i, 15));
+                court.setTrialMode(TrialMode.HEADLESS);
+                scheduler.registerCourt(court, tier);
+                tierCourts.add(court);
+            }
+            courts.add(tierCourts);
+        }
+        scheduler.start();
+
+        Client client = new Client("Mike Ross");
+        Lawyer lawyer = new Lawyer("Harvey Specter", 12, 10);
+        Random random = new Random(11);
+        long[] latencies = new long[caseCount];
+        List<CompletableFuture<Void>> pending = new ArrayList<>(caseCount);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < caseCount; i++) {
+            ConcreteCase courtCase = new ConcreteCase("Case " + i, client, lawyer);
+            int evidence = 1 + random.nextInt(8);
+            for (int e = 0; e < evidence; e++) {
+                courtCase.addEvidence(new Evidence("Exhibit " + e, EvidenceType.DOCUMENT));
+            }
+            List<Court> tierCourts = courts.get(random.nextInt(TIERS.length));
+            // 70% of filings land on the first court of the tier
+            Court target = random.nextInt(10) < 7 ? tierCourts.get(0)
+                    : tierCourts.get(random.nextInt(tierCourts.size()));
+            int index = i;
+            long submitted = System.nanoTime();
+            pending.add(scheduler.submit(courtCase, target)
+                    .thenRun(() -> latencies[index] = System.nanoTime() - submitted));
+        }
+        CompletableFuture.allOf(pending.toArray(new CompletableFuture[0])).join();
+        long elapsed = System.nanoTime() - start;
+
+        Arrays.sort(latencies);
+        System.out.printf("stealing=%-5s cases=%d makespan=%.0f ms p50=%.2f ms p99=%.2f ms max=%.2f ms%n",
+                stealing, caseCount, elapsed / 1e6, latencies[caseCount / 2] / 1e6,
+                latencies[(int) (caseCount * 0.99)] / 1e6, latencies[caseCount - 1] / 1e6);
+        for (DocketScheduler.CourtMetrics metrics : scheduler.getMetrics()) {
+            System.out.println("    " + metrics);
+        }
+        scheduler.shutdown(10, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,110 @@
+package org.example.courtsystem.benchmarks.standalone;
+
+import org.example.courtsystem.custom.collections.MinHasher;
+import org.example.courtsystem.model.EvidenceType;
+import org.example.courtsystem.model.cases.ConcreteCase;
+import org.example.courtsystem.model.cases.Evidence;
+import org.example.courtsystem.model.people.Client;
+import org.example.courtsystem.model.people.Lawyer;
+import org.example.courtsystem.model.services.EvidenceSimilarityIndex;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Builds an archive where the same exhibits recur across cases with small
+// wording changes, then compares LSH queries with a brute-force Jaccard scan:
+// latency per query and recall of the brute-force matches.
+// Usage: EvidenceSimilarityBenchmark [cases] [threshold]
+public class EvidenceSimilarityBenchmark {
+    private static final String[] KINDS = {"Email correspondence", "Phone records", "Bank statement",
+            "Signed contract", "Meeting notes", "Text messages", "Deposition transcript", "Invoice"};
+    private static final String[] FIRST = {"Jessica", "Louis", "Harvey", "Donna", "Rachel", "Robert",
+            "Samantha", "Alex", "Katrina", "Daniel", "Sheila", "Travis", "Stephen", "Edward", "Sean"};
+    private static final String[] LAST = {"Pearson", "Litt", "Specter", "Paulsen", "Zane", "Zane",
+            "Wheeler", "Williams", "Bennett", "Hardman", "Sazs", "Tanner", "Huntley", "Darby", "Cahill"};
+    private static final int QUERIES = 500;
+
+    public static void main(String[] args) {
+        int caseCount = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        double threshold = args.length > 1 ? Double.parseDouble(args[1]) : EvidenceSimilarityIndex.DEFAULT_THRESHOLD;
+        Random random = new Random(7);
+        Client client = new Client("Archive Client");
+        Lawyer lawyer = new Lawyer("Archive Counsel", 10, 5);
+
+        EvidenceSimilarityIndex index = new EvidenceSimilarityIndex(threshold);
+        List<String> descriptions = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int c = 0; c < caseCount; c++) {
+            ConcreteCase courtCase = new ConcreteCase("Archive " + c, client, lawyer);
+            courtCase.indexEvidenceIn(index);
+            for (int e = 0; e < 5; e++) {
+                String description = vary(exhibit(random), random);
+                descriptions.add(description);
+                courtCase.addEvidence(new Evidence(description, EvidenceType.DOCUMENT));
+            }
+        }
+        long buildNanos = System.nanoTime() - start;
+        System.out.printf("indexed %,d items from %,d cases: %.1f us/item, %s%n", descriptions.size(),
+                caseCount, buildNanos / 1000.0 / descriptions.size(), index.getStats());
+
+        MinHasher hasher = new MinHasher(3, 1, 0);
+        List<long[]> shingles = new ArrayList<>(descriptions.size());
+        for (String description : descriptions) {
+            shingles.add(hasher.shingles(description));
+        }
+
+        long lshNanos = 0;
+        long scanNanos = 0;
+        long expected = 0;
+        long found = 0;
+        for (int q = 0; q < QUERIES; q++) {
+            String query = vary(exhibit(random), random);
+
+            start = System.nanoTime();
+            int lshMatches = index.findSimilar(query).size();
+            lshNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            long[] queryShingles = hasher.shingles(query);
+            int scanMatches = 0;
+            for (long[] candidate : shingles) {
+                if (MinHasher.jaccard(queryShingles, candidate) >= threshold) {
+                    scanMatches++;
+                }
+            }
+            scanNanos += System.nanoTime() - start;
+
+            expected += scanMatches;
+            found += Math.min(lshMatches, scanMatches);
+        }
+        System.out.printf("threshold %.2f: LSH %.3f ms/query, scan %.3f ms/query, recall %.3f (%,d of %,d)%n",
+                threshold, lshNanos / 1e6 / QUERIES, scanNanos / 1e6 / QUERIES,
+                expected == 0 ? 1.0 : (double) found / expected, found, expected);
+        System.out.println(index.getStats());
+    }
+
+    private static String exhibit(Random random) {
+        int person = random.nextInt(FIRST.length * LAST.length);
+        return KINDS[random.nextInt(KINDS.length)] + " with " + FIRST[person % FIRST.length]
+                + " " + LAST[person / FIRST.length] + " " + (2010 + random.nextInt(12));
+    }
+
+    // Clerk-style rewording: abbreviations, initials, dropped or extra words
+    private static String vary(String text, Random random) {
+        String result = text;
+        if (random.nextBoolean()) {
+            result = result.replace(" with ", " w/ ");
+        }
+        if (random.nextInt(3) == 0) {
+            String[] words = result.split(" ");
+            int name = words.length - 3;
+            words[name] = words[name].charAt(0) + ".";
+            result = String.join(" ", words);
+        }
+        if (random.nextInt(4) == 0) {
+            result = result + " (copy)";
+        }
+        return result;
+    }
+}
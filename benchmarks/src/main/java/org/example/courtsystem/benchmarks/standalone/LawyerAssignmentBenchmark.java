@@ -0,0 +1,61 @@
+package org.example.courtsystem.benchmarks.standalone;
+
+import org.example.courtsystem.exceptions.LawyerUnavailableException;
+import org.example.courtsystem.model.cases.ConcreteCase;
+import org.example.courtsystem.model.court.LawyerRoster;
+import org.example.courtsystem.model.people.Client;
+import org.example.courtsystem.model.people.Lawyer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Assignment throughput and load skew for LawyerRoster, plus a check that
+// every assignment is one Lawyer.defend would accept.
+// Usage: LawyerAssignmentBenchmark [lawyers] [cases]
+public class LawyerAssignmentBenchmark {
+
+    public static void main(String[] args) throws LawyerUnavailableException {
+        int lawyerCount = args.length > 0 ? Integer.parseInt(args[0]) : 2_000;
+        int caseCount = args.length > 1 ? Integer.parseInt(args[1]) : 200_000;
+        Random random = new Random(7);
+
+        LawyerRoster roster = new LawyerRoster();
+        for (int i = 0; i < lawyerCount; i++) {
+            roster.addLawyer(new Lawyer("Lawyer " + i, random.nextInt(15), 1 + random.nextInt(20)));
+        }
+        Client client = new Client("Benchmark Client");
+        List<ConcreteCase> cases = new ArrayList<>(caseCount);
+        for (int i = 0; i < caseCount; i++) {
+            ConcreteCase courtCase = new ConcreteCase("Case " + i, client, null);
+            courtCase.setComplex(random.nextInt(10) < 3);
+            cases.add(courtCase);
+        }
+
+        long start = System.nanoTime();
+        List<ConcreteCase> unassigned = roster.assignAll(cases);
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("bulk   assignments=%d unassigned=%d assignments/sec=%.0f%n",
+                caseCount - unassigned.size(), unassigned.size(), caseCount * 1_000_000_000.0 / elapsed);
+        System.out.println("       " + roster.snapshot());
+
+        // Steady state: finish a random case and take a new one
+        int churn = caseCount / 2;
+        start = System.nanoTime();
+        for (int i = 0; i < churn; i++) {
+            int index = random.nextInt(cases.size());
+            ConcreteCase finished = cases.get(index);
+            roster.release(finished);
+            ConcreteCase next = new ConcreteCase("Case " + (caseCount + i), client, null);
+            next.setComplex(random.nextInt(10) < 3);
+            roster.assign(next);
+            cases.set(index, next);
+        }
+        elapsed = System.nanoTime() - start;
+        System.out.printf("churn  release+assign=%d ops/sec=%.0f%n", churn, churn * 1_000_000_000.0 / elapsed);
+        System.out.println("       " + roster.snapshot());
+
+        long rejected = cases.stream().filter(c -> !c.getLawyer().canHandle(c)).count();
+        System.out.println("assignments defend would reject: " + rejected);
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.courtsystem.benchmarks.standalone;
+
+import org.example.courtsystem.model.EvidenceType;
+import org.example.courtsystem.model.cases.Evidence;
+import org.example.courtsystem.storage.OffHeapEvidenceStore;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+// A large digital-evidence manifest held as List<Evidence> and as an
+// OffHeapEvidenceStore: retained heap, time spent in full GCs while it is
+// resident, and a filter over all items.
+// Usage: OffHeapEvidenceBenchmark [items] [list|store]   (one layout per JVM, e.g. with -XX:+UseSerialGC)
+public class OffHeapEvidenceBenchmark {
+    private static final EvidenceType[] TYPES = EvidenceType.values();
+    private static final int FULL_GCS = 5;
+
+    public static void main(String[] args) {
+        int items = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        String layout = args.length > 1 ? args[1] : "list";
+
+        long baseline = usedHeap();
+        List<Evidence> list = null;
+        OffHeapEvidenceStore store = null;
+        long start = System.nanoTime();
+        if (layout.equals("store")) {
+            store = new OffHeapEvidenceStore("Manifest");
+            for (int i = 0; i < items; i++) {
+                store.add(description(i), TYPES[i % TYPES.length]);
+            }
+        } else {
+            list = new ArrayList<>();
+            for (int i = 0; i < items; i++) {
+                list.add(new Evidence(description(i), TYPES[i % TYPES.length]));
+            }
+        }
+        long loadNanos = System.nanoTime() - start;
+        long retained = usedHeap() - baseline;
+
+        long gcBefore = gcMillis();
+        start = System.nanoTime();
+        for (int i = 0; i < FULL_GCS; i++) {
+            System.gc();
+        }
+        long fullGcNanos = System.nanoTime() - start;
+        long gcAfter = gcMillis();
+
+        byte[] needle = "pdf".getBytes(StandardCharsets.UTF_8);
+        int matches = 0;
+        start = System.nanoTime();
+        for (int round = 0; round < 5; round++) {
+            if (store != null) {
+                matches = store.count(e -> e.type() == EvidenceType.DIGITAL && e.descriptionContains(needle));
+            } else {
+                matches = (int) list.stream()
+                        .filter(e -> e.type() == EvidenceType.DIGITAL && e.description().contains("pdf"))
+                        .count();
+            }
+        }
+        long filterNanos = (System.nanoTime() - start) / 5;
+
+        System.out.printf("%-5s items=%,d load=%,d ms%n", layout, items, loadNanos / 1_000_000);
+        System.out.printf("      heap retained=%,d bytes (%.1f bytes/item)%n", retained, (double) retained / items);
+        if (store != null) {
+            System.out.printf("      native used=%,d reserved=%,d bytes%n", store.getUsedBytes(), store.getReservedBytes());
+        }
+        System.out.printf("      full GC avg=%.1f ms (collector time %d ms over %d GCs)%n",
+                fullGcNanos / 1_000_000.0 / FULL_GCS, gcAfter - gcBefore, FULL_GCS);
+        System.out.printf("      filter DIGITAL+'pdf' matches=%,d in %.1f ms%n", matches, filterNanos / 1_000_000.0);
+        if (store != null) {
+            store.close();
+        }
+    }
+
+    private static String description(int i) {
+        return "/evidence/disk" + (i % 16) + "/export_" + i + (i % 3 == 0 ? ".pdf" : ".eml");
+    }
+
+    private static long gcMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionTime());
+        }
+        return total;
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.courtsystem.benchmarks.standalone;
+
+import org.example.courtsystem.model.people.Client;
+import org.example.courtsystem.model.people.Lawyer;
+import org.example.courtsystem.model.people.Person;
+import org.example.courtsystem.model.people.PersonRegistry;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Per-person counter updates keyed three ways: HashMap with Client/Lawyer keys
+// (equals/hashCode on names), and a long[] indexed by PersonRegistry ids.
+// Also times concurrent registration.
+// Usage: PersonLookupBenchmark [clients] [lookups]
+public class PersonLookupBenchmark {
+    private static final int LAWYERS = 2_000;
+
+    public static void main(String[] args) throws Exception {
+        int clientCount = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        int lookups = args.length > 1 ? Integer.parseInt(args[1]) : 20_000_000;
+        PersonRegistry registry = PersonRegistry.getInstance();
+
+        List<Person> people = new ArrayList<>(clientCount + LAWYERS);
+        for (int i = 0; i < clientCount; i++) {
+            people.add(new Client("Client " + i));
+        }
+        for (int i = 0; i < LAWYERS; i++) {
+            people.add(new Lawyer("Lawyer " + i, i % 20, 5));
+        }
+
+        long start = System.nanoTime();
+        int threads = Runtime.getRuntime().availableProcessors();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            futures.add(pool.submit(() -> {
+                for (int i = offset; i < people.size(); i += threads) {
+                    registry.register(people.get(i));
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        pool.shutdown();
+        System.out.printf("registered %d people on %d threads in %.0f ms (size=%d)%n",
+                people.size(), threads, (System.nanoTime() - start) / 1e6, registry.size());
+
+        // Lookups use equal but distinct objects, as happens when cases carry their own copies
+        Person[] probes = new Person[4096];
+        Random random = new Random(5);
+        for (int i = 0; i < probes.length; i++) {
+            Person original = people.get(random.nextInt(people.size()));
+            probes[i] = original instanceof Lawyer lawyer
+                    ? new Lawyer(lawyer.getName(), lawyer.getExperience(), 5)
+                    : new Client(original.getName());
+            registry.register(probes[i]);
+        }
+
+        for (int round = 0; round < 3; round++) {
+            Map<Person, long[]> objectKeyed = new HashMap<>();
+            for (Person person : people) {
+                objectKeyed.put(person, new long[1]);
+            }
+            start = System.nanoTime();
+            for (int i = 0; i < lookups; i++) {
+                objectKeyed.get(probes[i & (probes.length - 1)])[0]++;
+            }
+            long objectNanos = System.nanoTime() - start;
+
+            long[] idKeyed = new long[registry.size()];
+            start = System.nanoTime();
+            for (int i = 0; i < lookups; i++) {
+                idKeyed[probes[i & (probes.length - 1)].getPersonId()]++;
+            }
+            long idNanos = System.nanoTime() - start;
+
+            System.out.printf("round %d: object-keyed HashMap %.2f ns/op, id-indexed array %.2f ns/op%n",
+                    round, (double) objectNanos / lookups, (double) idNanos / lookups);
+        }
+    }
+}
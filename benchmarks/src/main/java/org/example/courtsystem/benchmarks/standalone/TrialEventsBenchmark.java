@@ -0,0 +1,74 @@
+package org.example.courtsystem.benchmarks.standalone;
+
+import org.example.courtsystem.exceptions.CourtException;
+import org.example.courtsystem.metrics.events.TrialRecordingReport;
+import org.example.courtsystem.model.EvidenceType;
+import org.example.courtsystem.model.cases.ConcreteCase;
+import org.example.courtsystem.model.cases.Evidence;
+import org.example.courtsystem.model.court.Court;
+import org.example.courtsystem.model.court.TrialMode;
+import org.example.courtsystem.model.people.Client;
+import org.example.courtsystem.model.people.Judge;
+import org.example.courtsystem.model.people.Lawyer;
+import org.example.courtsystem.model.people.Witness;
+
+import jdk.jfr.Recording;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+// HEADLESS trials per second with the court JFR events disabled and then recorded,
+// followed by the slowest-trial report from the recording.
+// Usage: TrialEventsBenchmark [trials]
+public class TrialEventsBenchmark {
+    private static final List<Evidence> EVIDENCE = List.of(
+            new Evidence("Harvard Law records", EvidenceType.DOCUMENT),
+            new Evidence("Email correspondence with Jessica Pearson", EvidenceType.DIGITAL),
+            new Evidence("Bar Association exam results", EvidenceType.DOCUMENT),
+            new Evidence("Signed affidavit", EvidenceType.WITNESS_STATEMENT));
+
+    public static void main(String[] args) throws CourtException, IOException {
+        int trials = args.length > 0 ? Integer.parseInt(args[0]) : 50_000;
+        Client client = new Client("Mike Ross");
+        Lawyer lawyer = new Lawyer("Harvey Specter", 12, 10);
+        List<Witness> witnesses = List.of(new Witness("Jessica Pearson"), new Witness("Louis Litt"));
+        Court court = new Court("Benchmark Court", new Judge("Judith DeLuca", 20));
+        court.setTrialMode(TrialMode.HEADLESS);
+
+        runTrials(court, trials / 5, client, lawyer, witnesses);
+        System.out.printf("disabled  trials/sec=%.0f%n", timeTrials(court, trials, client, lawyer, witnesses));
+
+        Path output = Files.createTempFile("court-trials", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("org.example.courtsystem.Trial");
+            recording.enable("org.example.courtsystem.TrialPhase");
+            recording.enable("org.example.courtsystem.EvidenceValidation");
+            recording.start();
+            double rate = timeTrials(court, trials, client, lawyer, witnesses);
+            recording.stop();
+            recording.dump(output);
+            System.out.printf("recorded  trials/sec=%.0f%n", rate);
+        }
+        TrialRecordingReport.report(output, 3);
+        Files.deleteIfExists(output);
+    }
+
+    private static double timeTrials(Court court, int trials, Client client, Lawyer lawyer,
+                                     List<Witness> witnesses) throws CourtException {
+        long start = System.nanoTime();
+        runTrials(court, trials, client, lawyer, witnesses);
+        return trials * 1_000_000_000.0 / (System.nanoTime() - start);
+    }
+
+    private static void runTrials(Court court, int trials, Client client, Lawyer lawyer,
+                                  List<Witness> witnesses) throws CourtException {
+        for (int i = 0; i < trials; i++) {
+            ConcreteCase courtCase = new ConcreteCase("Case " + i, client, lawyer);
+            EVIDENCE.forEach(courtCase::addEvidence);
+            witnesses.forEach(courtCase::addWitness);
+            court.startTrial(courtCase);
+        }
+    }
+}
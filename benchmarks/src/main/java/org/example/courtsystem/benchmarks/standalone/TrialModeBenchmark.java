@@ -0,0 +1,56 @@
+package org.example.courtsystem.benchmarks.standalone;
+
+import org.example.courtsystem.exceptions.CourtException;
+import org.example.courtsystem.model.EvidenceType;
+import org.example.courtsystem.model.cases.ConcreteCase;
+import org.example.courtsystem.model.cases.Evidence;
+import org.example.courtsystem.model.court.Court;
+import org.example.courtsystem.model.court.TrialMode;
+import org.example.courtsystem.model.people.Client;
+import org.example.courtsystem.model.people.Judge;
+import org.example.courtsystem.model.people.Lawyer;
+import org.example.courtsystem.model.people.Witness;
+
+import java.util.List;
+
+// Trials per second for NARRATED and HEADLESS modes on identical cases.
+// Usage: TrialModeBenchmark [trials]
+public class TrialModeBenchmark {
+    private static final List<Evidence> EVIDENCE = List.of(
+            new Evidence("Harvard Law records", EvidenceType.DOCUMENT),
+            new Evidence("Email correspondence with Jessica Pearson", EvidenceType.DIGITAL),
+            new Evidence("Bar Association exam results", EvidenceType.DOCUMENT),
+            new Evidence("Signed affidavit", EvidenceType.WITNESS_STATEMENT));
+
+    public static void main(String[] args) throws CourtException {
+        int trials = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        Client client = new Client("Mike Ross");
+        Lawyer lawyer = new Lawyer("Harvey Specter", 12, 10);
+        // Witness ids are limited, so every case shares the same witnesses
+        List<Witness> witnesses = List.of(new Witness("Jessica Pearson"), new Witness("Louis Litt"));
+
+        for (TrialMode mode : List.of(TrialMode.NARRATED, TrialMode.HEADLESS)) {
+            Court court = new Court("Benchmark Court", new Judge("Judith DeLuca", 20));
+            court.setTrialMode(mode);
+            runTrials(court, trials / 10, client, lawyer, witnesses);
+
+            long start = System.nanoTime();
+            runTrials(court, trials, client, lawyer, witnesses);
+            long elapsed = System.nanoTime() - start;
+
+            System.out.printf("%-9s trials=%d trials/sec=%.0f%n", mode, trials,
+                    trials * 1_000_000_000.0 / elapsed);
+            System.out.println("          " + court.getStatistics());
+        }
+    }
+
+    private static void runTrials(Court court, int trials, Client client, Lawyer lawyer,
+                                  List<Witness> witnesses) throws CourtException {
+        for (int i = 0; i < trials; i++) {
+            ConcreteCase courtCase = new ConcreteCase("Case " + i, client, lawyer);
+            EVIDENCE.forEach(courtCase::addEvidence);
+            witnesses.forEach(courtCase::addWitness);
+            court.startTrial(courtCase);
+        }
+    }
+}
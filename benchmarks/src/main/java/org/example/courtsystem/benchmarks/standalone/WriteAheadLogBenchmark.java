@@ -0,0 +1,168 @@
+package org.example.courtsystem.benchmarks.standalone;
+
+import org.example.courtsystem.exceptions.CourtException;
+import org.example.courtsystem.model.EvidenceType;
+import org.example.courtsystem.model.cases.ConcreteCase;
+import org.example.courtsystem.model.cases.Evidence;
+import org.example.courtsystem.model.court.Court;
+import org.example.courtsystem.model.people.Client;
+import org.example.courtsystem.model.people.Judge;
+import org.example.courtsystem.model.people.Lawyer;
+import org.example.courtsystem.storage.CourtWriteAheadLog;
+import org.example.courtsystem.storage.DocketState;
+import org.example.courtsystem.storage.WalRecord;
+import org.example.courtsystem.storage.WalRecordType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+// Durable evidence filings per second through Court.fileEvidence with 1, 4 and
+// 16 writer threads (group commit lets records per fsync grow with the writers),
+// then a simulated crash: the log is abandoned without close() and a torn frame
+// is appended, and the reopened log must hold exactly the acknowledged records.
+// Finally the time to recover a long log of queue churn (documents queued and
+// taken again) with and without a checkpoint.
+// Usage: WriteAheadLogBenchmark [filings per thread] [records for recovery test]
+public class WriteAheadLogBenchmark {
+    private static final EvidenceType[] TYPES = EvidenceType.values();
+
+    public static void main(String[] args) throws Exception {
+        int perThread = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+        int recoveryRecords = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+
+        for (int threads : new int[]{1, 4, 16}) {
+            Path dir = Files.createTempDirectory("court-wal");
+            try {
+                throughput(dir, threads, perThread);
+            } finally {
+                deleteRecursively(dir);
+            }
+        }
+
+        Path dir = Files.createTempDirectory("court-wal");
+        try {
+            crashAndRecover(dir, 4, perThread);
+        } finally {
+            deleteRecursively(dir);
+        }
+
+        recoveryTime(recoveryRecords, false);
+        recoveryTime(recoveryRecords, true);
+    }
+
+    private static void throughput(Path dir, int threads, int perThread) throws Exception {
+        try (CourtWriteAheadLog wal = CourtWriteAheadLog.open(dir)) {
+            Court court = new Court("Benchmark Court", new Judge("Judith DeLuca", 20));
+            court.setWriteAheadLog(wal);
+            long start = System.nanoTime();
+            runWriters(court, threads, perThread);
+            long nanos = System.nanoTime() - start;
+            CourtWriteAheadLog.Stats stats = wal.getStats();
+            System.out.printf("threads=%-2d filings/sec=%.0f records/fsync=%.1f%n", threads,
+                    threads * perThread / (nanos / 1e9), stats.recordsPerSync());
+        }
+    }
+
+    private static void crashAndRecover(Path dir, int threads, int perThread) throws Exception {
+        CourtWriteAheadLog wal = CourtWriteAheadLog.open(dir);
+        Court court = new Court("Benchmark Court", new Judge("Judith DeLuca", 20));
+        court.setWriteAheadLog(wal);
+        runWriters(court, threads, perThread);
+        // No close(): the process "dies" halfway through writing another frame
+        tearLastSegment(dir);
+
+        try (CourtWriteAheadLog reopened = CourtWriteAheadLog.open(dir)) {
+            DocketState state = reopened.getRecoveredState();
+            int expected = threads * perThread;
+            System.out.printf("crash recovery cases=%d evidence=%d expected=%d %s%n", state.getCaseCount(),
+                    state.getEvidenceCount(), expected,
+                    state.getCaseCount() == threads && state.getEvidenceCount() == expected ? "OK" : "MISMATCH");
+        }
+    }
+
+    private static void recoveryTime(int records, boolean checkpoint) throws Exception {
+        Path dir = Files.createTempDirectory("court-wal");
+        try {
+            CourtWriteAheadLog wal = CourtWriteAheadLog.open(dir, Integer.MAX_VALUE);
+            // Buffer everything and sync once; only the replay is measured
+            long lsn = 0;
+            for (int i = 0; i < records / 2; i++) {
+                long queueId = wal.append(null, new WalRecord(0, WalRecordType.DOCUMENT_QUEUED, null, 0, 0, 0,
+                        "Motion " + i, description(i)));
+                lsn = wal.append(null, new WalRecord(0, WalRecordType.DOCUMENT_DEQUEUED, null, 0, 0, queueId,
+                        null, null));
+            }
+            wal.awaitDurable(lsn);
+            if (checkpoint) {
+                wal.checkpoint();
+            }
+
+            long start = System.nanoTime();
+            try (CourtWriteAheadLog reopened = CourtWriteAheadLog.open(dir, Integer.MAX_VALUE)) {
+                long millis = (System.nanoTime() - start) / 1_000_000;
+                System.out.printf("recovery %-15s records=%d queued=%d ms=%d%n",
+                        checkpoint ? "from checkpoint" : "full replay", records,
+                        reopened.getRecoveredState().getQueuedDocumentCount(), millis);
+            }
+        } finally {
+            deleteRecursively(dir);
+        }
+    }
+
+    private static void runWriters(Court court, int threads, int perThread) throws InterruptedException {
+        List<Thread> writers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            ConcreteCase courtCase = newCase(t);
+            writers.add(new Thread(() -> {
+                try {
+                    for (int i = 0; i < perThread; i++) {
+                        court.fileEvidence(courtCase, new Evidence(description(i), TYPES[i % TYPES.length]));
+                    }
+                } catch (CourtException e) {
+                    throw new IllegalStateException(e);
+                }
+            }));
+        }
+        writers.forEach(Thread::start);
+        for (Thread writer : writers) {
+            writer.join();
+        }
+    }
+
+    private static ConcreteCase newCase(int n) {
+        return new ConcreteCase("Pearson v. Hardman " + n, new Client("Client " + n),
+                new Lawyer("Harvey Specter", 12, 10));
+    }
+
+    private static String description(int i) {
+        return "Exhibit " + i + ": email correspondence with Jessica Pearson";
+    }
+
+    // Appends a frame header promising more bytes than follow, as a crash mid-write would leave
+    private static void tearLastSegment(Path dir) throws IOException {
+        Path last;
+        try (Stream<Path> files = Files.list(dir)) {
+            last = files.filter(p -> p.getFileName().toString().endsWith(".log"))
+                    .max(Comparator.naturalOrder()).orElseThrow();
+        }
+        try (FileChannel channel = FileChannel.open(last, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0, 0, 0, 64, 1, 2, 3, 4, 5, 6, 7}));
+        }
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
@@ -7,6 +7,7 @@ import org.example.courtsystem.generics.CaseArchive;
 import org.example.courtsystem.generics.EvidenceProcessor;
 import org.example.courtsystem.generics.LegalPair;
 import org.example.courtsystem.interfaces.*;
+import org.example.courtsystem.metrics.CourtSystemMetrics;
 import org.example.courtsystem.model.CaseStatus;
 import org.example.courtsystem.model.CourtType;
 import org.example.courtsystem.model.EvidenceType;
@@ -18,19 +19,18 @@ import org.example.courtsystem.model.documents.LegalDocument;
 import org.example.courtsystem.model.documents.Verdict;
 import org.example.courtsystem.model.people.*;
 import org.example.courtsystem.model.services.LegalSecretary;
+import org.example.courtsystem.storage.CourtWriteAheadLog;
 import org.example.courtsystem.util.AnnotationProcessor;
 import org.example.courtsystem.util.DocumentAnalyzer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.example.courtsystem.threads.CaseProcessorThread;
+import org.example.courtsystem.threads.CaseExecutionService;
 import org.example.courtsystem.util.CourtLogger;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.*;
 import java.lang.reflect.InvocationTargetException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -46,6 +46,9 @@ public class Main {
     // Court system constants
     private static final int MAX_CASE_DURATION_DAYS = 30;
     private static final String COURT_DISTRICT = "SOUTHERN DISTRICT OF NEW YORK";
+    private static final String FRAUD_CASE_TITLE = "U.S. v. Mike Ross";
+    // Directory of the docket's write-ahead log; the docket is in-memory only when unset
+    private static final String WAL_DIR_PROPERTY = "courtsystem.wal.dir";
 
     public static void main(String[] args) {
         try {
@@ -76,6 +79,9 @@ public class Main {
         } catch (IOException e) {
             logger.error("Error analyzing document: {}", e.getMessage());
         }
+
+        // Write out anything still queued in the asynchronous court log
+        CourtLogger.getInstance().shutdown();
     }
 
     private static void demonstrateAnnotations() {
@@ -101,6 +107,7 @@ public class Main {
     private static void initializeLegalSystem() throws CourtException {
         logger.info("INITIALIZING LEGAL SYSTEM");
 
+        CourtWriteAheadLog writeAheadLog = openWriteAheadLog();
         try {
             // 1. Create all legal entities
             LawFirm firm = new LawFirm("Pearson Specter Litt");
@@ -111,18 +118,33 @@ public class Main {
             Client defendant = new Client("Mike Ross");
             Judge judge = new Judge("Judith DeLuca", 20);
             Court court = new Court("U.S. District Court", judge);
-            LegalSecretary secretary = new LegalSecretary();
+            // Trial metrics become visible in JConsole under org.example.courtsystem
+            CourtSystemMetrics.getInstance().publish(court);
+            LegalSecretary secretary = new LegalSecretary(writeAheadLog == null
+                    ? LegalSecretary.DEFAULT_QUEUE_CAPACITY
+                    : Math.max(LegalSecretary.DEFAULT_QUEUE_CAPACITY,
+                    writeAheadLog.getRecoveredState().getQueuedDocumentCount()));
+            Map<String, ConcreteCase> recoveredCases = restoreDocket(writeAheadLog, court, secretary);
 
             // 2. Display court information
             Court.displayCourtRules();
             logger.info("Jurisdiction: {}", COURT_DISTRICT);
 
-            // 3. Prepare case with full exception handling
-            ConcreteCase fraudCase = prepareCase(firm, defenseAttorney, prosecutor,
-                    defendant, secretary, court);
+            // 3. Prepare case with full exception handling, unless it was recovered
+            ConcreteCase fraudCase = recoveredCases.get(FRAUD_CASE_TITLE);
+            if (fraudCase == null) {
+                fraudCase = prepareCase(firm, defenseAttorney, prosecutor, defendant, secretary, court);
+            } else {
+                logger.info("Case {} recovered from the write-ahead log ({})",
+                        fraudCase.getTitle(), fraudCase.getStatus());
+            }
 
             // 4. Conduct trial process
-            conductTrialProcess(court, fraudCase, secretary);
+            if (fraudCase.getStatus() == CaseStatus.CLOSED) {
+                logger.info("Verdict for {} was already recorded", fraudCase.getTitle());
+            } else {
+                conductTrialProcess(court, fraudCase, secretary);
+            }
 
             // 5. Demonstrate system features
             demonstrateSystemFeatures(court, fraudCase, defenseAttorney,
@@ -137,6 +159,49 @@ public class Main {
         } catch (DocumentProcessingException e) {
             logger.error("Document processing failed: {}", e.getMessage());
             throw new CourtException("Case processing failed due to document issues", e);
+        } finally {
+            closeWriteAheadLog(writeAheadLog);
+        }
+    }
+
+    // Opens the write-ahead log named by the courtsystem.wal.dir property, or returns null
+    private static CourtWriteAheadLog openWriteAheadLog() throws CourtException {
+        String directory = System.getProperty(WAL_DIR_PROPERTY);
+        if (directory == null || directory.isBlank()) {
+            logger.info("No {} set; the docket is not persisted", WAL_DIR_PROPERTY);
+            return null;
+        }
+        try {
+            return CourtWriteAheadLog.open(Path.of(directory));
+        } catch (IOException e) {
+            throw new CourtException("Could not open write-ahead log in " + directory, e);
+        }
+    }
+
+    // Brings the court and secretary back to the logged state and attaches the log.
+    // Returns the recovered cases by title.
+    private static Map<String, ConcreteCase> restoreDocket(CourtWriteAheadLog writeAheadLog, Court court,
+                                                           LegalSecretary secretary) throws CourtException {
+        Map<String, ConcreteCase> cases = new LinkedHashMap<>();
+        if (writeAheadLog == null) {
+            return cases;
+        }
+        for (ConcreteCase courtCase : writeAheadLog.restoreInto(court, secretary)) {
+            cases.put(courtCase.getTitle(), courtCase);
+        }
+        logger.info("Docket recovered: {} cases, {} documents, {} queued documents", cases.size(),
+                writeAheadLog.getRecoveredState().getDocumentCount(), secretary.getQueueSize());
+        return cases;
+    }
+
+    private static void closeWriteAheadLog(CourtWriteAheadLog writeAheadLog) {
+        if (writeAheadLog == null) {
+            return;
+        }
+        try {
+            writeAheadLog.close();
+        } catch (IOException e) {
+            logger.error("Could not close write-ahead log: {}", e.getMessage());
         }
     }
 
@@ -144,13 +209,13 @@ public class Main {
     private static ConcreteCase prepareCase(LawFirm firm, Lawyer defenseAttorney,
                                             Lawyer prosecutor, Client defendant,
                                             LegalSecretary secretary, Court court)
-            throws LawyerUnavailableException, DocumentProcessingException {
+            throws CourtException {
 
         logger.info("\nCASE PREPARATION");
         firm.hireLawyer(defenseAttorney);
         logger.info("Prosecutor assigned: {}", prosecutor.getName());
 
-        ConcreteCase fraudCase = new ConcreteCase("U.S. v. Mike Ross", defendant, defenseAttorney);
+        ConcreteCase fraudCase = new ConcreteCase(FRAUD_CASE_TITLE, defendant, defenseAttorney);
         logger.info("Case filed: {} ({} days maximum duration)",
                 fraudCase.getTitle(), MAX_CASE_DURATION_DAYS);
 
@@ -182,14 +247,20 @@ public class Main {
                 })
                 .collect(Collectors.toList());
 
-        validEvidences.forEach(fraudCase::addEvidence);
+        // Through the court so the evidence is logged when a write-ahead log is attached
+        for (Evidence evidence : validEvidences) {
+            court.fileEvidence(fraudCase, evidence);
+        }
 
         logger.info("\nWITNESS LIST");
         // Adding witnesses via Stream
-        Stream.of("Jessica Pearson", "Louis Litt")
+        List<Witness> witnesses = Stream.of("Jessica Pearson", "Louis Litt")
                 .map(Witness::new)
                 .peek(witness -> logger.info("Adding witness: {}", witness.getName()))
-                .forEach(fraudCase::addWitness);
+                .toList();
+        for (Witness witness : witnesses) {
+            court.admitWitness(fraudCase, witness);
+        }
 
         logger.info("\nDOCUMENT PREPARATION");
         Document defenseBrief = secretary.draftDocument(
@@ -233,6 +304,7 @@ public class Main {
 
                 try {
                     appealHandler.fileAppeal(verdict);
+                    fraudCase.transitionTo(CaseStatus.APPEALED);
                     handleAppealProcess(verdict, secretary);
                 } catch (AppealFailedException e) {
                     logger.error("Appeal process failed: {}", e.getMessage());
@@ -440,23 +512,10 @@ public class Main {
                         new Lawyer("Lisa Ray", 8, 5))
         };
 
-        // Creating a thread pool
-        ExecutorService executor = Executors.newFixedThreadPool(3);
-
-        try {
-            // Start processing each case in a separate thread
+        // Each case runs on its own virtual thread (platform pool on older JVMs)
+        try (CaseExecutionService executionService = new CaseExecutionService()) {
             for (ConcreteCase courtCase : cases) {
-                executor.execute(new CaseProcessorThread(courtCase));
-            }
-        } finally {
-            executor.shutdown();
-            try {
-                if (!executor.awaitTermination(60, TimeUnit.SECONDS)) {
-                    executor.shutdownNow();
-                }
-            } catch (InterruptedException e) {
-                executor.shutdownNow();
-                Thread.currentThread().interrupt();
+                executionService.submit(courtCase);
             }
         }
 
@@ -0,0 +1,29 @@
+package org.example.courtsystem.annotations;
+
+import java.util.List;
+
+// Values of @CaseMetadata and @AuthorAnnotation for one class, either read
+// reflectively or taken from the registry generated at build time.
+// Absent annotations are null; methodAuthors lists annotated methods only.
+public record AnnotatedClassMetadata(String className,
+                                     CaseInfo caseMetadata,
+                                     AuthorInfo author,
+                                     List<MethodAuthor> methodAuthors) {
+
+    public record CaseInfo(String author, String creationDate, String lastModified, int version) {
+    }
+
+    public record AuthorInfo(String author, String date, String description) {
+    }
+
+    public record MethodAuthor(String methodName, AuthorInfo author) {
+    }
+
+    public AnnotatedClassMetadata {
+        methodAuthors = List.copyOf(methodAuthors);
+    }
+
+    public boolean isEmpty() {
+        return caseMetadata == null && author == null && methodAuthors.isEmpty();
+    }
+}
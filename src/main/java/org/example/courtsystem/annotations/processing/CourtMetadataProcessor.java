@@ -0,0 +1,140 @@
+package org.example.courtsystem.annotations.processing;
+
+import org.example.courtsystem.annotations.AuthorAnnotation;
+import org.example.courtsystem.annotations.CaseMetadata;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+// Compile-time processor that writes GeneratedAnnotationRegistry.
+// Every type compiled in the module gets an entry, annotated or not, so the
+// runtime can tell "no annotations" apart from "not compiled here" and only
+// falls back to reflection for the latter.
+// Compiled in its own pass before the main sources; see pom.xml.
+@SupportedAnnotationTypes("*")
+public class CourtMetadataProcessor extends AbstractProcessor {
+    static final String REGISTRY_PACKAGE = "org.example.courtsystem.annotations";
+    static final String REGISTRY_CLASS = "GeneratedAnnotationRegistry";
+
+    private boolean generated;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        // All hand-written sources arrive in the first round
+        if (generated || roundEnv.processingOver() || roundEnv.getRootElements().isEmpty()) {
+            return false;
+        }
+        generated = true;
+
+        List<TypeElement> types = new ArrayList<>();
+        for (Element root : roundEnv.getRootElements()) {
+            collectTypes(root, types);
+        }
+        try {
+            writeRegistry(types);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Could not write " + REGISTRY_CLASS + ": " + e.getMessage());
+        }
+        return false;
+    }
+
+    private void collectTypes(Element element, List<TypeElement> types) {
+        if (element instanceof TypeElement type) {
+            types.add(type);
+            for (Element enclosed : type.getEnclosedElements()) {
+                collectTypes(enclosed, types);
+            }
+        }
+    }
+
+    private void writeRegistry(List<TypeElement> types) throws IOException {
+        Elements elements = processingEnv.getElementUtils();
+        JavaFileObject file = processingEnv.getFiler().createSourceFile(REGISTRY_PACKAGE + "." + REGISTRY_CLASS);
+        try (Writer out = file.openWriter()) {
+            out.write("package " + REGISTRY_PACKAGE + ";\n\n");
+            out.write("import java.util.HashMap;\n");
+            out.write("import java.util.Collections;\n");
+            out.write("import java.util.List;\n");
+            out.write("import java.util.Map;\n");
+            out.write("import java.util.Set;\n\n");
+            out.write("// Generated by " + getClass().getName() + ". Do not edit.\n");
+            out.write("public final class " + REGISTRY_CLASS + " {\n");
+            out.write("    private static final Map<String, AnnotatedClassMetadata> METADATA = new HashMap<>("
+                    + (types.size() * 2) + ");\n\n");
+            out.write("    static {\n");
+            for (TypeElement type : types) {
+                String binaryName = elements.getBinaryName(type).toString();
+                out.write("        METADATA.put(" + literal(binaryName) + ", new AnnotatedClassMetadata("
+                        + literal(binaryName) + ",\n");
+                out.write("                " + caseInfo(type.getAnnotation(CaseMetadata.class)) + ",\n");
+                out.write("                " + authorInfo(type.getAnnotation(AuthorAnnotation.class)) + ",\n");
+                out.write("                List.of(" + methodAuthors(type) + ")));\n");
+            }
+            out.write("    }\n\n");
+            out.write("    private " + REGISTRY_CLASS + "() {\n    }\n\n");
+            out.write("    // Metadata for a class compiled in this module, or null if it was compiled elsewhere\n");
+            out.write("    public static AnnotatedClassMetadata lookup(String className) {\n");
+            out.write("        return METADATA.get(className);\n");
+            out.write("    }\n\n");
+            out.write("    public static Set<String> classNames() {\n");
+            out.write("        return Collections.unmodifiableSet(METADATA.keySet());\n");
+            out.write("    }\n\n");
+            out.write("    public static int size() {\n");
+            out.write("        return METADATA.size();\n");
+            out.write("    }\n");
+            out.write("}\n");
+        }
+    }
+
+    private String methodAuthors(TypeElement type) {
+        List<String> entries = new ArrayList<>();
+        for (Element enclosed : type.getEnclosedElements()) {
+            AuthorAnnotation author = enclosed.getAnnotation(AuthorAnnotation.class);
+            if (enclosed.getKind() == ElementKind.METHOD && author != null) {
+                entries.add("\n                        new AnnotatedClassMetadata.MethodAuthor("
+                        + literal(enclosed.getSimpleName().toString()) + ", " + authorInfo(author) + ")");
+            }
+        }
+        return String.join(",", entries);
+    }
+
+    private String caseInfo(CaseMetadata metadata) {
+        if (metadata == null) {
+            return "null";
+        }
+        return "new AnnotatedClassMetadata.CaseInfo(" + literal(metadata.author()) + ", "
+                + literal(metadata.creationDate()) + ", " + literal(metadata.lastModified()) + ", "
+                + metadata.version() + ")";
+    }
+
+    private String authorInfo(AuthorAnnotation author) {
+        if (author == null) {
+            return "null";
+        }
+        return "new AnnotatedClassMetadata.AuthorInfo(" + literal(author.author()) + ", "
+                + literal(author.date()) + ", " + literal(author.description()) + ")";
+    }
+
+    private String literal(String value) {
+        return processingEnv.getElementUtils().getConstantExpression(value);
+    }
+}
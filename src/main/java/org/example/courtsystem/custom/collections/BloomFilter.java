@@ -0,0 +1,81 @@
+package org.example.courtsystem.custom.collections;
+
+// Bloom filter over long keys.
+// The bit array is rounded up to a power of two and probed with double hashing,
+// so a lookup is k mixes and k word reads. There are no false negatives;
+// false positives occur at roughly the configured rate once the filter holds
+// the expected number of keys. Not thread-safe: callers guard it with their own lock.
+public class BloomFilter {
+    private final long[] words;
+    private final long bitMask;
+    private final int hashCount;
+    private long insertions;
+
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("Expected insertions must be positive");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1");
+        }
+        double ln2 = Math.log(2);
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+        long bits = Long.highestOneBit(Math.max(64, optimalBits - 1)) << 1;
+        if (bits > (1L << 36)) {
+            throw new IllegalArgumentException("Bloom filter would need more than 8 GB");
+        }
+        this.words = new long[(int) (bits >>> 6)];
+        this.bitMask = bits - 1;
+        this.hashCount = Math.max(1, (int) Math.round((double) bits / expectedInsertions * ln2));
+    }
+
+    public void add(long key) {
+        long h1 = mix(key);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = (h1 + i * h2) & bitMask;
+            words[(int) (bit >>> 6)] |= 1L << bit;
+        }
+        insertions++;
+    }
+
+    public boolean mightContain(long key) {
+        long h1 = mix(key);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = (h1 + i * h2) & bitMask;
+            if ((words[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long getInsertions() {
+        return insertions;
+    }
+
+    public long getBitCount() {
+        return bitMask + 1;
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    // False positive rate expected at the current number of insertions
+    public double expectedFalsePositiveRate() {
+        double fill = 1 - Math.exp(-(double) hashCount * insertions / getBitCount());
+        return Math.pow(fill, hashCount);
+    }
+
+    // MurmurHash3 64-bit finalizer
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xFF51AFD7ED558CCDL;
+        key ^= key >>> 33;
+        key *= 0xC4CEB9FE1A85EC53L;
+        key ^= key >>> 33;
+        return key;
+    }
+}
@@ -0,0 +1,174 @@
+package org.example.courtsystem.custom.collections;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Hierarchical timing wheel with one-day ticks.
+// Level 0 has one slot per day for the next 64 days, level 1 one slot per 64 days,
+// level 2 one slot per 4096 days; anything further out waits in an overflow list.
+// Items move down a level when the wheel reaches their block, so each item is
+// touched at most once per level and a day's expiries cost O(expiring).
+// Not thread-safe: callers guard it with their own lock.
+public class HierarchicalTimingWheel<T> {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 3;
+
+    @SuppressWarnings("unchecked")
+    private final List<Entry<T>>[][] wheels = new List[LEVELS][SLOTS];
+    private final List<Entry<T>> overflow = new ArrayList<>();
+    private long currentDay;
+    private int size;
+
+    // Handle returned by schedule(); cancelling it removes the item lazily
+    public static final class Entry<T> {
+        private final T item;
+        private final long day;
+        private boolean cancelled;
+
+        private Entry(T item, long day) {
+            this.item = item;
+            this.day = day;
+        }
+
+        public T getItem() {
+            return item;
+        }
+
+        public long getDay() {
+            return day;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+    public HierarchicalTimingWheel(long startDay) {
+        this.currentDay = startDay;
+        for (List<Entry<T>>[] level : wheels) {
+            for (int i = 0; i < SLOTS; i++) {
+                level[i] = new ArrayList<>();
+            }
+        }
+    }
+
+    public long getCurrentDay() {
+        return currentDay;
+    }
+
+    // Number of scheduled, not yet cancelled or expired items
+    public int size() {
+        return size;
+    }
+
+    // Schedules an item for the given day; returns null if that day has already passed
+    public Entry<T> schedule(T item, long day) {
+        if (day < currentDay) {
+            return null;
+        }
+        Entry<T> entry = new Entry<>(item, day);
+        place(entry);
+        size++;
+        return entry;
+    }
+
+    public boolean cancel(Entry<T> entry) {
+        if (entry == null || entry.cancelled || entry.day < currentDay) {
+            return false;
+        }
+        entry.cancelled = true;
+        size--;
+        return true;
+    }
+
+    // Items due on the given day, which must be within the next 64 days.
+    // Advance the wheel to that day first so higher levels have cascaded.
+    public List<T> dueOn(long day) {
+        if (day < currentDay || day - currentDay >= SLOTS) {
+            throw new IllegalArgumentException("Day outside the level-0 window: " + day);
+        }
+        List<T> due = new ArrayList<>();
+        for (Entry<T> entry : wheels[0][(int) (day & SLOT_MASK)]) {
+            if (!entry.cancelled) {
+                due.add(entry.item);
+            }
+        }
+        return due;
+    }
+
+    // Moves the wheel forward to targetDay. Items due before targetDay are
+    // removed and returned, oldest day first.
+    public List<T> advanceTo(long targetDay) {
+        List<T> expired = new ArrayList<>();
+        if (size == 0 && overflow.isEmpty()) {
+            currentDay = Math.max(currentDay, targetDay);
+            clearCancelled();
+            return expired;
+        }
+        while (currentDay < targetDay) {
+            List<Entry<T>> slot = wheels[0][(int) (currentDay & SLOT_MASK)];
+            for (Entry<T> entry : slot) {
+                if (!entry.cancelled) {
+                    expired.add(entry.item);
+                    size--;
+                }
+            }
+            slot.clear();
+            currentDay++;
+            cascade();
+        }
+        return expired;
+    }
+
+    private void place(Entry<T> entry) {
+        long delta = entry.day - currentDay;
+        if (delta < SLOTS) {
+            wheels[0][(int) (entry.day & SLOT_MASK)].add(entry);
+        } else if (delta < (long) SLOTS << SLOT_BITS) {
+            wheels[1][(int) ((entry.day >>> SLOT_BITS) & SLOT_MASK)].add(entry);
+        } else if (delta < (long) SLOTS << (2 * SLOT_BITS)) {
+            wheels[2][(int) ((entry.day >>> (2 * SLOT_BITS)) & SLOT_MASK)].add(entry);
+        } else {
+            overflow.add(entry);
+        }
+    }
+
+    // Called after each tick: when a lower level wraps, the matching slot of
+    // the level above is redistributed, highest level first
+    private void cascade() {
+        if ((currentDay & SLOT_MASK) != 0) {
+            return;
+        }
+        if (((currentDay >>> SLOT_BITS) & SLOT_MASK) == 0) {
+            if (((currentDay >>> (2 * SLOT_BITS)) & SLOT_MASK) == 0) {
+                redistribute(overflow);
+            }
+            redistribute(wheels[2][(int) ((currentDay >>> (2 * SLOT_BITS)) & SLOT_MASK)]);
+        }
+        redistribute(wheels[1][(int) ((currentDay >>> SLOT_BITS) & SLOT_MASK)]);
+    }
+
+    private void redistribute(List<Entry<T>> slot) {
+        if (slot.isEmpty()) {
+            return;
+        }
+        List<Entry<T>> moving = new ArrayList<>(slot);
+        slot.clear();
+        for (Entry<T> entry : moving) {
+            if (!entry.cancelled) {
+                place(entry);
+            }
+        }
+    }
+
+    private void clearCancelled() {
+        for (List<Entry<T>>[] level : wheels) {
+            for (List<Entry<T>> slot : level) {
+                slot.clear();
+            }
+        }
+        overflow.clear();
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.courtsystem.custom.collections;
+
+// Open-addressing hash set of primitive longs with linear probing.
+// Avoids boxing so millions of keys fit in two longs of memory each.
+// Not thread-safe: callers guard it with their own lock.
+public class LongHashSet {
+    private static final long EMPTY = 0L;
+    private static final double MAX_LOAD = 0.5;
+
+    private long[] table;
+    private int mask;
+    private int size;
+    // Zero marks empty slots, so it is tracked separately
+    private boolean containsZero;
+
+    public LongHashSet() {
+        this(16);
+    }
+
+    public LongHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit((int) Math.max(16, Math.min(1 << 30, expectedSize / MAX_LOAD)) - 1) << 1;
+        table = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    public boolean add(long key) {
+        if (key == EMPTY) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+        int index = slot(key);
+        while (table[index] != EMPTY) {
+            if (table[index] == key) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        table[index] = key;
+        size++;
+        if (size > table.length * MAX_LOAD) {
+            resize();
+        }
+        return true;
+    }
+
+    public boolean contains(long key) {
+        if (key == EMPTY) {
+            return containsZero;
+        }
+        int index = slot(key);
+        long current;
+        while ((current = table[index]) != EMPTY) {
+            if (current == key) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private int slot(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private void resize() {
+        long[] old = table;
+        table = new long[old.length << 1];
+        mask = table.length - 1;
+        for (long key : old) {
+            if (key != EMPTY) {
+                int index = slot(key);
+                while (table[index] != EMPTY) {
+                    index = (index + 1) & mask;
+                }
+                table[index] = key;
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package org.example.courtsystem.custom.collections;
+
+import java.util.Arrays;
+
+// Character shingling and MinHash signatures for short texts.
+// Text is lowercased, punctuation becomes a space and runs of whitespace are
+// collapsed, so "w/ J. Pearson" and "w J Pearson" shingle alike. Each shingle
+// is hashed to a long; the signature keeps, for each of n hash functions
+// a * x + b (odd random a), the smallest hash seen. The fraction of equal positions in two signatures
+// estimates the Jaccard similarity of the shingle sets. Immutable and thread-safe.
+public class MinHasher {
+    private final int shingleSize;
+    private final long[] multipliers;
+    private final long[] offsets;
+
+    public MinHasher(int shingleSize, int hashCount, long seed) {
+        if (shingleSize <= 0) {
+            throw new IllegalArgumentException("Shingle size must be positive");
+        }
+        if (hashCount <= 0) {
+            throw new IllegalArgumentException("Hash count must be positive");
+        }
+        this.shingleSize = shingleSize;
+        this.multipliers = new long[hashCount];
+        this.offsets = new long[hashCount];
+        long state = seed;
+        for (int i = 0; i < hashCount; i++) {
+            state += 0x9E3779B97F4A7C15L;
+            multipliers[i] = mix(state) | 1;
+            state += 0x9E3779B97F4A7C15L;
+            offsets[i] = mix(state);
+        }
+    }
+
+    public int getHashCount() {
+        return multipliers.length;
+    }
+
+    // Sorted, distinct shingle hashes of the text. Texts shorter than one
+    // shingle yield a single shingle of the whole text.
+    public long[] shingles(String text) {
+        String normalized = normalize(text);
+        if (normalized.isEmpty()) {
+            return new long[0];
+        }
+        int count = Math.max(1, normalized.length() - shingleSize + 1);
+        long[] hashes = new long[count];
+        for (int i = 0; i < count; i++) {
+            long h = 0xCBF29CE484222325L;
+            int end = Math.min(normalized.length(), i + shingleSize);
+            for (int j = i; j < end; j++) {
+                h = (h ^ normalized.charAt(j)) * 0x100000001B3L;
+            }
+            hashes[i] = mix(h);
+        }
+        Arrays.sort(hashes);
+        int distinct = 0;
+        for (int i = 0; i < hashes.length; i++) {
+            if (i == 0 || hashes[i] != hashes[i - 1]) {
+                hashes[distinct++] = hashes[i];
+            }
+        }
+        return distinct == hashes.length ? hashes : Arrays.copyOf(hashes, distinct);
+    }
+
+    public int[] signature(long[] shingles) {
+        int[] signature = new int[multipliers.length];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (long shingle : shingles) {
+            for (int i = 0; i < multipliers.length; i++) {
+                // Top 31 bits keep the values non-negative so plain int comparison works
+                int h = (int) ((shingle * multipliers[i] + offsets[i]) >>> 33);
+                if (h < signature[i]) {
+                    signature[i] = h;
+                }
+            }
+        }
+        return signature;
+    }
+
+    // Exact Jaccard similarity of two sorted shingle sets
+    public static double jaccard(long[] a, long[] b) {
+        if (a.length == 0 && b.length == 0) {
+            return 1.0;
+        }
+        int i = 0;
+        int j = 0;
+        int common = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                common++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return (double) common / (a.length + b.length - common);
+    }
+
+    static String normalize(String text) {
+        StringBuilder out = new StringBuilder(text.length());
+        boolean space = true;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            if (Character.isLetterOrDigit(c)) {
+                out.append(c);
+                space = false;
+            } else if (!space) {
+                out.append(' ');
+                space = true;
+            }
+        }
+        int length = out.length();
+        if (length > 0 && out.charAt(length - 1) == ' ') {
+            out.setLength(length - 1);
+        }
+        return out.toString();
+    }
+
+    // Stafford variant 13 of the SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
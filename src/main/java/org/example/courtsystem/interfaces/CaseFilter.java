@@ -5,4 +5,16 @@ import org.example.courtsystem.model.cases.Case;
 @FunctionalInterface
 public interface CaseFilter {
     boolean test(Case courtCase);
+
+    default CaseFilter and(CaseFilter other) {
+        return courtCase -> test(courtCase) && other.test(courtCase);
+    }
+
+    default CaseFilter or(CaseFilter other) {
+        return courtCase -> test(courtCase) || other.test(courtCase);
+    }
+
+    default CaseFilter negate() {
+        return courtCase -> !test(courtCase);
+    }
 }
@@ -1,7 +1,103 @@
 package org.example.courtsystem.interfaces;
 
 import org.example.courtsystem.model.cases.Case;
+import org.example.courtsystem.model.cases.CaseBatchResult;
+import org.example.courtsystem.model.cases.CaseProcessingResult;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public interface CaseProcessor {
     void processCase(Case courtCase);  // Does not declare an exception
-}
\ No newline at end of file
+
+    // Processes the case on the common pool
+    default CompletableFuture<Void> processCaseAsync(Case courtCase) {
+        return processCaseAsync(courtCase, ForkJoinPool.commonPool());
+    }
+
+    default CompletableFuture<Void> processCaseAsync(Case courtCase, Executor executor) {
+        return CompletableFuture.runAsync(() -> processCase(courtCase), executor);
+    }
+
+    // Processes all cases in parallel on the common pool and waits for them.
+    // A failing case does not stop the others; it is reported in the result.
+    // Cases are split into a few contiguous chunks per pool thread, each run by
+    // one task. If the executor rejects a chunk, chunks already running stop at
+    // the next case, the rest are cancelled and the rejection is rethrown.
+    default CaseBatchResult processCases(Collection<? extends Case> cases) {
+        return processCases(cases, ForkJoinPool.commonPool());
+    }
+
+    default CaseBatchResult processCases(Collection<? extends Case> cases, Executor executor) {
+        if (cases == null) {
+            throw new IllegalArgumentException("Cases cannot be null");
+        }
+        long start = System.nanoTime();
+        List<Case> items = new ArrayList<>(cases);
+        int chunkCount = chunkCount(items.size(), executor);
+        List<List<Case>> chunks = new ArrayList<>(chunkCount);
+        List<CompletableFuture<List<CaseProcessingResult>>> futures = new ArrayList<>(chunkCount);
+        AtomicBoolean abandoned = new AtomicBoolean();
+        for (int c = 0; c < chunkCount; c++) {
+            List<Case> chunk = items.subList(chunkBound(c, items.size(), chunkCount),
+                    chunkBound(c + 1, items.size(), chunkCount));
+            try {
+                futures.add(CompletableFuture.supplyAsync(() -> processChunk(chunk, abandoned), executor));
+            } catch (RejectedExecutionException e) {
+                abandoned.set(true);
+                futures.forEach(future -> future.cancel(false));
+                throw e;
+            }
+            chunks.add(chunk);
+        }
+
+        List<CaseProcessingResult> results = new ArrayList<>(items.size());
+        for (int c = 0; c < futures.size(); c++) {
+            try {
+                results.addAll(futures.get(c).join());
+            } catch (CompletionException e) {
+                // Only reached if the chunk task itself failed outside a case; the whole chunk is reported with it
+                for (Case courtCase : chunks.get(c)) {
+                    results.add(new CaseProcessingResult(courtCase, e.getCause(), 0));
+                }
+            }
+        }
+        return new CaseBatchResult(results, System.nanoTime() - start);
+    }
+
+    private List<CaseProcessingResult> processChunk(List<Case> chunk, AtomicBoolean abandoned) {
+        List<CaseProcessingResult> results = new ArrayList<>(chunk.size());
+        for (Case courtCase : chunk) {
+            if (abandoned.get()) {
+                break;
+            }
+            long caseStart = System.nanoTime();
+            try {
+                processCase(courtCase);
+                results.add(new CaseProcessingResult(courtCase, null, System.nanoTime() - caseStart));
+            } catch (RuntimeException | Error e) {
+                results.add(new CaseProcessingResult(courtCase, e, System.nanoTime() - caseStart));
+            }
+        }
+        return results;
+    }
+
+    // Start index of chunk c; long math so c * caseCount cannot overflow
+    private static int chunkBound(int c, int caseCount, int chunkCount) {
+        return (int) ((long) c * caseCount / chunkCount);
+    }
+
+    // A few chunks per thread, so one slow chunk does not leave the others idle
+    private static int chunkCount(int caseCount, Executor executor) {
+        int threads = executor instanceof ForkJoinPool pool
+                ? pool.getParallelism() : Runtime.getRuntime().availableProcessors();
+        return Math.min(caseCount, 4 * threads);
+    }
+}
@@ -0,0 +1,14 @@
+package org.example.courtsystem.interfaces;
+
+import org.example.courtsystem.exceptions.CourtException;
+import org.example.courtsystem.model.people.Witness;
+
+import java.util.List;
+
+// Examines one witness and returns the transcript lines.
+// Implementations may block (transcript retrieval, credibility checks) and
+// should stop promptly when interrupted.
+@FunctionalInterface
+public interface WitnessExaminer {
+    List<String> examine(Witness witness) throws CourtException;
+}
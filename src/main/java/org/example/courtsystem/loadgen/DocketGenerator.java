@@ -0,0 +1,131 @@
+package org.example.courtsystem.loadgen;
+
+import org.example.courtsystem.model.EvidenceType;
+import org.example.courtsystem.model.cases.ConcreteCase;
+import org.example.courtsystem.model.cases.Evidence;
+import org.example.courtsystem.model.people.Client;
+import org.example.courtsystem.model.people.Lawyer;
+import org.example.courtsystem.model.people.Witness;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+// Produces reproducible ConcreteCases following a DocketProfile.
+// People come from fixed pools: Witness ids are limited to 1000, and a real
+// docket sees the same lawyers and repeat clients anyway. Evidence descriptions
+// come from a small vocabulary so judges' evidence sets stay bounded.
+// Cases are assembled in memory with ConcreteCase.addEvidence/addWitness and
+// are not written to any write-ahead log; they are synthetic load.
+public class DocketGenerator {
+    // Judge.validateEvidence and Court reject descriptions containing this word
+    private static final String FORGERY_MARKER = "підробка";
+    private static final int CLIENTS = 1_000;
+    private static final int LAWYERS = 60;
+    private static final int WITNESSES = 100;
+    private static final int EXHIBITS_PER_TYPE = 25;
+
+    private final DocketProfile profile;
+    private final Random random;
+    private final EvidenceType[] types;
+    private final double[] cumulativeWeights;
+    private final List<Client> clients = new ArrayList<>();
+    private final List<Lawyer> seniorLawyers = new ArrayList<>();
+    private final List<Lawyer> allLawyers = new ArrayList<>();
+    private final List<Witness> witnesses = new ArrayList<>();
+    private long sequence;
+
+    public DocketGenerator(DocketProfile profile, long seed) {
+        this.profile = profile;
+        this.random = new Random(seed);
+
+        Map<EvidenceType, Double> mix = profile.evidenceMix();
+        types = mix.keySet().toArray(new EvidenceType[0]);
+        // Fixed order so a seed always produces the same docket
+        Arrays.sort(types);
+        cumulativeWeights = new double[types.length];
+        double total = 0;
+        for (int i = 0; i < types.length; i++) {
+            total += mix.get(types[i]);
+            cumulativeWeights[i] = total;
+        }
+        for (int i = 0; i < types.length; i++) {
+            cumulativeWeights[i] /= total;
+        }
+
+        for (int i = 0; i < CLIENTS; i++) {
+            clients.add(new Client("Client " + i));
+        }
+        for (int i = 0; i < LAWYERS; i++) {
+            Lawyer lawyer = new Lawyer("Counsel " + i, random.nextInt(20), 1 + random.nextInt(30));
+            allLawyers.add(lawyer);
+            if (lawyer.canHandleComplexCases()) {
+                seniorLawyers.add(lawyer);
+            }
+        }
+        for (int i = 0; i < WITNESSES; i++) {
+            witnesses.add(new Witness("Witness " + i));
+        }
+    }
+
+    public ConcreteCase nextCase() {
+        long id = sequence++;
+        boolean complex = random.nextDouble() < profile.complexRate();
+        List<Lawyer> eligible = complex && !seniorLawyers.isEmpty() ? seniorLawyers : allLawyers;
+        ConcreteCase courtCase = new ConcreteCase("Docket " + id,
+                clients.get(random.nextInt(clients.size())),
+                eligible.get(random.nextInt(eligible.size())));
+        courtCase.setComplex(complex);
+
+        int evidenceCount = Math.max(1, Math.min(profile.maxEvidence(), poisson(profile.meanEvidence())));
+        boolean forged = random.nextDouble() < profile.forgedRate();
+        int forgedIndex = forged ? random.nextInt(evidenceCount) : -1;
+        for (int i = 0; i < evidenceCount; i++) {
+            EvidenceType type = nextType();
+            String description = type.getDescription() + " #" + random.nextInt(EXHIBITS_PER_TYPE);
+            if (i == forgedIndex) {
+                description = description + " (" + FORGERY_MARKER + ")";
+            }
+            courtCase.addEvidence(new Evidence(description, type));
+        }
+
+        int witnessCount = profile.minWitnesses()
+                + random.nextInt(profile.maxWitnesses() - profile.minWitnesses() + 1);
+        for (int i = 0; i < witnessCount; i++) {
+            courtCase.addWitness(witnesses.get(random.nextInt(witnesses.size())));
+        }
+        return courtCase;
+    }
+
+    public List<ConcreteCase> nextCases(int count) {
+        List<ConcreteCase> cases = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            cases.add(nextCase());
+        }
+        return cases;
+    }
+
+    private EvidenceType nextType() {
+        double draw = random.nextDouble();
+        for (int i = 0; i < types.length; i++) {
+            if (draw < cumulativeWeights[i]) {
+                return types[i];
+            }
+        }
+        return types[types.length - 1];
+    }
+
+    // Knuth's method; fine for the small means used by dockets
+    private int poisson(double mean) {
+        double limit = Math.exp(-mean);
+        double product = random.nextDouble();
+        int count = 0;
+        while (product > limit) {
+            product *= random.nextDouble();
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,142 @@
+package org.example.courtsystem.loadgen;
+
+import org.example.courtsystem.exceptions.CourtException;
+import org.example.courtsystem.exceptions.DocumentProcessingException;
+import org.example.courtsystem.model.CourtType;
+import org.example.courtsystem.model.cases.ConcreteCase;
+import org.example.courtsystem.model.court.Court;
+import org.example.courtsystem.model.court.TrialMode;
+import org.example.courtsystem.model.documents.Verdict;
+import org.example.courtsystem.model.people.Judge;
+import org.example.courtsystem.model.services.LegalSecretary;
+import org.example.courtsystem.threads.DocketScheduler;
+import org.example.courtsystem.threads.NotarizationWorkerPool;
+import org.example.courtsystem.util.LatencyHistogram;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+// Drives a synthetic docket end to end at a fixed arrival rate: each case is
+// tried by a Court (and its Judge) through the DocketScheduler, and every
+// verdict is drafted by a LegalSecretary whose queue is drained by notarization
+// workers. Drafting runs on its own thread, so a full secretary queue holds up
+// drafts rather than the court workers. Arrivals follow a precomputed schedule that never waits for earlier
+// cases to finish (open loop), and latency is taken from the scheduled arrival
+// time, so a stalled court shows up in the histogram instead of silently
+// slowing the generator down.
+public class DocketLoadGenerator {
+    private static final Logger logger = LogManager.getLogger(DocketLoadGenerator.class);
+    // How long outstanding cases may take once the last one has arrived
+    private static final long COMPLETION_TIMEOUT_SECONDS = 60;
+
+    private final DocketProfile profile;
+    private final int courtCount;
+    private final double targetRate;
+    private final long seed;
+
+    public DocketLoadGenerator(DocketProfile profile, int courtCount, double targetRate, long seed) {
+        if (courtCount < 1 || targetRate <= 0) {
+            throw new IllegalArgumentException("Court count and target rate must be positive");
+        }
+        this.profile = profile;
+        this.courtCount = courtCount;
+        this.targetRate = targetRate;
+        this.seed = seed;
+    }
+
+    public LoadReport run(int caseCount) throws CourtException, InterruptedException {
+        // Cases are built up front so generation cost does not skew the arrival schedule
+        List<ConcreteCase> docket = new DocketGenerator(profile, seed).nextCases(caseCount);
+
+        DocketScheduler scheduler = new DocketScheduler();
+        for (int i = 0; i < courtCount; i++) {
+            Court court = new Court("Load Court " + i, new Judge("Load Judge " + i, 10 + i));
+            court.setTrialMode(TrialMode.HEADLESS);
+            scheduler.registerCourt(court, CourtType.DISTRICT);
+        }
+        LegalSecretary secretary = new LegalSecretary();
+        NotarizationWorkerPool notaries = new NotarizationWorkerPool(secretary, 2, 64);
+
+        LatencyHistogram timeToVerdict = new LatencyHistogram();
+        LatencyHistogram serviceTime = new LatencyHistogram();
+        LatencyHistogram timeToDismissal = new LatencyHistogram();
+        LongAdder verdicts = new LongAdder();
+        LongAdder dismissed = new LongAdder();
+        CountDownLatch finished = new CountDownLatch(caseCount);
+        ExecutorService drafting = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "docket-drafting");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        scheduler.start();
+        notaries.start();
+        long intervalNanos = (long) (1_000_000_000.0 / targetRate);
+        long start = System.nanoTime();
+        for (int i = 0; i < caseCount; i++) {
+            long scheduled = start + i * intervalNanos;
+            long wait;
+            while ((wait = scheduled - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            ConcreteCase courtCase = docket.get(i);
+            long submitted = System.nanoTime();
+            scheduler.submit(courtCase, CourtType.DISTRICT).whenComplete((verdict, error) -> {
+                try {
+                    long now = System.nanoTime();
+                    if (error == null) {
+                        timeToVerdict.record(now - scheduled);
+                        serviceTime.record(now - submitted);
+                        verdicts.increment();
+                        drafting.execute(() -> draftVerdict(secretary, courtCase, verdict));
+                    } else {
+                        timeToDismissal.record(now - scheduled);
+                        dismissed.increment();
+                    }
+                } catch (RuntimeException e) {
+                    logger.error("Could not record outcome for {}", courtCase.getTitle(), e);
+                } finally {
+                    finished.countDown();
+                }
+            });
+        }
+        long offeredNanos = System.nanoTime() - start;
+        boolean completed = finished.await(COMPLETION_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        long elapsed = System.nanoTime() - start;
+
+        scheduler.shutdown(10, TimeUnit.SECONDS);
+        // Drafts still pending go into the queue before the notaries stop
+        drafting.shutdown();
+        if (!drafting.awaitTermination(10, TimeUnit.SECONDS)) {
+            logger.warn("Verdict drafting did not finish within 10s");
+            drafting.shutdownNow();
+        }
+        notaries.shutdown(10, TimeUnit.SECONDS);
+        if (!completed) {
+            throw new CourtException(finished.getCount() + " of " + caseCount + " cases did not finish within "
+                    + COMPLETION_TIMEOUT_SECONDS + "s of the last arrival");
+        }
+
+        LoadReport report = new LoadReport(caseCount, verdicts.sum(), dismissed.sum(), targetRate,
+                caseCount * 1_000_000_000.0 / Math.max(1, offeredNanos),
+                caseCount * 1_000_000_000.0 / elapsed, elapsed,
+                timeToVerdict.snapshot(), serviceTime.snapshot(), timeToDismissal.snapshot());
+        logger.info("Docket load run finished: {}", report);
+        return report;
+    }
+
+    private static void draftVerdict(LegalSecretary secretary, ConcreteCase courtCase, Verdict verdict) {
+        try {
+            secretary.draftDocument("Verdict for " + courtCase.getTitle(), verdict.getTitle());
+        } catch (DocumentProcessingException e) {
+            logger.error("Could not draft verdict for {}: {}", courtCase.getTitle(), e.getMessage());
+        }
+    }
+}
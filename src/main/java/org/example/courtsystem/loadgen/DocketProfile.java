@@ -0,0 +1,61 @@
+package org.example.courtsystem.loadgen;
+
+import org.example.courtsystem.model.EvidenceType;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+// Shape of a synthetic docket: how much evidence and which kinds, how many
+// witnesses, and how often cases are complex or carry forged evidence.
+// Evidence counts are Poisson-distributed around meanEvidence, clamped to
+// [1, maxEvidence]; witness counts are uniform in [minWitnesses, maxWitnesses].
+public record DocketProfile(double meanEvidence,
+                            int maxEvidence,
+                            Map<EvidenceType, Double> evidenceMix,
+                            int minWitnesses,
+                            int maxWitnesses,
+                            double complexRate,
+                            double forgedRate) {
+
+    public DocketProfile {
+        if (meanEvidence <= 0 || maxEvidence < 1) {
+            throw new IllegalArgumentException("Evidence mean and maximum must be positive");
+        }
+        if (minWitnesses < 0 || maxWitnesses < minWitnesses) {
+            throw new IllegalArgumentException("Invalid witness range");
+        }
+        if (complexRate < 0 || complexRate > 1 || forgedRate < 0 || forgedRate > 1) {
+            throw new IllegalArgumentException("Rates must be between 0 and 1");
+        }
+        if (evidenceMix == null || evidenceMix.isEmpty()) {
+            throw new IllegalArgumentException("Evidence mix cannot be empty");
+        }
+        evidenceMix = Map.copyOf(evidenceMix);
+    }
+
+    // Roughly the mix of the demo cases in Main, at realistic volume
+    public static DocketProfile standard() {
+        Map<EvidenceType, Double> mix = new EnumMap<>(EvidenceType.class);
+        mix.put(EvidenceType.DOCUMENT, 0.45);
+        mix.put(EvidenceType.DIGITAL, 0.30);
+        mix.put(EvidenceType.PHYSICAL, 0.10);
+        mix.put(EvidenceType.WITNESS_STATEMENT, 0.15);
+        return new DocketProfile(4.0, 40, mix, 0, 4, 0.25, 0.01);
+    }
+
+    public DocketProfile withForgedRate(double rate) {
+        return new DocketProfile(meanEvidence, maxEvidence, evidenceMix, minWitnesses, maxWitnesses, complexRate, rate);
+    }
+
+    public DocketProfile withComplexRate(double rate) {
+        return new DocketProfile(meanEvidence, maxEvidence, evidenceMix, minWitnesses, maxWitnesses, rate, forgedRate);
+    }
+
+    public DocketProfile withEvidence(double mean, int max) {
+        return new DocketProfile(mean, max, evidenceMix, minWitnesses, maxWitnesses, complexRate, forgedRate);
+    }
+
+    public DocketProfile withWitnesses(int min, int max) {
+        return new DocketProfile(meanEvidence, maxEvidence, evidenceMix, min, max, complexRate, forgedRate);
+    }
+}
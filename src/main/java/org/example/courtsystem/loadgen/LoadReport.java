@@ -0,0 +1,32 @@
+package org.example.courtsystem.loadgen;
+
+import org.example.courtsystem.util.LatencyHistogram;
+
+// Outcome of one DocketLoadGenerator run.
+// timeToVerdict is measured from each case's scheduled arrival, so queueing
+// behind a slow trial is counted; serviceTime starts when the case was
+// actually handed to the scheduler and shows what a closed-loop test would report.
+// Both cover verdicts only; dismissed cases are timed from their scheduled
+// arrival in timeToDismissal.
+public record LoadReport(int cases,
+                         long verdicts,
+                         long dismissed,
+                         double targetRate,
+                         double offeredRate,
+                         double throughput,
+                         long elapsedNanos,
+                         LatencyHistogram.Snapshot timeToVerdict,
+                         LatencyHistogram.Snapshot serviceTime,
+                         LatencyHistogram.Snapshot timeToDismissal) {
+
+    @Override
+    public String toString() {
+        return String.format("cases=%d verdicts=%d dismissed=%d target=%.0f/s offered=%.0f/s throughput=%.0f/s elapsed=%.0f ms%n"
+                        + "  time-to-verdict: %s%n"
+                        + "  service time:    %s%n"
+                        + "  time-to-dismiss: %s",
+                cases, verdicts, dismissed, targetRate, offeredRate, throughput, elapsedNanos / 1e6,
+                timeToVerdict.format(1e6, "ms"), serviceTime.format(1e6, "ms"),
+                timeToDismissal.format(1e6, "ms"));
+    }
+}
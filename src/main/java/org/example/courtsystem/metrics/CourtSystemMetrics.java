@@ -0,0 +1,276 @@
+package org.example.courtsystem.metrics;
+
+import org.example.courtsystem.model.court.Court;
+import org.example.courtsystem.model.court.TrialPhase;
+import org.example.courtsystem.model.court.TrialStatistics;
+import org.example.courtsystem.util.LatencyHistogram;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// Publishes court trial metrics as platform MBeans so they can be read with
+// JConsole, jcmd or any local JMX scraper. Courts are opted in with publish();
+// the MBeans read the court's TrialStatistics on demand, so publishing adds
+// nothing to the trial path. Process-wide totals, appeals included, are sums
+// over the published courts, so recording an appeal never touches JMX.
+// Phase latency MBeans take at most one histogram snapshot per second and
+// answer every attribute of a read from it.
+public final class CourtSystemMetrics implements CourtSystemMetricsMXBean {
+    private static final Logger logger = LogManager.getLogger(CourtSystemMetrics.class);
+    private static final String DOMAIN = "org.example.courtsystem";
+    private static final CourtSystemMetrics INSTANCE = new CourtSystemMetrics();
+
+    private final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    private final Map<Court, List<ObjectName>> published = new ConcurrentHashMap<>();
+
+    private CourtSystemMetrics() {
+        try {
+            server.registerMBean(this, new ObjectName(DOMAIN + ":type=CourtSystem"));
+        } catch (JMException e) {
+            logger.warn("Could not register court system MBean: {}", e.getMessage());
+        }
+    }
+
+    public static CourtSystemMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    // Registers the court's MBeans; courts sharing a name get a numeric suffix
+    public synchronized ObjectName publish(Court court) {
+        List<ObjectName> existing = published.get(court);
+        if (existing != null) {
+            return existing.get(0);
+        }
+        for (int attempt = 0; ; attempt++) {
+            String name = attempt == 0 ? court.getName() : court.getName() + " #" + (attempt + 1);
+            try {
+                List<ObjectName> names = register(court, ObjectName.quote(name));
+                published.put(court, names);
+                logger.info("Published metrics for court {} as {}", court.getName(), names.get(0));
+                return names.get(0);
+            } catch (InstanceAlreadyExistsException e) {
+                // Try the next suffix
+            } catch (JMException e) {
+                throw new IllegalStateException("Could not publish metrics for " + court.getName(), e);
+            }
+        }
+    }
+
+    public synchronized void unpublish(Court court) {
+        List<ObjectName> names = published.remove(court);
+        if (names == null) {
+            return;
+        }
+        for (ObjectName name : names) {
+            try {
+                server.unregisterMBean(name);
+            } catch (JMException e) {
+                logger.warn("Could not unregister {}: {}", name, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public int getPublishedCourts() {
+        return published.size();
+    }
+
+    @Override
+    public long getTrials() {
+        long total = 0;
+        for (Court court : published.keySet()) {
+            total += court.getStatistics().getTrialCount();
+        }
+        return total;
+    }
+
+    @Override
+    public long getFailedTrials() {
+        long total = 0;
+        for (Court court : published.keySet()) {
+            total += court.getStatistics().getFailedTrialCount();
+        }
+        return total;
+    }
+
+    @Override
+    public long getAppealsFiled() {
+        long total = 0;
+        for (Court court : published.keySet()) {
+            total += court.getStatistics().getAppealsFiled();
+        }
+        return total;
+    }
+
+    @Override
+    public long getAppealsRejected() {
+        long total = 0;
+        for (Court court : published.keySet()) {
+            total += court.getStatistics().getAppealsRejected();
+        }
+        return total;
+    }
+
+    private List<ObjectName> register(Court court, String quotedName) throws JMException {
+        List<ObjectName> names = new ArrayList<>();
+        ObjectName courtName = new ObjectName(DOMAIN + ":type=Court,name=" + quotedName);
+        server.registerMBean(new CourtTrialMetrics(court), courtName);
+        names.add(courtName);
+        try {
+            for (TrialPhase phase : TrialPhase.values()) {
+                ObjectName phaseName = new ObjectName(DOMAIN + ":type=Court,name=" + quotedName + ",phase=" + phase);
+                server.registerMBean(new PhaseMetrics(court.getStatistics(), phase), phaseName);
+                names.add(phaseName);
+            }
+        } catch (JMException e) {
+            for (ObjectName name : names) {
+                server.unregisterMBean(name);
+            }
+            throw e;
+        }
+        return names;
+    }
+
+    private static final class CourtTrialMetrics implements TrialMetricsMXBean {
+        private final Court court;
+
+        CourtTrialMetrics(Court court) {
+            this.court = court;
+        }
+
+        @Override
+        public String getCourtName() {
+            return court.getName();
+        }
+
+        @Override
+        public String getTrialMode() {
+            return court.getTrialMode().name();
+        }
+
+        @Override
+        public long getTrials() {
+            return court.getStatistics().getTrialCount();
+        }
+
+        @Override
+        public long getFailedTrials() {
+            return court.getStatistics().getFailedTrialCount();
+        }
+
+        @Override
+        public long getGuiltyVerdicts() {
+            return court.getStatistics().getGuiltyCount();
+        }
+
+        @Override
+        public long getNotGuiltyVerdicts() {
+            return court.getStatistics().getNotGuiltyCount();
+        }
+
+        @Override
+        public long getEvidenceAccepted() {
+            return court.getStatistics().getEvidenceAccepted();
+        }
+
+        @Override
+        public long getEvidenceRejected() {
+            return court.getStatistics().getEvidenceRejected();
+        }
+
+        @Override
+        public long getWitnessesExamined() {
+            return court.getStatistics().getWitnessesExamined();
+        }
+
+        @Override
+        public long getAppealsFiled() {
+            return court.getStatistics().getAppealsFiled();
+        }
+
+        @Override
+        public long getAppealsRejected() {
+            return court.getStatistics().getAppealsRejected();
+        }
+    }
+
+    private static final class PhaseMetrics implements TrialPhaseMetricsMXBean {
+        // A JMX client reads the attributes one getter at a time; a snapshot this
+        // recent is reused so one read costs one snapshot and its percentiles agree
+        private static final long SNAPSHOT_REUSE_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+        private final TrialStatistics statistics;
+        private final TrialPhase phase;
+        private LatencyHistogram.Snapshot snapshot;
+        private long snapshotTakenAt;
+
+        PhaseMetrics(TrialStatistics statistics, TrialPhase phase) {
+            this.statistics = statistics;
+            this.phase = phase;
+        }
+
+        private synchronized LatencyHistogram.Snapshot snapshot() {
+            long now = System.nanoTime();
+            if (snapshot == null || now - snapshotTakenAt > SNAPSHOT_REUSE_NANOS) {
+                snapshot = statistics.getPhaseLatency(phase);
+                snapshotTakenAt = now;
+            }
+            return snapshot;
+        }
+
+        @Override
+        public String getPhase() {
+            return phase.name();
+        }
+
+        @Override
+        public long getCount() {
+            return snapshot().count();
+        }
+
+        @Override
+        public double getTotalMillis() {
+            return statistics.getPhaseNanos(phase) / 1e6;
+        }
+
+        @Override
+        public double getMeanMicros() {
+            return snapshot().mean() / 1e3;
+        }
+
+        @Override
+        public double getP50Micros() {
+            return snapshot().p50() / 1e3;
+        }
+
+        @Override
+        public double getP90Micros() {
+            return snapshot().p90() / 1e3;
+        }
+
+        @Override
+        public double getP99Micros() {
+            return snapshot().p99() / 1e3;
+        }
+
+        @Override
+        public double getP999Micros() {
+            return snapshot().p999() / 1e3;
+        }
+
+        @Override
+        public double getMaxMicros() {
+            return snapshot().max() / 1e3;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package org.example.courtsystem.metrics;
+
+// Process-wide totals, published as org.example.courtsystem:type=CourtSystem
+public interface CourtSystemMetricsMXBean {
+    int getPublishedCourts();
+
+    long getTrials();
+
+    long getFailedTrials();
+
+    long getAppealsFiled();
+
+    long getAppealsRejected();
+}
@@ -0,0 +1,26 @@
+package org.example.courtsystem.metrics;
+
+// Per-court trial counters, published as org.example.courtsystem:type=Court,name=<court>
+public interface TrialMetricsMXBean {
+    String getCourtName();
+
+    String getTrialMode();
+
+    long getTrials();
+
+    long getFailedTrials();
+
+    long getGuiltyVerdicts();
+
+    long getNotGuiltyVerdicts();
+
+    long getEvidenceAccepted();
+
+    long getEvidenceRejected();
+
+    long getWitnessesExamined();
+
+    long getAppealsFiled();
+
+    long getAppealsRejected();
+}
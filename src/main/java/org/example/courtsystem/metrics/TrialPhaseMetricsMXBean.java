@@ -0,0 +1,23 @@
+package org.example.courtsystem.metrics;
+
+// Timing of one trial phase in one court, published as
+// org.example.courtsystem:type=Court,name=<court>,phase=<PHASE>. Times are in microseconds.
+public interface TrialPhaseMetricsMXBean {
+    String getPhase();
+
+    long getCount();
+
+    double getTotalMillis();
+
+    double getMeanMicros();
+
+    double getP50Micros();
+
+    double getP90Micros();
+
+    double getP99Micros();
+
+    double getP999Micros();
+
+    double getMaxMicros();
+}
@@ -0,0 +1,45 @@
+package org.example.courtsystem.metrics.events;
+
+import org.apache.commons.lang3.StringUtils;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// One DocumentAnalyzer run over a classpath resource
+@Name("org.example.courtsystem.DocumentAnalysis")
+@Label("Document Analysis")
+@Category({"Court System", "Documents"})
+@Description("Keyword analysis of a document resource")
+@StackTrace(false)
+public class DocumentAnalysisEvent extends Event {
+    @Label("Resource")
+    String resource;
+
+    @Label("Characters")
+    int characters;
+
+    @Label("Total Words")
+    int totalWords;
+
+    @Label("Outcome")
+    String outcome;
+
+    // Content may be null when the resource could not be read
+    public void complete(String resource, String content, String outcome) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.resource = resource;
+        if (content != null) {
+            this.characters = content.length();
+            this.totalWords = StringUtils.countMatches(content, " ") + 1;
+        }
+        this.outcome = outcome;
+        commit();
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.courtsystem.metrics.events;
+
+import org.example.courtsystem.model.cases.Evidence;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// One evidence item checked by a judge or by the court's pre-trial review.
+// Validators have no case context, so the event is tied to its trial by thread
+// and time: it nests inside the trial and evidence phase events.
+@Name("org.example.courtsystem.EvidenceValidation")
+@Label("Evidence Validation")
+@Category({"Court System", "Evidence"})
+@Description("Validation of a single evidence item")
+@StackTrace(false)
+public class EvidenceValidationEvent extends Event {
+    public static final String ACCEPTED = "ACCEPTED";
+    public static final String REJECTED = "REJECTED";
+    public static final String INVALID = "INVALID";
+
+    @Label("Validator")
+    String validator;
+
+    @Label("Description")
+    String description;
+
+    @Label("Evidence Type")
+    String evidenceType;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Reason")
+    String reason;
+
+    public void complete(String validator, Evidence evidence, String outcome, String reason) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.validator = validator;
+        if (evidence != null) {
+            this.description = evidence.description();
+            this.evidenceType = evidence.type().name();
+        }
+        this.outcome = outcome;
+        this.reason = reason;
+        commit();
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.courtsystem.metrics.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// Notarization of a single document or of a Merkle-sealed batch
+@Name("org.example.courtsystem.Notarization")
+@Label("Notarization")
+@Category({"Court System", "Documents"})
+@Description("A legal secretary applying the notary seal")
+@StackTrace(false)
+public class NotarizationEvent extends Event {
+    @Label("Document Title")
+    @Description("Title of the document, or of the first document in a batch")
+    String documentTitle;
+
+    @Label("Document Count")
+    int documentCount;
+
+    @Label("Outcome")
+    String outcome;
+
+    public void complete(String documentTitle, int documentCount, String outcome) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.documentTitle = documentTitle;
+        this.documentCount = documentCount;
+        this.outcome = outcome;
+        commit();
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.courtsystem.metrics.events;
+
+import org.example.courtsystem.model.cases.ConcreteCase;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// One whole trial, from Court.startTrial to the verdict or the failure that stopped it.
+// The trial id is shared with the phase events so a slow trial can be broken down,
+// and validation events nest inside it on the same thread.
+@Name("org.example.courtsystem.Trial")
+@Label("Trial")
+@Category({"Court System", "Trials"})
+@Description("A trial from opening statements to verdict")
+@StackTrace(false)
+public class TrialEvent extends Event {
+    @Label("Trial Id")
+    long trialId;
+
+    @Label("Court")
+    String court;
+
+    @Label("Case Title")
+    String caseTitle;
+
+    @Label("Evidence Count")
+    int evidenceCount;
+
+    @Label("Witness Count")
+    int witnessCount;
+
+    @Label("Complex")
+    boolean complex;
+
+    @Label("Outcome")
+    @Description("Verdict result, or FAILED when the trial was aborted")
+    String outcome;
+
+    // Ends the event and commits it if a recording wants it; fields are only
+    // filled in when it does
+    public void complete(long trialId, String court, ConcreteCase courtCase, String outcome) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.trialId = trialId;
+        this.court = court;
+        this.caseTitle = courtCase.getTitle();
+        this.evidenceCount = courtCase.getEvidenceCount();
+        this.witnessCount = courtCase.getWitnesses().size();
+        this.complex = courtCase.isComplex();
+        this.outcome = outcome;
+        commit();
+    }
+}
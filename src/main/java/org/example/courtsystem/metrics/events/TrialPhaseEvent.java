@@ -0,0 +1,48 @@
+package org.example.courtsystem.metrics.events;
+
+import org.example.courtsystem.model.cases.ConcreteCase;
+import org.example.courtsystem.model.court.TrialPhase;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// One phase of a trial (opening, witness, evidence, closing, verdict)
+@Name("org.example.courtsystem.TrialPhase")
+@Label("Trial Phase")
+@Category({"Court System", "Trials"})
+@Description("A single phase of a trial")
+@StackTrace(false)
+public class TrialPhaseEvent extends Event {
+    @Label("Trial Id")
+    long trialId;
+
+    @Label("Case Title")
+    String caseTitle;
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Evidence Count")
+    int evidenceCount;
+
+    @Label("Outcome")
+    @Description("COMPLETED, FAILED when the phase threw, or the verdict for the verdict phase")
+    String outcome;
+
+    public void complete(long trialId, ConcreteCase courtCase, TrialPhase phase, String outcome) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.trialId = trialId;
+        this.caseTitle = courtCase.getTitle();
+        this.phase = phase.name();
+        this.evidenceCount = courtCase.getEvidenceCount();
+        this.outcome = outcome;
+        commit();
+    }
+}
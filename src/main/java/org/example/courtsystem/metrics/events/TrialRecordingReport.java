@@ -0,0 +1,84 @@
+package org.example.courtsystem.metrics.events;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+// Reads a JFR recording and lists the slowest trials with their phases and the
+// evidence validations that ran inside them. Validations are matched to a trial
+// by thread and time, since validators do not know which case they belong to.
+// Usage: TrialRecordingReport <recording.jfr> [trials]
+public class TrialRecordingReport {
+    private static final String TRIAL = "org.example.courtsystem.Trial";
+    private static final String PHASE = "org.example.courtsystem.TrialPhase";
+    private static final String VALIDATION = "org.example.courtsystem.EvidenceValidation";
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: TrialRecordingReport <recording.jfr> [trials]");
+            System.exit(1);
+        }
+        int top = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        report(Path.of(args[0]), top);
+    }
+
+    public static void report(Path recording, int top) throws IOException {
+        List<RecordedEvent> trials = new ArrayList<>();
+        List<RecordedEvent> phases = new ArrayList<>();
+        List<RecordedEvent> validations = new ArrayList<>();
+        for (RecordedEvent event : RecordingFile.readAllEvents(recording)) {
+            switch (event.getEventType().getName()) {
+                case TRIAL -> trials.add(event);
+                case PHASE -> phases.add(event);
+                case VALIDATION -> validations.add(event);
+                default -> { }
+            }
+        }
+        System.out.printf("%d trials, %d phases, %d evidence validations in %s%n",
+                trials.size(), phases.size(), validations.size(), recording);
+
+        trials.sort(Comparator.comparing((RecordedEvent e) -> e.getDuration()).reversed());
+        for (RecordedEvent trial : trials.subList(0, Math.min(top, trials.size()))) {
+            long trialId = trial.getLong("trialId");
+            System.out.printf("%nTrial %d '%s' at %s: %s, %d evidence, %d witnesses, %s%n",
+                    trialId, trial.getString("caseTitle"), trial.getString("court"),
+                    format(trial.getDuration()), trial.getInt("evidenceCount"),
+                    trial.getInt("witnessCount"), trial.getString("outcome"));
+            for (RecordedEvent phase : phases) {
+                if (phase.getLong("trialId") == trialId) {
+                    System.out.printf("  %-8s %10s  %s%n", phase.getString("phase"),
+                            format(phase.getDuration()), phase.getString("outcome"));
+                }
+            }
+            for (RecordedEvent validation : validations) {
+                if (within(validation, trial)) {
+                    System.out.printf("    %-5s %10s  %-8s %-17s %s%s%n", validation.getString("validator"),
+                            format(validation.getDuration()), validation.getString("outcome"),
+                            validation.getString("evidenceType"), validation.getString("description"),
+                            validation.getString("reason") != null ? " (" + validation.getString("reason") + ")" : "");
+                }
+            }
+        }
+    }
+
+    private static boolean within(RecordedEvent inner, RecordedEvent outer) {
+        return sameThread(inner.getThread(), outer.getThread())
+                && !inner.getStartTime().isBefore(outer.getStartTime())
+                && !inner.getEndTime().isAfter(outer.getEndTime());
+    }
+
+    private static boolean sameThread(RecordedThread a, RecordedThread b) {
+        return a != null && b != null && a.getJavaThreadId() == b.getJavaThreadId();
+    }
+
+    private static String format(Duration duration) {
+        return String.format("%.3f ms", duration.toNanos() / 1_000_000.0);
+    }
+}
@@ -15,4 +15,19 @@ public enum CaseStatus {
     public String getDescription() {
         return description;
     }
+
+    // Allowed moves: a case is tried, closed, and may be appealed and retried.
+    // OPEN -> CLOSED covers cases dismissed before trial. A failed trial is
+    // rolled back through Case.TrialClaim, not through these transitions.
+    public boolean canTransitionTo(CaseStatus next) {
+        if (next == null) {
+            return false;
+        }
+        return switch (this) {
+            case OPEN -> next == IN_PROGRESS || next == CLOSED;
+            case IN_PROGRESS -> next == CLOSED;
+            case CLOSED -> next == APPEALED;
+            case APPEALED -> next == IN_PROGRESS || next == CLOSED;
+        };
+    }
 }
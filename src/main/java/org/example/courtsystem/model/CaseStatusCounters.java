@@ -0,0 +1,54 @@
+package org.example.courtsystem.model;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+// Singleton holding live case counts per CaseStatus.
+// Each count is a LongAdder, which stripes updates across cells so threads
+// moving cases concurrently do not contend on one counter. Reads sum a fixed
+// number of cells and need no lock; a read racing with a transition may be
+// off by one for that moment.
+public class CaseStatusCounters {
+    private static volatile CaseStatusCounters instance;
+    private final LongAdder[] counters = new LongAdder[CaseStatus.values().length];
+
+    private CaseStatusCounters() {
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new LongAdder();
+        }
+    }
+
+    public static CaseStatusCounters getInstance() {
+        if (instance == null) {
+            synchronized (CaseStatusCounters.class) {
+                if (instance == null) {
+                    instance = new CaseStatusCounters();
+                }
+            }
+        }
+        return instance;
+    }
+
+    // Records a newly created case in its initial status
+    public void recordCreated(CaseStatus status) {
+        counters[status.ordinal()].increment();
+    }
+
+    public void recordTransition(CaseStatus from, CaseStatus to) {
+        counters[to.ordinal()].increment();
+        counters[from.ordinal()].decrement();
+    }
+
+    public long count(CaseStatus status) {
+        return counters[status.ordinal()].sum();
+    }
+
+    public Map<CaseStatus, Long> snapshot() {
+        Map<CaseStatus, Long> snapshot = new EnumMap<>(CaseStatus.class);
+        for (CaseStatus status : CaseStatus.values()) {
+            snapshot.put(status, count(status));
+        }
+        return snapshot;
+    }
+}
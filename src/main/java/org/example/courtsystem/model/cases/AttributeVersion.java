@@ -0,0 +1,19 @@
+package org.example.courtsystem.model.cases;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Change counter for a group of cases, e.g. the cases one CaseQueryEngine has
+// indexed. Every ConcreteCase tracked by it bumps the counter when its lawyer or
+// complexity changes, so the owner can tell its indexes are stale without
+// scanning its cases, and changes to other cases leave it alone.
+public final class AttributeVersion {
+    private final AtomicLong version = new AtomicLong();
+
+    public long get() {
+        return version.get();
+    }
+
+    void increment() {
+        version.incrementAndGet();
+    }
+}
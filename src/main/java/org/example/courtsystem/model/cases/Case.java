@@ -1,16 +1,97 @@
 package org.example.courtsystem.model.cases;
 
+import org.example.courtsystem.model.CaseStatus;
+import org.example.courtsystem.model.CaseStatusCounters;
+
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
 // Abstract Case: base class for legal proceedings
 public abstract class Case {
+    private static final AtomicReferenceFieldUpdater<Case, CaseStatus> STATUS =
+            AtomicReferenceFieldUpdater.newUpdater(Case.class, CaseStatus.class, "status");
+
     protected String title;
+    // Changed only through CAS so transitions never need a lock
+    private volatile CaseStatus status;
 
     public Case(String title) {
         this.title = title;
+        this.status = CaseStatus.OPEN;
+        CaseStatusCounters.getInstance().recordCreated(CaseStatus.OPEN);
     }
 
     public String getTitle() {
         return title;
     }
 
+    public CaseStatus getStatus() {
+        return status;
+    }
+
+    // Moves from expected to next in a single CAS.
+    // Returns false if the status has changed meanwhile or the move is not allowed.
+    public boolean compareAndSetStatus(CaseStatus expected, CaseStatus next) {
+        if (expected == null || !expected.canTransitionTo(next)) {
+            return false;
+        }
+        if (STATUS.compareAndSet(this, expected, next)) {
+            CaseStatusCounters.getInstance().recordTransition(expected, next);
+            return true;
+        }
+        return false;
+    }
+
+    // Moves to next from the current status, retrying if another thread got there first.
+    // Returns false if next is not reachable from the current status.
+    public boolean transitionTo(CaseStatus next) {
+        while (true) {
+            CaseStatus current = status;
+            if (!current.canTransitionTo(next)) {
+                return false;
+            }
+            if (compareAndSetStatus(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    // Moves the case to IN_PROGRESS for a trial. Returns null if it cannot be
+    // tried from its current status. The claim is the only way to undo the move.
+    public TrialClaim claimForTrial() {
+        while (true) {
+            CaseStatus current = status;
+            if (!current.canTransitionTo(CaseStatus.IN_PROGRESS)) {
+                return null;
+            }
+            if (compareAndSetStatus(current, CaseStatus.IN_PROGRESS)) {
+                return new TrialClaim(current);
+            }
+        }
+    }
+
+    // Held by whoever started the trial. IN_PROGRESS -> OPEN/APPEALED is not a
+    // regular transition, so rolling back is only possible through this object.
+    public final class TrialClaim {
+        private final CaseStatus previous;
+
+        private TrialClaim(CaseStatus previous) {
+            this.previous = previous;
+        }
+
+        public CaseStatus previous() {
+            return previous;
+        }
+
+        // Returns the case to the status it had before the trial.
+        // Returns false if the case is no longer IN_PROGRESS.
+        public boolean rollBack() {
+            if (STATUS.compareAndSet(Case.this, CaseStatus.IN_PROGRESS, previous)) {
+                CaseStatusCounters.getInstance().recordTransition(CaseStatus.IN_PROGRESS, previous);
+                return true;
+            }
+            return false;
+        }
+    }
+
     public abstract void process();
-}
\ No newline at end of file
+}
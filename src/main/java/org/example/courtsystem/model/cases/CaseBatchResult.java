@@ -0,0 +1,26 @@
+package org.example.courtsystem.model.cases;
+
+import java.util.List;
+
+// Per-item outcomes of a batch, in the order the cases were submitted
+public record CaseBatchResult(List<CaseProcessingResult> results, long elapsedNanos) {
+    public CaseBatchResult {
+        results = List.copyOf(results);
+    }
+
+    public int size() {
+        return results.size();
+    }
+
+    public long successCount() {
+        return results.stream().filter(CaseProcessingResult::isSuccess).count();
+    }
+
+    public List<CaseProcessingResult> failures() {
+        return results.stream().filter(result -> !result.isSuccess()).toList();
+    }
+
+    public boolean allSucceeded() {
+        return results.stream().allMatch(CaseProcessingResult::isSuccess);
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.courtsystem.model.cases;
+
+import org.example.courtsystem.model.CaseStatus;
+import org.example.courtsystem.model.people.Person;
+import org.example.courtsystem.model.people.PersonRegistry;
+import org.example.courtsystem.model.people.Witness;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Converts closed ConcreteCases into ClosedCases.
+// Evidence records, witness names and testimonies are interned in this
+// compactor's pools, so identical exhibits across an archive share one object.
+// Only clients and lawyers are registered in PersonRegistry. Keep one compactor
+// per archive; dropping it drops the pools once its cases are gone.
+// Safe to use from several threads.
+public class CaseCompactor {
+    private final PersonRegistry registry = PersonRegistry.getInstance();
+    private final Map<Evidence, Evidence> evidencePool = new ConcurrentHashMap<>();
+    private final Map<String, String> stringPool = new ConcurrentHashMap<>();
+
+    // Freezes a closed case. The source case is left untouched and can be dropped.
+    public ClosedCase freeze(ConcreteCase courtCase) {
+        if (courtCase == null) {
+            throw new IllegalArgumentException("Case cannot be null");
+        }
+        if (courtCase.getStatus() != CaseStatus.CLOSED) {
+            throw new IllegalStateException("Case " + courtCase.getTitle() + " is "
+                    + courtCase.getStatus() + ", only closed cases can be frozen");
+        }
+
+        List<Evidence> evidenceList = courtCase.evidenceView();
+        Evidence[] evidence = evidenceList.isEmpty() ? ClosedCase.NO_EVIDENCE : new Evidence[evidenceList.size()];
+        for (int i = 0; i < evidence.length; i++) {
+            evidence[i] = intern(evidenceList.get(i));
+        }
+
+        List<Witness> witnesses = courtCase.witnessView();
+        boolean noWitnesses = witnesses.isEmpty();
+        String[] witnessNames = noWitnesses ? ClosedCase.NO_STRINGS : new String[witnesses.size()];
+        int[] witnessNumbers = noWitnesses ? ClosedCase.NO_WITNESS_NUMBERS : new int[witnesses.size()];
+        String[] testimonies = noWitnesses ? ClosedCase.NO_STRINGS : new String[witnesses.size()];
+        for (int i = 0; i < witnessNames.length; i++) {
+            Witness witness = witnesses.get(i);
+            witnessNames[i] = intern(witness.getName());
+            witnessNumbers[i] = witness.getWitnessId();
+            testimonies[i] = intern(witness.getTestimony());
+        }
+
+        return new ClosedCase(courtCase.getTitle(), idOf(courtCase.getClient()), idOf(courtCase.getLawyer()),
+                courtCase.isComplex(), evidence, witnessNames, witnessNumbers, testimonies);
+    }
+
+    public List<ClosedCase> freezeAll(Collection<? extends ConcreteCase> cases) {
+        List<ClosedCase> frozen = new ArrayList<>(cases.size());
+        for (ConcreteCase courtCase : cases) {
+            frozen.add(freeze(courtCase));
+        }
+        return frozen;
+    }
+
+    // Distinct evidence records held by the pool
+    public int evidencePoolSize() {
+        return evidencePool.size();
+    }
+
+    private Evidence intern(Evidence evidence) {
+        Evidence shared = evidencePool.putIfAbsent(evidence, evidence);
+        return shared != null ? shared : evidence;
+    }
+
+    private String intern(String text) {
+        if (text == null) {
+            return null;
+        }
+        String shared = stringPool.putIfAbsent(text, text);
+        return shared != null ? shared : text;
+    }
+
+    private int idOf(Person person) {
+        return person == null ? Person.UNREGISTERED : registry.register(person);
+    }
+}
@@ -0,0 +1,8 @@
+package org.example.courtsystem.model.cases;
+
+// Outcome of processing one case in a batch; failure is null on success
+public record CaseProcessingResult(Case courtCase, Throwable failure, long durationNanos) {
+    public boolean isSuccess() {
+        return failure == null;
+    }
+}
@@ -0,0 +1,131 @@
+package org.example.courtsystem.model.cases;
+
+import org.example.courtsystem.model.CaseStatus;
+import org.example.courtsystem.model.EvidenceType;
+import org.example.courtsystem.model.people.Client;
+import org.example.courtsystem.model.people.Lawyer;
+import org.example.courtsystem.model.people.Person;
+import org.example.courtsystem.model.people.PersonRegistry;
+import org.example.courtsystem.model.people.Witness;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+// Frozen, compact form of a closed case, built by CaseCompactor.
+// Clients and lawyers are kept as PersonRegistry ids rather than object graphs.
+// Witnesses stay out of the registry, which never forgets anyone: each is kept
+// as its name, witness number and testimony, with the strings shared through
+// the compactor's pool. Evidence records are shared flyweights, and everything
+// sits in arrays trimmed to size.
+// Instances are immutable and safe to share between threads.
+public final class ClosedCase {
+    static final Evidence[] NO_EVIDENCE = new Evidence[0];
+    static final int[] NO_WITNESS_NUMBERS = new int[0];
+    static final String[] NO_STRINGS = new String[0];
+
+    private final String title;
+    private final int clientId;
+    private final int lawyerId;
+    private final boolean complex;
+    private final Evidence[] evidence;
+    // Parallel arrays: witness name, witness number and what they said in this case
+    private final String[] witnessNames;
+    private final int[] witnessNumbers;
+    private final String[] testimonies;
+
+    ClosedCase(String title, int clientId, int lawyerId, boolean complex, Evidence[] evidence,
+               String[] witnessNames, int[] witnessNumbers, String[] testimonies) {
+        this.title = title;
+        this.clientId = clientId;
+        this.lawyerId = lawyerId;
+        this.complex = complex;
+        this.evidence = evidence;
+        this.witnessNames = witnessNames;
+        this.witnessNumbers = witnessNumbers;
+        this.testimonies = testimonies;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public CaseStatus getStatus() {
+        return CaseStatus.CLOSED;
+    }
+
+    public boolean isComplex() {
+        return complex;
+    }
+
+    // Person id of the client, or Person.UNREGISTERED if the case had none
+    public int getClientId() {
+        return clientId;
+    }
+
+    public int getLawyerId() {
+        return lawyerId;
+    }
+
+    // Canonical client from the registry
+    public Client getClient() {
+        return clientId == Person.UNREGISTERED ? null
+                : PersonRegistry.getInstance().get(clientId, Client.class);
+    }
+
+    public Lawyer getLawyer() {
+        return lawyerId == Person.UNREGISTERED ? null
+                : PersonRegistry.getInstance().get(lawyerId, Lawyer.class);
+    }
+
+    public int getEvidenceCount() {
+        return evidence.length;
+    }
+
+    public Evidence getEvidence(int index) {
+        return evidence[index];
+    }
+
+    // Read-only view over the evidence array; nothing is copied
+    public List<Evidence> getEvidenceList() {
+        return Collections.unmodifiableList(Arrays.asList(evidence));
+    }
+
+    public int countEvidence(EvidenceType type) {
+        int count = 0;
+        for (Evidence e : evidence) {
+            if (e.type() == type) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public int getWitnessCount() {
+        return witnessNames.length;
+    }
+
+    public String getWitnessName(int index) {
+        return witnessNames[index];
+    }
+
+    // Witness.getWitnessId() of the witness as they were when the case closed
+    public int getWitnessNumber(int index) {
+        return witnessNumbers[index];
+    }
+
+    // Rebuilds the witness from the stored fields; every call returns a new object
+    public Witness getWitness(int index) {
+        return Witness.restore(witnessNames[index], testimonies[index], witnessNumbers[index]);
+    }
+
+    public String getTestimony(int index) {
+        return testimonies[index];
+    }
+
+    @Override
+    public String toString() {
+        return "ClosedCase{title='" + title + "', evidence=" + evidence.length
+                + ", witnesses=" + witnessNames.length + "}";
+    }
+}
@@ -1,11 +1,14 @@
 package org.example.courtsystem.model.cases;
 
 import org.example.courtsystem.annotations.CaseMetadata;
+import org.example.courtsystem.model.EvidenceType;
 import org.example.courtsystem.model.people.Client;
 import org.example.courtsystem.model.people.Lawyer;
 import org.example.courtsystem.model.people.Witness;
+import org.example.courtsystem.model.services.EvidenceSimilarityIndex;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 @CaseMetadata(
@@ -16,11 +19,17 @@ import java.util.List;
 
 // ConcreteCase represents a legal dispute between a client and the court
 public class ConcreteCase extends Case {
+    private static final AttributeVersion[] NO_TRACKERS = new AttributeVersion[0];
+
     private final Client client;
     private Lawyer lawyer;
     private final List<Evidence> evidenceList = new ArrayList<>();
     private final List<Witness> witnesses = new ArrayList<>();
     private boolean isComplex;
+    // Kept up to date as evidence is added; null when the case is not indexed
+    private EvidenceSimilarityIndex similarityIndex;
+    // Bumped when the lawyer or complexity changes; replaced, never modified
+    private volatile AttributeVersion[] attributeTrackers = NO_TRACKERS;
 
     public ConcreteCase(String title, Client client, Lawyer lawyer) {
         super(title);
@@ -33,13 +42,52 @@ public class ConcreteCase extends Case {
     }
 
     public void setComplex(boolean complex) {
-        isComplex = complex;
+        if (isComplex != complex) {
+            isComplex = complex;
+            attributesChanged();
+        }
+    }
+
+    // Bumps the version whenever this case's lawyer or complexity changes, so
+    // indexes built over those attributes (see CaseQueryEngine) can tell they are
+    // stale. The case keeps the version for as long as it lives.
+    public synchronized void trackAttributesIn(AttributeVersion version) {
+        for (AttributeVersion tracked : attributeTrackers) {
+            if (tracked == version) {
+                return;
+            }
+        }
+        AttributeVersion[] trackers = Arrays.copyOf(attributeTrackers, attributeTrackers.length + 1);
+        trackers[trackers.length - 1] = version;
+        attributeTrackers = trackers;
+    }
+
+    private void attributesChanged() {
+        for (AttributeVersion version : attributeTrackers) {
+            version.increment();
+        }
     }
 
+    // Not logged: when the court has a write-ahead log, use Court.fileEvidence
+    // for evidence that must survive a restart
     public void addEvidence(Evidence e) {
         evidenceList.add(e);
+        if (similarityIndex != null) {
+            similarityIndex.add(title, evidenceList.size() - 1, e);
+        }
+    }
+
+    // Indexes the evidence already in the case and everything added later
+    public void indexEvidenceIn(EvidenceSimilarityIndex index) {
+        this.similarityIndex = index;
+        if (index != null) {
+            for (int i = 0; i < evidenceList.size(); i++) {
+                index.add(title, i, evidenceList.get(i));
+            }
+        }
     }
 
+    // Not logged either; see Court.admitWitness
     public void addWitness(Witness w) {
         witnesses.add(w);
     }
@@ -53,17 +101,44 @@ public class ConcreteCase extends Case {
     }
 
     public void setLawyer(Lawyer lawyer) {
-        this.lawyer = lawyer;
+        if (this.lawyer != lawyer) {
+            this.lawyer = lawyer;
+            attributesChanged();
+        }
     }
 
     public List<Evidence> getEvidenceList() {
         return new ArrayList<>(evidenceList); // Return defensive copy
     }
 
+    public int getEvidenceCount() {
+        return evidenceList.size();
+    }
+
+    // Counts evidence of one type without copying the list
+    public int countEvidence(EvidenceType type) {
+        int count = 0;
+        for (Evidence evidence : evidenceList) {
+            if (evidence.type() == type) {
+                count++;
+            }
+        }
+        return count;
+    }
+
     public List<Witness> getWitnesses() {
         return new ArrayList<>(witnesses); // Return defensive copy
     }
 
+    // Live views for CaseCompactor, which copies them into trimmed arrays
+    List<Evidence> evidenceView() {
+        return evidenceList;
+    }
+
+    List<Witness> witnessView() {
+        return witnesses;
+    }
+
     @Override
     public void process() {
         System.out.println("Processing case: " + title);
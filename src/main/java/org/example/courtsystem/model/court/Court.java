@@ -4,17 +4,33 @@ import org.example.courtsystem.exceptions.CourtException;
 import org.example.courtsystem.exceptions.InvalidEvidenceException;
 import org.example.courtsystem.interfaces.CaseProcessor;
 import org.example.courtsystem.interfaces.EvidenceValidator;
+import org.example.courtsystem.interfaces.WitnessExaminer;
+import org.example.courtsystem.metrics.events.EvidenceValidationEvent;
+import org.example.courtsystem.metrics.events.TrialEvent;
+import org.example.courtsystem.metrics.events.TrialPhaseEvent;
+import org.example.courtsystem.model.CaseStatus;
 import org.example.courtsystem.model.LegalEntity;
 import org.example.courtsystem.model.cases.Case;
+import org.example.courtsystem.model.cases.CaseBatchResult;
 import org.example.courtsystem.model.cases.ConcreteCase;
 import org.example.courtsystem.model.cases.Evidence;
 import org.example.courtsystem.model.documents.Document;
 import org.example.courtsystem.model.documents.Verdict;
 import org.example.courtsystem.model.people.Judge;
+import org.example.courtsystem.model.people.Witness;
+import org.example.courtsystem.storage.CourtWriteAheadLog;
+import org.example.courtsystem.storage.TrialJournal;
+import org.example.courtsystem.threads.TrialScope;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 // Represents a court where cases are judged
@@ -22,7 +38,18 @@ public class Court extends LegalEntity implements CaseProcessor {
     private static final Logger logger = LogManager.getLogger(Court.class);
     private final Judge judge;
     private static final int MAX_EVIDENCE_ITEMS = 100;
-    private final Map<String, List<Document>> caseDocuments = new HashMap<>();
+    private static final String GUILTY = "GUILTY";
+    private static final String NOT_GUILTY = "NOT GUILTY";
+    // Ties JFR phase events to their trial; only advanced while trial events are recorded
+    private static final AtomicLong TRIAL_SEQUENCE = new AtomicLong();
+    private final Map<String, List<Document>> caseDocuments = new ConcurrentHashMap<>();
+    private final TrialStatistics statistics = new TrialStatistics();
+    private volatile TrialMode trialMode = TrialMode.NARRATED;
+    private volatile TrialJournal journal;
+    private volatile CourtWriteAheadLog writeAheadLog;
+    // Null means the scripted examination is used
+    private volatile WitnessExaminer witnessExaminer;
+    private volatile int witnessConcurrency = 1;
 
     // Added a method for retrieving case documents
     public List<Document> getCaseDocuments(String caseId) {
@@ -38,7 +65,15 @@ public class Court extends LegalEntity implements CaseProcessor {
             throw new CourtException("Document cannot be null");
         }
 
-        caseDocuments.computeIfAbsent(caseId, k -> new ArrayList<>()).add(doc);
+        CourtWriteAheadLog wal = writeAheadLog;
+        if (wal != null) {
+            try {
+                wal.documentAdded(caseId, doc);
+            } catch (IOException e) {
+                throw new CourtException("Could not persist document " + doc.getTitle(), e);
+            }
+        }
+        caseDocuments.computeIfAbsent(caseId, k -> new CopyOnWriteArrayList<>()).add(doc);
         logger.info("Document added to case {}: {}", caseId, doc.getTitle());
     }
 
@@ -61,6 +96,13 @@ public class Court extends LegalEntity implements CaseProcessor {
 
     // Method for reviewing evidence before a hearing
     public void preTrialEvidenceReview(List<Evidence> evidenceList) throws InvalidEvidenceException {
+        checkEvidenceList(evidenceList);
+        for (Evidence evidence : evidenceList) {
+            validateEvidenceItem(evidence);
+        }
+    }
+
+    private static void checkEvidenceList(List<Evidence> evidenceList) throws InvalidEvidenceException {
         if (evidenceList == null) {
             throw new InvalidEvidenceException("null", "Evidence list cannot be null");
         }
@@ -69,13 +111,21 @@ public class Court extends LegalEntity implements CaseProcessor {
             throw new InvalidEvidenceException("Evidence limit exceeded",
                     "Maximum allowed: " + MAX_EVIDENCE_ITEMS);
         }
+    }
 
-        for (Evidence evidence : evidenceList) {
-            validateEvidenceItem(evidence);
+    private void validateEvidenceItem(Evidence evidence) throws InvalidEvidenceException {
+        EvidenceValidationEvent event = new EvidenceValidationEvent();
+        event.begin();
+        try {
+            checkEvidenceItem(evidence);
+        } catch (InvalidEvidenceException e) {
+            event.complete("Court", evidence, EvidenceValidationEvent.INVALID, e.getMessage());
+            throw e;
         }
+        event.complete("Court", evidence, EvidenceValidationEvent.ACCEPTED, null);
     }
 
-    private void validateEvidenceItem(Evidence evidence) throws InvalidEvidenceException {
+    private void checkEvidenceItem(Evidence evidence) throws InvalidEvidenceException {
         if (evidence == null) {
             throw new InvalidEvidenceException("null", "Null evidence in list");
         }
@@ -91,21 +141,126 @@ public class Court extends LegalEntity implements CaseProcessor {
     }
 
     public void validateAllEvidence(EvidenceValidator validator, List<Evidence> evidence) {
-        evidence.forEach(e -> {
+        countRejectedEvidence(validator, evidence, null);
+    }
+
+    // Runs the validator over every item and returns how many were rejected
+    private int countRejectedEvidence(EvidenceValidator validator, List<Evidence> evidence, TrialRun run) {
+        int rejected = 0;
+        for (int i = 0; i < evidence.size(); i++) {
+            Evidence e = evidence.get(i);
             try {
-                if (!validator.validateEvidence(e)) {
+                if (validator.validateEvidence(e)) {
+                    if (run != null) {
+                        run.evidenceAccepted(i, e);
+                    }
+                } else {
                     logger.warn("Evidence rejected by validator: {}", e.description());
+                    rejected++;
+                    if (run != null) {
+                        run.evidenceRejected(i, e, "Rejected by validator");
+                    }
                 }
             } catch (InvalidEvidenceException ex) {
                 logger.error("Evidence validation failed: {}", ex.getMessage());
+                rejected++;
+                if (run != null) {
+                    run.evidenceRejected(i, e, ex.getMessage());
+                }
+            }
+        }
+        return rejected;
+    }
+
+    public TrialMode getTrialMode() {
+        return trialMode;
+    }
+
+    // Sets the mode used by startTrial(ConcreteCase)
+    public void setTrialMode(TrialMode trialMode) {
+        this.trialMode = Objects.requireNonNull(trialMode, "Trial mode cannot be null");
+    }
+
+    public TrialStatistics getStatistics() {
+        return statistics;
+    }
+
+    // Sets the binary journal that trial events are recorded to; null disables it
+    public void setJournal(TrialJournal journal) {
+        this.journal = journal;
+    }
+
+    public TrialJournal getJournal() {
+        return journal;
+    }
+
+    // Sets the write-ahead log that documents, evidence, witnesses and verdicts are
+    // persisted to before they are accepted; null disables it
+    public void setWriteAheadLog(CourtWriteAheadLog writeAheadLog) {
+        this.writeAheadLog = writeAheadLog;
+    }
+
+    public CourtWriteAheadLog getWriteAheadLog() {
+        return writeAheadLog;
+    }
+
+    // Adds evidence to a case, persisting it first when a write-ahead log is attached
+    public void fileEvidence(ConcreteCase courtCase, Evidence evidence) throws CourtException {
+        if (courtCase == null || evidence == null) {
+            throw new CourtException("Case and evidence cannot be null");
+        }
+        CourtWriteAheadLog wal = writeAheadLog;
+        if (wal != null) {
+            try {
+                wal.evidenceAdded(courtCase, evidence);
+            } catch (IOException e) {
+                throw new CourtException("Could not persist evidence for case " + courtCase.getTitle(), e);
             }
-        });
+        }
+        courtCase.addEvidence(evidence);
+    }
+
+    // Adds a witness to a case, persisting it first when a write-ahead log is attached
+    public void admitWitness(ConcreteCase courtCase, Witness witness) throws CourtException {
+        if (courtCase == null || witness == null) {
+            throw new CourtException("Case and witness cannot be null");
+        }
+        CourtWriteAheadLog wal = writeAheadLog;
+        if (wal != null) {
+            try {
+                wal.witnessAdded(courtCase, witness);
+            } catch (IOException e) {
+                throw new CourtException("Could not persist witness for case " + courtCase.getTitle(), e);
+            }
+        }
+        courtCase.addWitness(witness);
+    }
+
+    // Sets the examiner used for each witness; null restores the scripted examination
+    public void setWitnessExaminer(WitnessExaminer witnessExaminer) {
+        this.witnessExaminer = witnessExaminer;
+    }
+
+    // Maximum witnesses examined at once within one trial; 1 keeps examination sequential
+    public void setWitnessConcurrency(int witnessConcurrency) {
+        if (witnessConcurrency <= 0) {
+            throw new IllegalArgumentException("Witness concurrency must be positive");
+        }
+        this.witnessConcurrency = witnessConcurrency;
     }
 
-    private void conductOpeningStatements(ConcreteCase courtCase) throws CourtException {
-        if (courtCase == null || courtCase.getLawyer() == null || courtCase.getClient() == null) {
+    public int getWitnessConcurrency() {
+        return witnessConcurrency;
+    }
+
+    private void conductOpeningStatements(TrialRun run) throws CourtException {
+        ConcreteCase courtCase = run.courtCase;
+        if (courtCase.getLawyer() == null || courtCase.getClient() == null) {
             throw new CourtException("Invalid case setup for opening statements");
         }
+        if (!run.narrate) {
+            return;
+        }
 
         logger.info("\n--- Opening Statements ---");
 
@@ -123,80 +278,327 @@ public class Court extends LegalEntity implements CaseProcessor {
         }
     }
 
-    // Starts the trial and returns the verdict
+    // Starts the trial in the court's current mode and returns the verdict
     public Verdict startTrial(ConcreteCase courtCase) throws CourtException {
+        return startTrial(courtCase, trialMode);
+    }
+
+    // Starts the trial and returns the verdict.
+    // HEADLESS skips all courtroom narration but runs the same checks and decision.
+    public Verdict startTrial(ConcreteCase courtCase, TrialMode mode) throws CourtException {
         if (courtCase == null) {
             logger.error("Attempt to start trial with null case");
             throw new CourtException("Case cannot be null");
         }
+        TrialEvent event = new TrialEvent();
+        event.begin();
+        long trialId = event.isEnabled() ? TRIAL_SEQUENCE.incrementAndGet() : 0;
+        String outcome = "FAILED";
+        try {
+            Verdict verdict = conductTrial(courtCase, mode, trialId);
+            outcome = verdict.getResult();
+            return verdict;
+        } finally {
+            event.complete(trialId, getName(), courtCase, outcome);
+        }
+    }
 
-        // Added logging of case documents
-        List<Document> docs = getCaseDocuments(courtCase.getTitle());
-        if (!docs.isEmpty()) {
-            logger.info("Case documents: {}", docs.stream()
-                    .map(Document::getTitle)
-                    .collect(Collectors.joining(", ")));
+    private Verdict conductTrial(ConcreteCase courtCase, TrialMode mode, long trialId) throws CourtException {
+        TrialRun run = new TrialRun(courtCase, mode != TrialMode.HEADLESS, journal, trialId);
+
+        if (run.narrate) {
+            // Added logging of case documents
+            List<Document> docs = getCaseDocuments(courtCase.getTitle());
+            if (!docs.isEmpty()) {
+                logger.info("Case documents: {}", docs.stream()
+                        .map(Document::getTitle)
+                        .collect(Collectors.joining(", ")));
+            }
+
+            logger.info("\n=== COURT SESSION BEGINS ===");
+            logger.info("Judge {} presiding over {} case", judge.getName(), courtCase.getTitle());
         }
 
-        logger.info("\n=== COURT SESSION BEGINS ===");
-        logger.info("Judge {} presiding over {} case", judge.getName(), courtCase.getTitle());
+        Case.TrialClaim claim = beginTrial(courtCase);
+        boolean closed = false;
+        try {
+            try {
+                runPhase(run, TrialPhase.OPENING, () -> conductOpeningStatements(run));
+                runPhase(run, TrialPhase.WITNESS, () -> conductWitnessExamination(run));
+                runPhase(run, TrialPhase.EVIDENCE, () -> presentEvidence(run));
+                runPhase(run, TrialPhase.CLOSING, () -> conductClosingArguments(run));
+            } catch (InvalidEvidenceException e) {
+                statistics.recordFailedTrial();
+                logger.error("Trial procedure failed due to invalid evidence", e);
+                throw new CourtException("Trial cannot proceed with invalid evidence", e);
+            } catch (CourtException e) {
+                statistics.recordFailedTrial();
+                throw e;
+            }
 
+            TrialPhaseEvent phaseEvent = new TrialPhaseEvent();
+            phaseEvent.begin();
+            run.phaseStarted(TrialPhase.VERDICT);
+            long verdictStart = System.nanoTime();
+            Verdict verdict = deliverVerdict(run);
+            String phaseOutcome = "FAILED";
+            try {
+                persistVerdict(courtCase, verdict);
+                phaseOutcome = verdict.getResult();
+            } finally {
+                finishPhase(run, TrialPhase.VERDICT, verdictStart);
+                phaseEvent.complete(run.trialId, courtCase, TrialPhase.VERDICT, phaseOutcome);
+            }
+            // Counted and journaled only once the verdict is durable
+            statistics.recordVerdict(verdict.getResult().equals(GUILTY));
+            run.verdictIssued(verdict);
+            closed = courtCase.compareAndSetStatus(CaseStatus.IN_PROGRESS, CaseStatus.CLOSED);
+            return verdict;
+        } finally {
+            if (!closed) {
+                endFailedTrial(courtCase, claim);
+            }
+        }
+    }
+
+    private void persistVerdict(ConcreteCase courtCase, Verdict verdict) throws CourtException {
+        CourtWriteAheadLog wal = writeAheadLog;
+        if (wal == null) {
+            return;
+        }
         try {
-            conductOpeningStatements(courtCase);
-            conductWitnessExamination(courtCase);
-            presentEvidence(courtCase);
-            conductClosingArguments(courtCase);
-        } catch (InvalidEvidenceException e) {
-            logger.error("Trial procedure failed due to invalid evidence", e);
-            throw new CourtException("Trial cannot proceed with invalid evidence", e);
+            wal.verdictIssued(courtCase, verdict);
+        } catch (IOException e) {
+            statistics.recordFailedTrial();
+            throw new CourtException("Could not persist verdict for case " + courtCase.getTitle(), e);
         }
+    }
 
-        return deliverVerdict(courtCase);
+    // Moves the case to IN_PROGRESS. The CAS also keeps two courts from trying
+    // the same case at once.
+    private static Case.TrialClaim beginTrial(ConcreteCase courtCase) throws CourtException {
+        Case.TrialClaim claim = courtCase.claimForTrial();
+        if (claim == null) {
+            CaseStatus current = courtCase.getStatus();
+            logger.error("Case {} cannot move from {} to IN_PROGRESS", courtCase.getTitle(), current);
+            throw new CourtException("Case " + courtCase.getTitle() + " cannot be tried while " + current);
+        }
+        return claim;
     }
 
-    private void conductWitnessExamination(ConcreteCase courtCase) {
-        logger.info("\n--- Witness Testimony ---");
-        courtCase.getWitnesses().forEach(witness -> {
-            logger.info("Examining witness: {}", witness.getName());
-            logger.info("Prosecutor: \"Where were you on the night of January 15th?\"");
-            logger.info("{}: \"I was reviewing the financial documents\"", witness.getName());
-            logger.info("Defense: \"Objection! Leading question!\"");
-            logger.info("Judge: \"Sustained. Rephrase your question\"");
-        });
+    // Returns a case whose trial did not reach a persisted verdict to its earlier status
+    private static void endFailedTrial(ConcreteCase courtCase, Case.TrialClaim claim) {
+        if (claim.rollBack()) {
+            logger.warn("Trial of {} failed; case returned to {}", courtCase.getTitle(), claim.previous());
+        } else {
+            logger.error("Trial of {} failed and case is unexpectedly {}", courtCase.getTitle(),
+                    courtCase.getStatus());
+        }
     }
 
-    private void presentEvidence(ConcreteCase courtCase) throws CourtException {
+    // Runs one phase, timing it and recording its start and end
+    private void runPhase(TrialRun run, TrialPhase phase, TrialStep step) throws CourtException {
+        TrialPhaseEvent event = new TrialPhaseEvent();
+        event.begin();
+        run.phaseStarted(phase);
+        long start = System.nanoTime();
+        boolean completed = false;
         try {
-            preTrialEvidenceReview(courtCase.getEvidenceList());
-            validateAllEvidence(judge, courtCase.getEvidenceList());
+            step.run();
+            completed = true;
+        } finally {
+            finishPhase(run, phase, start);
+            event.complete(run.trialId, run.courtCase, phase, completed ? "COMPLETED" : "FAILED");
+        }
+    }
+
+    private void finishPhase(TrialRun run, TrialPhase phase, long start) {
+        long duration = System.nanoTime() - start;
+        statistics.recordPhase(phase, duration);
+        run.phaseEnded(phase, duration);
+    }
+
+    private void conductWitnessExamination(TrialRun run) throws CourtException {
+        List<Witness> witnesses = run.courtCase.getWitnesses();
+        statistics.recordWitnesses(witnesses.size());
+        if (run.narrate) {
+            logger.info("\n--- Witness Testimony ---");
+        }
+
+        WitnessExaminer examiner = witnessExaminer;
+        if (examiner == null) {
+            // Scripted examination does no real work, so it stays on the trial thread
+            witnesses.forEach(witness -> {
+                if (run.narrate) {
+                    logger.info("Examining witness: {}", witness.getName());
+                    logger.info("Prosecutor: \"Where were you on the night of January 15th?\"");
+                    logger.info("{}: \"I was reviewing the financial documents\"", witness.getName());
+                    logger.info("Defense: \"Objection! Leading question!\"");
+                    logger.info("Judge: \"Sustained. Rephrase your question\"");
+                }
+                run.witnessExamined(witness);
+            });
+            return;
+        }
+
+        List<List<String>> transcripts = witnessConcurrency > 1 && witnesses.size() > 1
+                ? examineInParallel(examiner, witnesses)
+                : examineSequentially(examiner, witnesses);
+        // Transcripts are written in witness-list order whatever order examinations finished in
+        for (int i = 0; i < witnesses.size(); i++) {
+            if (run.narrate) {
+                transcripts.get(i).forEach(line -> logger.info("{}", line));
+            }
+            run.witnessExamined(witnesses.get(i));
+        }
+    }
+
+    private List<List<String>> examineSequentially(WitnessExaminer examiner, List<Witness> witnesses)
+            throws CourtException {
+        List<List<String>> transcripts = new ArrayList<>(witnesses.size());
+        for (Witness witness : witnesses) {
+            transcripts.add(examiner.examine(witness));
+        }
+        return transcripts;
+    }
+
+    // Examines witnesses concurrently, at most witnessConcurrency at a time.
+    // The first failed examination cancels the others and fails the phase.
+    private List<List<String>> examineInParallel(WitnessExaminer examiner, List<Witness> witnesses)
+            throws CourtException {
+        try (TrialScope<List<String>> scope = new TrialScope<>(witnessConcurrency)) {
+            for (Witness witness : witnesses) {
+                if (!scope.fork(() -> examiner.examine(witness))) {
+                    break;
+                }
+            }
+            return scope.join();
+        } catch (ExecutionException e) {
+            throw new CourtException("Witness examination failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CourtException("Witness examination interrupted", e);
+        }
+    }
+
+    private void presentEvidence(TrialRun run) throws CourtException {
+        List<Evidence> evidenceList = run.courtCase.getEvidenceList();
+        try {
+            checkEvidenceList(evidenceList);
         } catch (InvalidEvidenceException e) {
+            run.evidenceRejected(-1, null, e.getMessage());
             throw new CourtException("Evidence validation failed", e);
         }
+        // Items reviewed before a failing one count as accepted, the failing one
+        // as rejected; the rest were never looked at
+        int validated = 0;
+        for (Evidence evidence : evidenceList) {
+            try {
+                validateEvidenceItem(evidence);
+            } catch (InvalidEvidenceException e) {
+                statistics.recordEvidence(validated, 1);
+                run.evidenceRejected(validated, evidence, e.getMessage());
+                throw new CourtException("Evidence validation failed", e);
+            }
+            validated++;
+        }
+        int rejected = countRejectedEvidence(judge, evidenceList, run);
+        statistics.recordEvidence(evidenceList.size() - rejected, rejected);
     }
 
-    private void conductClosingArguments(ConcreteCase courtCase) {
+    private void conductClosingArguments(TrialRun run) {
+        if (!run.narrate) {
+            return;
+        }
         logger.info("\n--- Closing Arguments ---");
         logger.info("Prosecutor: \"The evidence clearly shows willful violation of SEC rules\"");
         logger.info("Defense ({}): \"The prosecution failed to meet burden of proof\"",
-                courtCase.getLawyer().getName());
+                run.courtCase.getLawyer().getName());
     }
 
-    private Verdict deliverVerdict(ConcreteCase courtCase) {
-        logger.info("\n--- Judge's Decision ---");
+    private Verdict deliverVerdict(TrialRun run) {
+        if (run.narrate) {
+            logger.info("\n--- Judge's Decision ---");
+        }
         boolean guilty;
         try {
             guilty = !judge.considerEvidence(
-                    courtCase.getEvidenceList(),
-                    courtCase.getWitnesses()
+                    run.courtCase.getEvidenceList(),
+                    run.courtCase.getWitnesses(),
+                    run.narrate
             );
         } catch (InvalidEvidenceException e) {
             logger.error("Evidence consideration error", e);
             guilty = false;
         }
 
-        String result = guilty ? "GUILTY" : "NOT GUILTY";
-        logger.info("Judge {}: \"I find the defendant {}\"", judge.getName(), result);
-        return new Verdict(result);
+        String result = guilty ? GUILTY : NOT_GUILTY;
+        if (run.narrate) {
+            logger.info("Judge {}: \"I find the defendant {}\"", judge.getName(), result);
+        }
+        Verdict verdict = new Verdict(result);
+        verdict.setAppealListener((appealed, filed) -> statistics.recordAppeal(filed));
+        return verdict;
+    }
+
+    // One step of a trial; may fail with a court error
+    @FunctionalInterface
+    private interface TrialStep {
+        void run() throws CourtException;
+    }
+
+    // Per-trial state shared by the phase methods. Journal calls are no-ops
+    // when the court has no journal attached.
+    private static final class TrialRun {
+        private final ConcreteCase courtCase;
+        private final boolean narrate;
+        private final TrialJournal journal;
+        private final int journalCaseId;
+        private final long trialId;
+
+        TrialRun(ConcreteCase courtCase, boolean narrate, TrialJournal journal, long trialId) {
+            this.courtCase = courtCase;
+            this.trialId = trialId;
+            this.narrate = narrate;
+            this.journal = journal;
+            this.journalCaseId = journal != null ? journal.openCase(courtCase.getTitle()) : 0;
+        }
+
+        void phaseStarted(TrialPhase phase) {
+            if (journal != null) {
+                journal.phaseStarted(journalCaseId, phase);
+            }
+        }
+
+        void phaseEnded(TrialPhase phase, long durationNanos) {
+            if (journal != null) {
+                journal.phaseEnded(journalCaseId, phase, durationNanos);
+            }
+        }
+
+        void evidenceAccepted(int index, Evidence evidence) {
+            if (journal != null) {
+                journal.evidenceAccepted(journalCaseId, index, evidence);
+            }
+        }
+
+        void evidenceRejected(int index, Evidence evidence, String reason) {
+            if (journal != null) {
+                journal.evidenceRejected(journalCaseId, index, evidence, reason);
+            }
+        }
+
+        void witnessExamined(Witness witness) {
+            if (journal != null) {
+                journal.witnessExamined(journalCaseId, witness);
+            }
+        }
+
+        void verdictIssued(Verdict verdict) {
+            if (journal != null) {
+                journal.verdictIssued(journalCaseId, verdict);
+            }
+        }
     }
 
     @Override
@@ -206,6 +608,24 @@ public class Court extends LegalEntity implements CaseProcessor {
         logger.info("Processed case: {}", courtCase.getTitle());
     }
 
+    // Batch variant: cases run in parallel and the court logs one summary line
+    // for the whole batch instead of one line per case
+    @Override
+    public CaseBatchResult processCases(Collection<? extends Case> cases, Executor executor) {
+        CaseProcessor quietProcessor = courtCase -> {
+            Objects.requireNonNull(courtCase, "Case cannot be null");
+            courtCase.process();
+        };
+        CaseBatchResult result = quietProcessor.processCases(cases, executor);
+        logger.info("Processed batch of {} cases: {} succeeded, {} failed ({} ms)",
+                result.size(), result.successCount(), result.size() - result.successCount(),
+                result.elapsedNanos() / 1_000_000);
+        result.failures().forEach(failure -> logger.warn("Case {} failed: {}",
+                failure.courtCase() != null ? failure.courtCase().getTitle() : "null",
+                failure.failure().getMessage()));
+        return result;
+    }
+
     // Overrides abstract method to specify type of legal entity
     @Override
     public String getType() {
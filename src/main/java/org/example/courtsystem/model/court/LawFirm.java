@@ -1,17 +1,31 @@
 package org.example.courtsystem.model.court;
 
+import org.example.courtsystem.exceptions.LawyerUnavailableException;
 import org.example.courtsystem.model.LegalEntity;
+import org.example.courtsystem.model.cases.ConcreteCase;
 import org.example.courtsystem.model.people.Lawyer;
 
 public class LawFirm extends LegalEntity {
+    private final LawyerRoster roster = new LawyerRoster();
+
     public LawFirm(String name) {
         super(name);
     }
 
     public void hireLawyer(Lawyer lawyer) {
+        roster.addLawyer(lawyer);
         System.out.println("Lawyer " + lawyer.getName() + " hired at " + name);
     }
 
+    // Assigns the case to the least loaded hired lawyer able to defend it
+    public Lawyer assignCase(ConcreteCase courtCase) throws LawyerUnavailableException {
+        return roster.assign(courtCase);
+    }
+
+    public LawyerRoster getRoster() {
+        return roster;
+    }
+
     // Overrides getType() to return specific type of legal entity
     @Override
     public String getType() {
@@ -0,0 +1,224 @@
+package org.example.courtsystem.model.court;
+
+import org.example.courtsystem.exceptions.LawyerUnavailableException;
+import org.example.courtsystem.model.cases.ConcreteCase;
+import org.example.courtsystem.model.people.Lawyer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+// Roster of a firm's lawyers and the engine that assigns cases to them.
+// Lawyers are kept in two ordered sets, those qualified for complex cases and
+// the rest, each sorted by current caseload, so an assignment is a pollFirst and
+// re-insert: O(log n). Complex cases only draw from the qualified set; simple
+// cases take whichever head has the lighter load, preferring juniors on ties to
+// keep senior lawyers free for complex work.
+public class LawyerRoster {
+    private static final Logger logger = LogManager.getLogger(LawyerRoster.class);
+
+    private static final Comparator<Slot> BY_LOAD = Comparator
+            .comparingInt((Slot slot) -> slot.caseload)
+            .thenComparingLong(slot -> slot.sequence);
+
+    private final TreeSet<Slot> complexQualified = new TreeSet<>(BY_LOAD);
+    private final TreeSet<Slot> generalOnly = new TreeSet<>(BY_LOAD);
+    private final Map<Lawyer, Slot> slots = new IdentityHashMap<>();
+    private final Map<ConcreteCase, Slot> assignments = new IdentityHashMap<>();
+    private final int maxCaseload;
+    private long nextSequence;
+    private long totalAssignments;
+
+    private static final class Slot {
+        final Lawyer lawyer;
+        final long sequence;
+        int caseload;
+        boolean complexQualified;
+
+        Slot(Lawyer lawyer, long sequence) {
+            this.lawyer = lawyer;
+            this.sequence = sequence;
+        }
+    }
+
+    // Per-lawyer caseload distribution at one point in time
+    public record LoadSnapshot(int lawyers, long openCases, int minCaseload, int maxCaseload,
+                               double meanCaseload, double stdDeviation) {
+        // Busiest lawyer relative to the average; 1.0 is perfectly even
+        public double skew() {
+            return meanCaseload == 0 ? 1.0 : maxCaseload / meanCaseload;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("lawyers=%d openCases=%d caseload min=%d max=%d mean=%.2f stddev=%.2f skew=%.3f",
+                    lawyers, openCases, minCaseload, maxCaseload, meanCaseload, stdDeviation, skew());
+        }
+    }
+
+    public LawyerRoster() {
+        this(Integer.MAX_VALUE);
+    }
+
+    public LawyerRoster(int maxCaseload) {
+        if (maxCaseload < 1) {
+            throw new IllegalArgumentException("Max caseload must be positive");
+        }
+        this.maxCaseload = maxCaseload;
+    }
+
+    public synchronized void addLawyer(Lawyer lawyer) {
+        if (lawyer == null) {
+            throw new IllegalArgumentException("Lawyer cannot be null");
+        }
+        if (slots.containsKey(lawyer)) {
+            return;
+        }
+        Slot slot = new Slot(lawyer, nextSequence++);
+        slots.put(lawyer, slot);
+        file(slot);
+    }
+
+    // Removes a lawyer who has no open cases
+    public synchronized boolean removeLawyer(Lawyer lawyer) {
+        Slot slot = slots.get(lawyer);
+        if (slot == null || slot.caseload > 0) {
+            return false;
+        }
+        unfile(slot);
+        slots.remove(lawyer);
+        return true;
+    }
+
+    // Re-files a lawyer after an experience change so complex cases can reach them
+    public synchronized void refresh(Lawyer lawyer) {
+        Slot slot = slots.get(lawyer);
+        if (slot != null) {
+            unfile(slot);
+            file(slot);
+        }
+    }
+
+    // Assigns the case to the least loaded lawyer whose defend() will accept it
+    public synchronized Lawyer assign(ConcreteCase courtCase) throws LawyerUnavailableException {
+        if (courtCase == null) {
+            throw new IllegalArgumentException("Case cannot be null");
+        }
+        if (assignments.containsKey(courtCase)) {
+            return courtCase.getLawyer();
+        }
+        while (true) {
+            Slot slot = pickSlot(courtCase.isComplex());
+            if (slot == null || slot.caseload >= maxCaseload) {
+                throw new LawyerUnavailableException("for " + courtCase.getTitle(),
+                        courtCase.isComplex() ? "No experienced lawyer with free capacity" : "No lawyer with free capacity");
+            }
+            unfile(slot);
+            // Experience may have changed since the lawyer was filed
+            if (slot.lawyer.canHandleComplexCases() != slot.complexQualified) {
+                file(slot);
+                continue;
+            }
+            slot.caseload++;
+            file(slot);
+            assignments.put(courtCase, slot);
+            totalAssignments++;
+            courtCase.setLawyer(slot.lawyer);
+            logger.debug("Assigned {} to {} (caseload {})", courtCase.getTitle(), slot.lawyer.getName(), slot.caseload);
+            return slot.lawyer;
+        }
+    }
+
+    // Assigns complex cases first, since they can only go to part of the roster.
+    // Returns the cases that could not be assigned.
+    public List<ConcreteCase> assignAll(Collection<? extends ConcreteCase> cases) {
+        List<ConcreteCase> unassigned = new ArrayList<>();
+        for (boolean complexPass : new boolean[]{true, false}) {
+            for (ConcreteCase courtCase : cases) {
+                if (courtCase.isComplex() != complexPass) {
+                    continue;
+                }
+                try {
+                    assign(courtCase);
+                } catch (LawyerUnavailableException e) {
+                    unassigned.add(courtCase);
+                }
+            }
+        }
+        return unassigned;
+    }
+
+    // Frees the lawyer's slot once the case is finished
+    public synchronized boolean release(ConcreteCase courtCase) {
+        Slot slot = assignments.remove(courtCase);
+        if (slot == null) {
+            return false;
+        }
+        unfile(slot);
+        slot.caseload--;
+        file(slot);
+        return true;
+    }
+
+    public synchronized int getCaseload(Lawyer lawyer) {
+        Slot slot = slots.get(lawyer);
+        return slot == null ? 0 : slot.caseload;
+    }
+
+    public synchronized int size() {
+        return slots.size();
+    }
+
+    public synchronized long getTotalAssignments() {
+        return totalAssignments;
+    }
+
+    public synchronized LoadSnapshot snapshot() {
+        if (slots.isEmpty()) {
+            return new LoadSnapshot(0, 0, 0, 0, 0, 0);
+        }
+        int min = Integer.MAX_VALUE;
+        int max = 0;
+        long sum = 0;
+        long sumOfSquares = 0;
+        for (Slot slot : slots.values()) {
+            min = Math.min(min, slot.caseload);
+            max = Math.max(max, slot.caseload);
+            sum += slot.caseload;
+            sumOfSquares += (long) slot.caseload * slot.caseload;
+        }
+        double mean = (double) sum / slots.size();
+        double variance = Math.max(0, (double) sumOfSquares / slots.size() - mean * mean);
+        return new LoadSnapshot(slots.size(), assignments.size(), min, max, mean, Math.sqrt(variance));
+    }
+
+    private Slot pickSlot(boolean complex) {
+        Slot senior = complexQualified.isEmpty() ? null : complexQualified.first();
+        if (complex) {
+            return senior;
+        }
+        Slot junior = generalOnly.isEmpty() ? null : generalOnly.first();
+        if (senior == null) {
+            return junior;
+        }
+        if (junior == null) {
+            return senior;
+        }
+        return senior.caseload < junior.caseload ? senior : junior;
+    }
+
+    private void file(Slot slot) {
+        slot.complexQualified = slot.lawyer.canHandleComplexCases();
+        (slot.complexQualified ? complexQualified : generalOnly).add(slot);
+    }
+
+    private void unfile(Slot slot) {
+        (slot.complexQualified ? complexQualified : generalOnly).remove(slot);
+    }
+}
@@ -0,0 +1,8 @@
+package org.example.courtsystem.model.court;
+
+// How a trial is run: NARRATED logs the courtroom dialogue, HEADLESS runs the
+// same phases and validation but only records counters and timings
+public enum TrialMode {
+    NARRATED,
+    HEADLESS
+}
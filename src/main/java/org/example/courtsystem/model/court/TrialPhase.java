@@ -0,0 +1,20 @@
+package org.example.courtsystem.model.court;
+
+// Phases of Court.startTrial, in the order they run
+public enum TrialPhase {
+    OPENING("Opening statements"),
+    WITNESS("Witness examination"),
+    EVIDENCE("Evidence presentation"),
+    CLOSING("Closing arguments"),
+    VERDICT("Judge's decision");
+
+    private final String description;
+
+    TrialPhase(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,124 @@
+package org.example.courtsystem.model.court;
+
+import org.example.courtsystem.util.LatencyHistogram;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+// Counters and per-phase timings collected by a Court for every trial.
+// Uses LongAdder so concurrent trials do not contend on shared counters, and a
+// lock-free LatencyHistogram per phase for percentiles.
+public class TrialStatistics {
+    private final LongAdder trials = new LongAdder();
+    private final LongAdder failedTrials = new LongAdder();
+    private final LongAdder guiltyVerdicts = new LongAdder();
+    private final LongAdder notGuiltyVerdicts = new LongAdder();
+    private final LongAdder witnessesExamined = new LongAdder();
+    private final LongAdder evidenceAccepted = new LongAdder();
+    private final LongAdder evidenceRejected = new LongAdder();
+    private final LongAdder appealsFiled = new LongAdder();
+    private final LongAdder appealsRejected = new LongAdder();
+    private final LongAdder[] phaseNanos = new LongAdder[TrialPhase.values().length];
+    private final LatencyHistogram[] phaseLatency = new LatencyHistogram[TrialPhase.values().length];
+
+    public TrialStatistics() {
+        for (int i = 0; i < phaseNanos.length; i++) {
+            phaseNanos[i] = new LongAdder();
+            phaseLatency[i] = new LatencyHistogram();
+        }
+    }
+
+    void recordPhase(TrialPhase phase, long nanos) {
+        phaseNanos[phase.ordinal()].add(nanos);
+        phaseLatency[phase.ordinal()].record(nanos);
+    }
+
+    void recordFailedTrial() {
+        failedTrials.increment();
+    }
+
+    void recordWitnesses(int count) {
+        witnessesExamined.add(count);
+    }
+
+    void recordEvidence(int accepted, int rejected) {
+        evidenceAccepted.add(accepted);
+        evidenceRejected.add(rejected);
+    }
+
+    void recordVerdict(boolean guilty) {
+        trials.increment();
+        (guilty ? guiltyVerdicts : notGuiltyVerdicts).increment();
+    }
+
+    // Called through the appeal listener of verdicts this court issued
+    void recordAppeal(boolean filed) {
+        (filed ? appealsFiled : appealsRejected).increment();
+    }
+
+    public long getTrialCount() {
+        return trials.sum();
+    }
+
+    // Trials that ended with an error before a verdict
+    public long getFailedTrialCount() {
+        return failedTrials.sum();
+    }
+
+    public long getGuiltyCount() {
+        return guiltyVerdicts.sum();
+    }
+
+    public long getNotGuiltyCount() {
+        return notGuiltyVerdicts.sum();
+    }
+
+    public long getWitnessesExamined() {
+        return witnessesExamined.sum();
+    }
+
+    public long getEvidenceAccepted() {
+        return evidenceAccepted.sum();
+    }
+
+    public long getEvidenceRejected() {
+        return evidenceRejected.sum();
+    }
+
+    public long getAppealsFiled() {
+        return appealsFiled.sum();
+    }
+
+    public long getAppealsRejected() {
+        return appealsRejected.sum();
+    }
+
+    // Total time spent in a phase across all trials
+    public long getPhaseNanos(TrialPhase phase) {
+        return phaseNanos[phase.ordinal()].sum();
+    }
+
+    // Distribution of single-trial durations of a phase, in nanoseconds
+    public LatencyHistogram.Snapshot getPhaseLatency(TrialPhase phase) {
+        return phaseLatency[phase.ordinal()].snapshot();
+    }
+
+    public Map<TrialPhase, Long> getPhaseNanos() {
+        Map<TrialPhase, Long> totals = new EnumMap<>(TrialPhase.class);
+        for (TrialPhase phase : TrialPhase.values()) {
+            totals.put(phase, getPhaseNanos(phase));
+        }
+        return totals;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TrialStatistics{trials=%d, failed=%d, guilty=%d, notGuilty=%d, witnesses=%d, "
+                        + "evidenceAccepted=%d, evidenceRejected=%d, appealsFiled=%d, appealsRejected=%d, "
+                        + "phaseNanos=%s}",
+                getTrialCount(), getFailedTrialCount(), getGuiltyCount(), getNotGuiltyCount(), getWitnessesExamined(),
+                getEvidenceAccepted(), getEvidenceRejected(), getAppealsFiled(), getAppealsRejected(),
+                getPhaseNanos());
+    }
+}
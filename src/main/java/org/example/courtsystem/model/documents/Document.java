@@ -1,11 +1,20 @@
 package org.example.courtsystem.model.documents;
 
+import org.example.courtsystem.storage.ContentHandle;
+
 // Abstract Document: represents any legal document (e.g., LegalDocument, Verdict)
 public abstract class Document {
     protected String title;
+    // Handle to the body in the shared content store; null for documents without a body
+    protected final ContentHandle contentHandle;
 
     public Document(String title) {
+        this(title, null);
+    }
+
+    public Document(String title, ContentHandle contentHandle) {
         this.title = title;
+        this.contentHandle = contentHandle;
     }
 
     // Add getter for title
@@ -13,5 +22,18 @@ public abstract class Document {
         return title;
     }
 
+    public ContentHandle getContentHandle() {
+        return contentHandle;
+    }
+
+    public boolean hasContent() {
+        return contentHandle != null;
+    }
+
+    // Body is decompressed on every call, so only readers pay for it
+    public String getContent() {
+        return contentHandle != null ? contentHandle.resolve() : "";
+    }
+
     public abstract void submit();
-}
\ No newline at end of file
+}
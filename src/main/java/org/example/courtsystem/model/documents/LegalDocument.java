@@ -1,9 +1,11 @@
 package org.example.courtsystem.model.documents;
 
+import org.example.courtsystem.storage.DocumentContentStore;
+
 // LegalDocument represents a general court document
 public class LegalDocument extends Document {
     public LegalDocument(String title, String content) {
-        super(title);
+        super(title, content != null ? DocumentContentStore.getInstance().store(content) : null);
     }
 
     // Overrides submit() to provide concrete document submission logic
@@ -11,4 +13,4 @@ public class LegalDocument extends Document {
     public void submit() {
         System.out.println("Document \"" + title + "\" submitted to the court.");
     }
-}
\ No newline at end of file
+}
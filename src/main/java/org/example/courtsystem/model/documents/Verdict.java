@@ -7,6 +7,7 @@ import org.apache.logging.log4j.Logger;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
 
 // Represents the final verdict in a legal case with appeal functionality.
 // Extends Document and implements Appealable interface.
@@ -17,19 +18,45 @@ public class Verdict extends Document implements Appealable {
     private final LocalDate date;
     private static final int APPEAL_DEADLINE_DAYS = 30;
     private static final String[] APPEALABLE_RESULTS = {"GUILTY", "ERROR", "MISTRIAL"};
+    // Shared sequence so verdicts issued on the same day still get distinct titles
+    private static final AtomicLong ID_SEQUENCE = new AtomicLong();
+
+    private final long verdictId;
+    // Null for verdicts not issued by a court, e.g. ones loaded from records
+    private volatile AppealListener appealListener;
+
+    // Told whether each appeal against the verdict was filed or rejected
+    @FunctionalInterface
+    public interface AppealListener {
+        void appealDecided(Verdict verdict, boolean filed);
+    }
 
     // Creates a new Verdict instance
     public Verdict(String result) {
-        super("VERDICT_" + LocalDate.now().format(DateTimeFormatter.ISO_DATE));
+        this(result, LocalDate.now());
+    }
+
+    // Creates a verdict issued on a given date (e.g. when loading past records)
+    public Verdict(String result, LocalDate date) {
+        this(result, date, ID_SEQUENCE.incrementAndGet());
+    }
+
+    private Verdict(String result, LocalDate date, long verdictId) {
+        super("VERDICT_" + (date != null ? date.format(DateTimeFormatter.ISO_DATE) : "") + "_" + verdictId);
 
         if (result == null || result.trim().isEmpty()) {
             logger.error("Attempt to create verdict with empty result");
             throw new IllegalArgumentException("Verdict result cannot be empty");
         }
+        if (date == null) {
+            throw new IllegalArgumentException("Verdict date cannot be null");
+        }
 
         this.result = result.trim().toUpperCase();
-        this.date = LocalDate.now();
-        logger.info("New verdict created: {} - {}", this.title, this.result);
+        this.date = date;
+        this.verdictId = verdictId;
+        // Court already announces the result, so this is only needed when debugging
+        logger.debug("New verdict created: {} - {}", this.title, this.result);
     }
 
     // Submits verdict to court records
@@ -44,6 +71,21 @@ public class Verdict extends Document implements Appealable {
         return result;
     }
 
+    // Gets the unique verdict id
+    public long getVerdictId() {
+        return verdictId;
+    }
+
+    // Gets the date the verdict was issued
+    public LocalDate getDate() {
+        return date;
+    }
+
+    // Set by the court that issued the verdict so it can count appeals
+    public void setAppealListener(AppealListener appealListener) {
+        this.appealListener = appealListener;
+    }
+
     // Calculates appeal deadline
     public LocalDate getAppealDeadline() {
         LocalDate deadline = date.plusDays(APPEAL_DEADLINE_DAYS);
@@ -57,21 +99,31 @@ public class Verdict extends Document implements Appealable {
         logger.info("\n=== APPEAL PROCESS INITIATED ===");
 
         if (!hasGroundsForAppeal()) {
+            notifyAppeal(false);
             logger.error("No legal grounds for appeal");
             throw new AppealFailedException(title, "No legal grounds for appeal");
         }
 
         if (LocalDate.now().isAfter(getAppealDeadline())) {
+            notifyAppeal(false);
             logger.error("Appeal deadline passed");
             throw new AppealFailedException(title, "Appeal deadline passed");
         }
 
+        notifyAppeal(true);
         logger.info("Verdict: {}", verdict);
         logger.info("Appeal must be filed by: {}", getAppealDeadline());
         logger.debug("Preparing appellate brief...");
         logger.debug("Contacting appeals court clerk...");
     }
 
+    private void notifyAppeal(boolean filed) {
+        AppealListener listener = appealListener;
+        if (listener != null) {
+            listener.appealDecided(this, filed);
+        }
+    }
+
     // Checks if verdict can be appealed
     @Override
     public boolean hasGroundsForAppeal() {
@@ -2,6 +2,7 @@ package org.example.courtsystem.model.people;
 
 import org.example.courtsystem.exceptions.InvalidEvidenceException;
 import org.example.courtsystem.interfaces.EvidenceValidator;
+import org.example.courtsystem.metrics.events.EvidenceValidationEvent;
 import org.example.courtsystem.model.cases.Evidence;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -49,14 +50,22 @@ public class Judge extends CourtMember implements EvidenceValidator {
     // Evaluates the credibility of evidence and witnesses
     public boolean considerEvidence(List<Evidence> evidence, List<Witness> witnesses)
             throws InvalidEvidenceException {
+        return considerEvidence(evidence, witnesses, true);
+    }
+
+    // Same evaluation; with narrate=false nothing is logged at INFO (used by headless trials)
+    public boolean considerEvidence(List<Evidence> evidence, List<Witness> witnesses, boolean narrate)
+            throws InvalidEvidenceException {
         // Validate inputs
         if (evidence == null || witnesses == null) {
             logger.error("Invalid input: evidence or witnesses list is null");
             throw new IllegalArgumentException("Evidence and witnesses cannot be null");
         }
 
-        logger.info("Judge {} reviewing {} evidence items and {} witnesses...",
-                name, evidence.size(), witnesses.size());
+        if (narrate) {
+            logger.info("Judge {} reviewing {} evidence items and {} witnesses...",
+                    name, evidence.size(), witnesses.size());
+        }
 
         // Process and validate all evidence
         for (Evidence ev : evidence) {
@@ -68,7 +77,9 @@ public class Judge extends CourtMember implements EvidenceValidator {
         double randomFactor = Math.random() * 0.3; // Simulates judicial discretion
         boolean finalDecision = isCredible && (0.7 + randomFactor) > 0.8;
 
-        logger.info("Evidence credibility assessment: {}", finalDecision);
+        if (narrate) {
+            logger.info("Evidence credibility assessment: {}", finalDecision);
+        }
         return finalDecision;
     }
 
@@ -86,6 +97,20 @@ public class Judge extends CourtMember implements EvidenceValidator {
     // Verification logic (e.g., whether the document is forged)
     @Override
     public boolean validateEvidence(Evidence evidence) throws InvalidEvidenceException {
+        EvidenceValidationEvent event = new EvidenceValidationEvent();
+        event.begin();
+        try {
+            boolean valid = checkEvidence(evidence);
+            event.complete("Judge", evidence,
+                    valid ? EvidenceValidationEvent.ACCEPTED : EvidenceValidationEvent.REJECTED, null);
+            return valid;
+        } catch (InvalidEvidenceException e) {
+            event.complete("Judge", evidence, EvidenceValidationEvent.INVALID, e.getMessage());
+            throw e;
+        }
+    }
+
+    private boolean checkEvidence(Evidence evidence) throws InvalidEvidenceException {
         if (evidence == null) {
             logger.error("Null evidence provided for validation");
             throw new InvalidEvidenceException("null");
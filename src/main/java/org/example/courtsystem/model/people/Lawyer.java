@@ -36,7 +36,7 @@ public class Lawyer extends CourtMember implements Defendable {
             throw new IllegalArgumentException("Client and case cannot be null");
         }
 
-        if (this.experience < MIN_EXPERIENCE_FOR_COMPLEX_CASES && courtCase.isComplex()) {
+        if (!canHandle(courtCase)) {
             logger.warn("Lawyer {} lacks experience for complex case", name);
             throw new LawyerUnavailableException(name, "Insufficient experience for complex case");
         }
@@ -44,6 +44,19 @@ public class Lawyer extends CourtMember implements Defendable {
         logger.info("{} defends {} in case: {}", name, client.getName(), courtCase.getTitle());
     }
 
+    // Whether defend() would accept the case on experience grounds
+    public boolean canHandle(ConcreteCase courtCase) {
+        return !courtCase.isComplex() || canHandleComplexCases();
+    }
+
+    public boolean canHandleComplexCases() {
+        return experience >= MIN_EXPERIENCE_FOR_COMPLEX_CASES;
+    }
+
+    public int getExperience() {
+        return experience;
+    }
+
     // Sets lawyer's experience
     public void setExperience(int experience) {
         if (experience < 0) {
@@ -99,6 +112,15 @@ public class Lawyer extends CourtMember implements Defendable {
         return name.equals(other.name) && experience == other.experience;
     }
 
+    // Same fields as equals(), copied because experience can change later
+    @Override
+    Object registryKey() {
+        return new RegistryKey(name, experience);
+    }
+
+    private record RegistryKey(String name, int experience) {
+    }
+
     // Generates hash code
     @Override
     public int hashCode() {
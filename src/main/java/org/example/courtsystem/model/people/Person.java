@@ -2,7 +2,11 @@ package org.example.courtsystem.model.people;
 
 // Abstract Person: base class for all individuals involved in the legal process (Lawyer, Client, Witness, Judge)
 public abstract class Person {
+    public static final int UNREGISTERED = -1;
+
     protected String name;
+    // Dense id assigned by PersonRegistry
+    private volatile int personId = UNREGISTERED;
 
     public Person(String name) {
         this.name = name;
@@ -12,5 +16,21 @@ public abstract class Person {
         return name;
     }
 
+    public int getPersonId() {
+        return personId;
+    }
+
+    void assignPersonId(int personId) {
+        this.personId = personId;
+    }
+
+    // Key under which PersonRegistry merges people that are equal to each other.
+    // Must agree with equals and must not change later. The default is the person
+    // itself, which is right when equals uses only final state (Client's name) or
+    // is not overridden at all (every Witness and Judge is its own person).
+    Object registryKey() {
+        return this;
+    }
+
     public abstract String getRole();
 }
\ No newline at end of file
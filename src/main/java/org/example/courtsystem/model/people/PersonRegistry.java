@@ -0,0 +1,108 @@
+package org.example.courtsystem.model.people;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Canonical registry of people involved in cases.
+// People that are equal by their own class's equals get one canonical Person
+// (so two lawyers with the same name but different experience stay apart, and
+// witnesses, which have no equality of their own, are never merged) and a
+// dense int id starting at 0,
+// so other components can key primitive arrays, int maps and bitsets by
+// getPersonId() instead of hashing names through equals/hashCode.
+// Registration is safe from many threads; ids stay gap-free because they are
+// only allocated inside the map's atomic computeIfAbsent.
+public class PersonRegistry {
+    private static final Logger logger = LogManager.getLogger(PersonRegistry.class);
+    private static final PersonRegistry INSTANCE = new PersonRegistry();
+
+    private static final int CHUNK_BITS = 12;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int MAX_CHUNKS = 1 << 16;
+
+    // Keyed by Person.registryKey(), taken once at registration
+    private final Map<Object, Integer> ids = new ConcurrentHashMap<>();
+    // id -> canonical person, in lazily allocated chunks so reads need no lock
+    private final AtomicReferenceArray<AtomicReferenceArray<Person>> chunks =
+            new AtomicReferenceArray<>(MAX_CHUNKS);
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    private PersonRegistry() {
+    }
+
+    public static PersonRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    // Registers the person, or returns the id of the canonical person equal to it.
+    // The passed object is stamped with that id either way.
+    public int register(Person person) {
+        if (person == null || person.getName() == null) {
+            throw new IllegalArgumentException("Person and name cannot be null");
+        }
+        int known = person.getPersonId();
+        if (known != Person.UNREGISTERED) {
+            return known;
+        }
+        int id = ids.computeIfAbsent(person.registryKey(), key -> {
+            int assigned = nextId.getAndIncrement();
+            store(assigned, person);
+            return assigned;
+        });
+        person.assignPersonId(id);
+        return id;
+    }
+
+    // Returns the canonical instance for the person, registering it if new
+    @SuppressWarnings("unchecked")
+    public <P extends Person> P canonical(P person) {
+        return (P) get(register(person));
+    }
+
+    public Person get(int id) {
+        if (id < 0 || id >= nextId.get()) {
+            throw new IndexOutOfBoundsException("Unknown person id " + id);
+        }
+        AtomicReferenceArray<Person> chunk = chunks.get(id >>> CHUNK_BITS);
+        Person person = chunk == null ? null : chunk.get(id & (CHUNK_SIZE - 1));
+        if (person == null) {
+            // Allocated by a registration that is still publishing
+            throw new IllegalStateException("Person " + id + " is not yet published");
+        }
+        return person;
+    }
+
+    public <P extends Person> P get(int id, Class<P> type) {
+        return type.cast(get(id));
+    }
+
+    // Id of the canonical person equal to the given one, or Person.UNREGISTERED
+    public int lookup(Person person) {
+        Integer id = ids.get(person.registryKey());
+        return id == null ? Person.UNREGISTERED : id;
+    }
+
+    // Upper bound for arrays indexed by person id
+    public int size() {
+        return nextId.get();
+    }
+
+    private void store(int id, Person person) {
+        int chunkIndex = id >>> CHUNK_BITS;
+        if (chunkIndex >= MAX_CHUNKS) {
+            logger.error("Person registry is full at {} entries", id);
+            throw new IllegalStateException("Person registry is full");
+        }
+        AtomicReferenceArray<Person> chunk = chunks.get(chunkIndex);
+        if (chunk == null) {
+            chunks.compareAndSet(chunkIndex, null, new AtomicReferenceArray<>(CHUNK_SIZE));
+            chunk = chunks.get(chunkIndex);
+        }
+        chunk.set(id & (CHUNK_SIZE - 1), person);
+    }
+}
@@ -20,6 +20,19 @@ public class Witness extends Person {
         this(name, "I saw what happened");
     }
 
+    private Witness(String name, String testimony, int witnessId) {
+        super(name);
+        this.testimony = testimony != null ? testimony : "No testimony provided";
+        this.witnessId = witnessId;
+    }
+
+    // Recreates a witness from stored records with the id it had back then.
+    // Does not take an id from the pool, so restoring an archive with more than
+    // 1000 witnesses works; a new witness may get a number a restored one had.
+    public static Witness restore(String name, String testimony, int witnessId) {
+        return new Witness(name, testimony, witnessId);
+    }
+
     private int generateUniqueId() {
         if (usedIds.size() >= 1000) {
             throw new IllegalStateException("No more available witness IDs");
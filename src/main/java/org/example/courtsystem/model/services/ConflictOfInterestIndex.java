@@ -0,0 +1,271 @@
+package org.example.courtsystem.model.services;
+
+import org.example.courtsystem.custom.collections.BloomFilter;
+import org.example.courtsystem.custom.collections.LongHashSet;
+import org.example.courtsystem.generics.LegalPair;
+import org.example.courtsystem.model.court.LawFirm;
+import org.example.courtsystem.model.people.Client;
+import org.example.courtsystem.model.people.Lawyer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Index of lawyer-client relationships for conflict-of-interest checks.
+// Assigning lawyer L to client C conflicts when L, or any lawyer of L's firm,
+// has represented a party adverse to C. Representations are stored as
+// (representative, client) edges in an exact LongHashSet behind a Bloom filter,
+// so the usual no-conflict answer costs a few bit probes per known adversary
+// and only Bloom hits are confirmed against the exact set.
+// People are keyed by name, matching Client.equals().
+public class ConflictOfInterestIndex {
+    private static final Logger logger = LogManager.getLogger(ConflictOfInterestIndex.class);
+    private static final int NONE = -1;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> clientIds = new HashMap<>();
+    private final List<String> clientNames = new ArrayList<>();
+    // Lawyers and firms share one id space of "representatives"
+    private final Map<String, Integer> representativeIds = new HashMap<>();
+    private final Map<Integer, Integer> firmOfLawyer = new HashMap<>();
+    // Growable int arrays; element 0 holds the count
+    private final Map<Integer, int[]> clientsOfLawyer = new HashMap<>();
+    private final Map<Integer, int[]> adversaries = new HashMap<>();
+    private final BloomFilter edgeFilter;
+    private final LongHashSet edges;
+
+    private final LongAdder checks = new LongAdder();
+    // Checks answered before the Bloom filter: unknown lawyer or no adversaries
+    private final LongAdder trivialClears = new LongAdder();
+    private final LongAdder bloomCleared = new LongAdder();
+    private final LongAdder exactLookups = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    public enum ConflictKind {
+        // The lawyer has represented the opposing party
+        DIRECT,
+        // Another lawyer of the same firm has represented the opposing party
+        FIRM
+    }
+
+    public record Conflict(String lawyer, String client, String opposingParty, ConflictKind kind) {
+        @Override
+        public String toString() {
+            return kind == ConflictKind.DIRECT
+                    ? lawyer + " has represented " + opposingParty + ", who is adverse to " + client
+                    : lawyer + "'s firm has represented " + opposingParty + ", who is adverse to " + client;
+        }
+    }
+
+    public record Stats(long checks, long trivialClears, long bloomCleared, long exactLookups, long falsePositives,
+                        int representations, double bloomFalsePositiveRate) {
+    }
+
+    public ConflictOfInterestIndex() {
+        this(1_000_000);
+    }
+
+    public ConflictOfInterestIndex(int expectedRepresentations) {
+        // Each representation adds a lawyer edge and usually a firm edge
+        this.edgeFilter = new BloomFilter(2L * expectedRepresentations, 0.01);
+        this.edges = new LongHashSet(2 * expectedRepresentations);
+    }
+
+    public void addFirmMember(LawFirm firm, Lawyer lawyer) {
+        lock.writeLock().lock();
+        try {
+            int firmId = representativeId("F:" + firm.getName());
+            int lawyerId = representativeId("L:" + lawyer.getName());
+            Integer previous = firmOfLawyer.put(lawyerId, firmId);
+            if (previous != null && previous != firmId) {
+                logger.warn("{} moved firms; earlier firm keeps their past clients", lawyer.getName());
+            }
+            // The firm inherits the lawyer's existing clients
+            int[] clients = clientsOfLawyer.get(lawyerId);
+            if (clients != null) {
+                for (int i = 1; i <= clients[0]; i++) {
+                    addEdge(firmId, clients[i]);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void recordRepresentation(LegalPair<? extends Lawyer, ? extends Client> pair) {
+        lock.writeLock().lock();
+        try {
+            addRepresentation(pair.lawyer(), pair.client());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Records that two clients are on opposite sides of a matter
+    public void recordAdverse(Client first, Client second) {
+        if (first.equals(second)) {
+            throw new IllegalArgumentException("A client cannot be adverse to themselves");
+        }
+        lock.writeLock().lock();
+        try {
+            int a = clientId(first.getName());
+            int b = clientId(second.getName());
+            if (!contains(adversaries.get(a), b)) {
+                adversaries.put(a, append(adversaries.get(a), b));
+                adversaries.put(b, append(adversaries.get(b), a));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean hasConflict(Lawyer lawyer, Client client) {
+        return findConflict(lawyer, client).isPresent();
+    }
+
+    public Optional<Conflict> findConflict(Lawyer lawyer, Client client) {
+        lock.readLock().lock();
+        try {
+            return lookup(lawyer, client);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Records the pair only if it is conflict-free; returns the conflict otherwise
+    public Optional<Conflict> recordIfClear(LegalPair<? extends Lawyer, ? extends Client> pair) {
+        lock.writeLock().lock();
+        try {
+            Optional<Conflict> conflict = lookup(pair.lawyer(), pair.client());
+            if (conflict.isEmpty()) {
+                addRepresentation(pair.lawyer(), pair.client());
+            }
+            return conflict;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Stats getStats() {
+        lock.readLock().lock();
+        try {
+            return new Stats(checks.sum(), trivialClears.sum(), bloomCleared.sum(), exactLookups.sum(),
+                    falsePositives.sum(), edges.size(), edgeFilter.expectedFalsePositiveRate());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Optional<Conflict> lookup(Lawyer lawyer, Client client) {
+        checks.increment();
+        Integer clientId = clientIds.get(client.getName());
+        Integer lawyerId = representativeIds.get("L:" + lawyer.getName());
+        int[] opposing = clientId == null ? null : adversaries.get(clientId);
+        if (lawyerId == null || opposing == null) {
+            trivialClears.increment();
+            return Optional.empty();
+        }
+        int firmId = firmOfLawyer.getOrDefault(lawyerId, NONE);
+        boolean bloomHit = false;
+        for (int i = 1; i <= opposing[0]; i++) {
+            int opponent = opposing[i];
+            long lawyerEdge = edge(lawyerId, opponent);
+            if (edgeFilter.mightContain(lawyerEdge)) {
+                bloomHit = true;
+                exactLookups.increment();
+                if (edges.contains(lawyerEdge)) {
+                    return Optional.of(conflict(lawyer, client, opponent, ConflictKind.DIRECT));
+                }
+            }
+            if (firmId != NONE) {
+                long firmEdge = edge(firmId, opponent);
+                if (edgeFilter.mightContain(firmEdge)) {
+                    bloomHit = true;
+                    exactLookups.increment();
+                    if (edges.contains(firmEdge)) {
+                        return Optional.of(conflict(lawyer, client, opponent, ConflictKind.FIRM));
+                    }
+                }
+            }
+        }
+        if (bloomHit) {
+            falsePositives.increment();
+        } else {
+            bloomCleared.increment();
+        }
+        return Optional.empty();
+    }
+
+    private Conflict conflict(Lawyer lawyer, Client client, int opponent, ConflictKind kind) {
+        return new Conflict(lawyer.getName(), client.getName(), clientNames.get(opponent), kind);
+    }
+
+    private void addRepresentation(Lawyer lawyer, Client client) {
+        int lawyerId = representativeId("L:" + lawyer.getName());
+        int clientId = clientId(client.getName());
+        if (addEdge(lawyerId, clientId)) {
+            clientsOfLawyer.put(lawyerId, append(clientsOfLawyer.get(lawyerId), clientId));
+        }
+        Integer firmId = firmOfLawyer.get(lawyerId);
+        if (firmId != null) {
+            addEdge(firmId, clientId);
+        }
+    }
+
+    private boolean addEdge(int representativeId, int clientId) {
+        long edge = edge(representativeId, clientId);
+        if (edges.add(edge)) {
+            edgeFilter.add(edge);
+            return true;
+        }
+        return false;
+    }
+
+    private int representativeId(String key) {
+        return representativeIds.computeIfAbsent(key, k -> representativeIds.size());
+    }
+
+    private int clientId(String name) {
+        Integer id = clientIds.get(name);
+        if (id == null) {
+            id = clientNames.size();
+            clientIds.put(name, id);
+            clientNames.add(name);
+        }
+        return id;
+    }
+
+    private static long edge(int representativeId, int clientId) {
+        return ((long) representativeId << 32) | (clientId & 0xFFFFFFFFL);
+    }
+
+    private static int[] append(int[] values, int value) {
+        if (values == null) {
+            values = new int[4];
+        } else if (values[0] + 1 == values.length) {
+            values = Arrays.copyOf(values, values.length * 2);
+        }
+        values[++values[0]] = value;
+        return values;
+    }
+
+    private static boolean contains(int[] values, int value) {
+        if (values == null) {
+            return false;
+        }
+        for (int i = 1; i <= values[0]; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
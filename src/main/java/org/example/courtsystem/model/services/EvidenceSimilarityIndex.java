@@ -0,0 +1,226 @@
+package org.example.courtsystem.model.services;
+
+import org.example.courtsystem.custom.collections.LongHashSet;
+import org.example.courtsystem.custom.collections.MinHasher;
+import org.example.courtsystem.model.cases.Evidence;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Finds near-duplicate evidence across cases, e.g. "Email correspondence with
+// Jessica Pearson" and "Email correspondence w/ J. Pearson".
+// Descriptions are split into character shingles and MinHashed; the signature
+// is cut into bands of rows and each band is hashed into a bucket (LSH). Two
+// descriptions become candidates when they share a bucket in any band, which
+// happens with probability 1 - (1 - s^rows)^bands for Jaccard similarity s, so
+// a query only looks at a few buckets instead of the whole archive. Candidates
+// are confirmed with the exact Jaccard similarity of their shingle sets.
+// Bands and rows are chosen so the LSH curve rises just below the threshold.
+public class EvidenceSimilarityIndex {
+    private static final Logger logger = LogManager.getLogger(EvidenceSimilarityIndex.class);
+    public static final double DEFAULT_THRESHOLD = 0.55;
+    private static final int DEFAULT_SHINGLE_SIZE = 3;
+    private static final int DEFAULT_HASH_COUNT = 128;
+    private static final long SEED = 0x5EED_E71DL;
+
+    private final double threshold;
+    private final MinHasher hasher;
+    private final int bands;
+    private final int rows;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<IndexedEvidence> entries = new ArrayList<>();
+    private final List<long[]> shingleSets = new ArrayList<>();
+    // One map per band from band hash to entry ids; element 0 holds the count
+    private final List<Map<Long, int[]>> buckets;
+
+    private final LongAdder queries = new LongAdder();
+    private final LongAdder candidates = new LongAdder();
+    private final LongAdder matches = new LongAdder();
+
+    public record IndexedEvidence(int id, String caseTitle, int position, Evidence evidence) {
+    }
+
+    public record Match(IndexedEvidence evidence, double similarity) {
+    }
+
+    public record Stats(int indexed, int bands, int rows, long queries, long candidates, long matches) {
+    }
+
+    public EvidenceSimilarityIndex() {
+        this(DEFAULT_THRESHOLD);
+    }
+
+    public EvidenceSimilarityIndex(double threshold) {
+        this(threshold, DEFAULT_SHINGLE_SIZE, DEFAULT_HASH_COUNT);
+    }
+
+    public EvidenceSimilarityIndex(double threshold, int shingleSize, int hashCount) {
+        if (threshold <= 0 || threshold > 1) {
+            throw new IllegalArgumentException("Similarity threshold must be in (0, 1]");
+        }
+        this.threshold = threshold;
+        this.hasher = new MinHasher(shingleSize, hashCount, SEED);
+        this.rows = rowsFor(threshold, hashCount);
+        this.bands = hashCount / rows;
+        this.buckets = new ArrayList<>(bands);
+        for (int i = 0; i < bands; i++) {
+            buckets.add(new HashMap<>());
+        }
+        logger.debug("Evidence similarity index: threshold {}, {} bands of {} rows", threshold, bands, rows);
+    }
+
+    // Indexes one evidence item of a case and returns its id
+    public int add(String caseTitle, int position, Evidence evidence) {
+        if (evidence == null) {
+            throw new IllegalArgumentException("Evidence cannot be null");
+        }
+        long[] shingles = hasher.shingles(evidence.description());
+        long[] bandHashes = bandHashes(hasher.signature(shingles));
+
+        lock.writeLock().lock();
+        try {
+            int id = entries.size();
+            entries.add(new IndexedEvidence(id, caseTitle, position, evidence));
+            shingleSets.add(shingles);
+            for (int band = 0; band < bands; band++) {
+                Map<Long, int[]> bucket = buckets.get(band);
+                int[] ids = bucket.get(bandHashes[band]);
+                int[] grown = append(ids, id);
+                if (grown != ids) {
+                    bucket.put(bandHashes[band], grown);
+                }
+            }
+            return id;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Indexed evidence whose description is at least threshold-similar, most similar first
+    public List<Match> findSimilar(String description) {
+        if (description == null) {
+            throw new IllegalArgumentException("Description cannot be null");
+        }
+        long[] shingles = hasher.shingles(description);
+        long[] bandHashes = bandHashes(hasher.signature(shingles));
+        lock.readLock().lock();
+        try {
+            return collect(shingles, bandHashes, -1);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Match> findSimilar(Evidence evidence) {
+        return findSimilar(evidence.description());
+    }
+
+    // Near duplicates of an indexed item, excluding the item itself
+    public List<Match> findDuplicatesOf(int id) {
+        lock.readLock().lock();
+        try {
+            long[] shingles = shingleSets.get(id);
+            return collect(shingles, bandHashes(hasher.signature(shingles)), id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public IndexedEvidence get(int id) {
+        lock.readLock().lock();
+        try {
+            return entries.get(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public double getThreshold() {
+        return threshold;
+    }
+
+    public Stats getStats() {
+        return new Stats(size(), bands, rows, queries.sum(), candidates.sum(), matches.sum());
+    }
+
+    // Caller holds the read lock
+    private List<Match> collect(long[] shingles, long[] bandHashes, int exclude) {
+        queries.increment();
+        LongHashSet seen = new LongHashSet();
+        List<Match> found = new ArrayList<>();
+        for (int band = 0; band < bands; band++) {
+            int[] ids = buckets.get(band).get(bandHashes[band]);
+            if (ids == null) {
+                continue;
+            }
+            for (int i = 1; i <= ids[0]; i++) {
+                int id = ids[i];
+                if (id == exclude || !seen.add(id)) {
+                    continue;
+                }
+                candidates.increment();
+                double similarity = MinHasher.jaccard(shingles, shingleSets.get(id));
+                if (similarity >= threshold) {
+                    found.add(new Match(entries.get(id), similarity));
+                }
+            }
+        }
+        matches.add(found.size());
+        found.sort(Comparator.comparingDouble(Match::similarity).reversed());
+        return found;
+    }
+
+    private long[] bandHashes(int[] signature) {
+        long[] hashes = new long[bands];
+        for (int band = 0; band < bands; band++) {
+            long h = band;
+            for (int row = band * rows; row < (band + 1) * rows; row++) {
+                h = h * 0x100000001B3L + signature[row];
+            }
+            hashes[band] = h;
+        }
+        return hashes;
+    }
+
+    // Largest row count whose LSH threshold (1/bands)^(1/rows) stays 10% below
+    // the similarity threshold, so true matches are rarely missed
+    static int rowsFor(double threshold, int hashCount) {
+        int best = 1;
+        for (int r = 1; r <= hashCount; r++) {
+            int b = hashCount / r;
+            if (Math.pow(1.0 / b, 1.0 / r) <= threshold * 0.9) {
+                best = r;
+            }
+        }
+        return best;
+    }
+
+    private static int[] append(int[] values, int value) {
+        if (values == null) {
+            values = new int[4];
+        } else if (values[0] + 1 == values.length) {
+            values = Arrays.copyOf(values, values.length * 2);
+        }
+        values[++values[0]] = value;
+        return values;
+    }
+}
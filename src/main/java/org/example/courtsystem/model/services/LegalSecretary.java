@@ -2,36 +2,138 @@ package org.example.courtsystem.model.services;
 
 import org.example.courtsystem.exceptions.DocumentProcessingException;
 import org.example.courtsystem.interfaces.DocumentDraftable;
+import org.example.courtsystem.metrics.events.NotarizationEvent;
 import org.example.courtsystem.model.documents.Document;
 import org.example.courtsystem.model.documents.LegalDocument;
+import org.example.courtsystem.notary.BatchNotary;
+import org.example.courtsystem.notary.NotarizationReceipt;
+import org.example.courtsystem.notary.NotarizedBatch;
+import org.example.courtsystem.storage.CourtWriteAheadLog;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.LinkedList;
-import java.util.Queue;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 public class LegalSecretary implements DocumentDraftable {
     private static final Logger logger = LogManager.getLogger(LegalSecretary.class);
-    private static final String NOTARY_SEAL = "OFFICIAL_SEAL_2023";
-    private final Queue<Document> documentQueue = new LinkedList<>();
+    // Name shown on sealed documents; not secret and not used for the seal MAC
+    private static final String NOTARY_SEAL_NAME = "OFFICIAL_SEAL_2023";
+    public static final int DEFAULT_QUEUE_CAPACITY = 1000;
+    // Bounded so that filing clerks are slowed down when notarization falls behind
+    private final BlockingQueue<QueuedDocument> documentQueue;
+    // Holds the secret seal key; the key itself is never logged or exposed
+    private final BatchNotary batchNotary;
+    // Null when the queue is not persisted
+    private volatile CourtWriteAheadLog writeAheadLog;
 
-    // Adds document to processing queue and logs the action
+    // A document taken from the queue. queueId identifies it in the write-ahead
+    // log (0 if it was not logged) and is passed back to acknowledge() once the
+    // document has been dealt with.
+    public record QueuedDocument(Document doc, long queueId) {
+    }
+
+    public LegalSecretary() {
+        this(DEFAULT_QUEUE_CAPACITY);
+    }
+
+    // Seals with a random per-instance key, so receipts verify only against this secretary
+    public LegalSecretary(int queueCapacity) {
+        this(queueCapacity, BatchNotary.generateKey());
+    }
+
+    // Seals with the given key, e.g. one read with BatchNotary.loadKey
+    public LegalSecretary(int queueCapacity, byte[] notaryKey) {
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("Queue capacity must be positive");
+        }
+        this.documentQueue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchNotary = new BatchNotary(notaryKey);
+    }
+
+    // Adds document to processing queue and logs the action.
+    // Blocks while the queue is full.
     public void addToQueue(Document doc) throws DocumentProcessingException {
         if (doc == null) {
             throw new DocumentProcessingException("null", "Cannot add null document to queue");
         }
-        documentQueue.add(doc);
+        long queueId = logQueued(doc);
+        try {
+            documentQueue.put(new QueuedDocument(doc, queueId));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logWithdrawn(doc, queueId);
+            throw new DocumentProcessingException(doc.getTitle(), "Interrupted while waiting for queue space");
+        }
         logger.info("Added document to queue: {} (Queue size: {})",
                 doc.getTitle(), documentQueue.size());
     }
 
-    // Processes the next document in queue
+    // Adds document to queue, waiting at most the given time for space.
+    // Returns false if the queue stayed full.
+    public boolean offerToQueue(Document doc, long timeout, TimeUnit unit) throws DocumentProcessingException {
+        if (doc == null) {
+            throw new DocumentProcessingException("null", "Cannot add null document to queue");
+        }
+        long queueId = logQueued(doc);
+        try {
+            boolean added = documentQueue.offer(new QueuedDocument(doc, queueId), timeout, unit);
+            if (!added) {
+                logWithdrawn(doc, queueId);
+                logger.warn("Queue full, document not accepted: {}", doc.getTitle());
+            }
+            return added;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logWithdrawn(doc, queueId);
+            throw new DocumentProcessingException(doc.getTitle(), "Interrupted while waiting for queue space");
+        }
+    }
+
+    // Moves up to maxBatch queued documents into batch, waiting at most the given
+    // time for the first one. Returns the number of documents taken.
+    // The documents stay logged as queued until they are passed to acknowledge(),
+    // so a crash before then recovers them.
+    public int takeBatch(Collection<QueuedDocument> batch, int maxBatch, long timeout, TimeUnit unit)
+            throws InterruptedException {
+        QueuedDocument first = documentQueue.poll(timeout, unit);
+        if (first == null) {
+            return 0;
+        }
+        batch.add(first);
+        return 1 + documentQueue.drainTo(batch, maxBatch - 1);
+    }
+
+    // Logs taken documents as done. Documents that failed are simply not passed
+    // here: they stay queued in the log and are retried after a restart.
+    public void acknowledge(Collection<QueuedDocument> processed) {
+        try {
+            logDequeued(processed);
+        } catch (IOException e) {
+            // Workers cannot go on once the log has failed
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Processes the next document in queue. It is logged as dequeued only once
+    // notarized; if notarization fails it stays queued in the log.
     public Document processNextDocument() throws DocumentProcessingException {
-        if (documentQueue.isEmpty()) {
+        QueuedDocument queued = documentQueue.poll();
+        if (queued == null) {
             throw new DocumentProcessingException("Queue empty", "No documents to process");
         }
-        Document doc = documentQueue.poll();
+        Document doc = queued.doc();
         notarizeDocument(doc);
+        try {
+            logDequeued(List.of(queued));
+        } catch (IOException e) {
+            throw new DocumentProcessingException(doc.getTitle(), "Could not persist dequeue: " + e.getMessage());
+        }
         logger.info("Processed document: {}", doc.getTitle());
         return doc;
     }
@@ -51,15 +153,85 @@ public class LegalSecretary implements DocumentDraftable {
             content = "[NO CONTENT]";
         }
 
-        String fullTitle = "[DRAFT] " + title + ": " + content;
+        // Body goes to the content store; the title stays short
+        String fullTitle = "[DRAFT] " + title;
         Document doc = new LegalDocument(fullTitle, content);
         addToQueue(doc); // Тепер метод використовується
         return doc;
     }
 
+    // Sets the write-ahead log that queue changes are persisted to; null disables it.
+    // A document is logged before it enters the queue, so once the call that
+    // added it returns it survives a crash.
+    public void setWriteAheadLog(CourtWriteAheadLog writeAheadLog) {
+        this.writeAheadLog = writeAheadLog;
+    }
+
+    // Puts a document recovered from the write-ahead log back into the queue
+    // under its original queue id, without logging it again. Never blocks:
+    // fails if the queue was created smaller than the recovered backlog.
+    public void restoreQueued(Document doc, long queueId) throws DocumentProcessingException {
+        if (doc == null) {
+            throw new DocumentProcessingException("null", "Cannot restore null document");
+        }
+        if (!documentQueue.offer(new QueuedDocument(doc, queueId))) {
+            throw new DocumentProcessingException(doc.getTitle(), "Queue capacity too small for recovered documents");
+        }
+    }
+
+    private long logQueued(Document doc) throws DocumentProcessingException {
+        CourtWriteAheadLog wal = writeAheadLog;
+        if (wal == null) {
+            return 0;
+        }
+        try {
+            return wal.documentQueued(doc);
+        } catch (IOException e) {
+            throw new DocumentProcessingException(doc.getTitle(), "Could not persist queued document: "
+                    + e.getMessage());
+        }
+    }
+
+    // A logged document that never made it into the queue
+    private void logWithdrawn(Document doc, long queueId) throws DocumentProcessingException {
+        try {
+            logDequeued(List.of(new QueuedDocument(doc, queueId)));
+        } catch (IOException e) {
+            throw new DocumentProcessingException(doc.getTitle(), "Could not persist withdrawn document: "
+                    + e.getMessage());
+        }
+    }
+
+    private void logDequeued(Collection<QueuedDocument> documents) throws IOException {
+        CourtWriteAheadLog wal = writeAheadLog;
+        if (wal == null) {
+            return;
+        }
+        long[] queueIds = new long[documents.size()];
+        int count = 0;
+        for (QueuedDocument queued : documents) {
+            if (queued.queueId() != 0) {
+                queueIds[count++] = queued.queueId();
+            }
+        }
+        wal.documentsDequeued(queueIds, count);
+    }
+
     // Notarizes a legal document
     @Override
     public void notarizeDocument(Document doc) throws DocumentProcessingException {
+        NotarizationEvent event = new NotarizationEvent();
+        event.begin();
+        try {
+            sealDocument(doc);
+        } catch (DocumentProcessingException e) {
+            event.complete(doc != null ? doc.getTitle() : null, 1, "FAILED");
+            throw e;
+        }
+        event.complete(doc.getTitle(), 1, "SEALED");
+    }
+
+    private void sealDocument(Document doc) throws DocumentProcessingException {
         logger.debug("Starting notarization process for: {}",
                 doc != null ? doc.getTitle() : "null document");
 
@@ -71,7 +243,48 @@ public class LegalSecretary implements DocumentDraftable {
             logger.warn("Document has empty title during notarization");
         }
 
-        logger.info("Applying notary seal {} to document: {}", NOTARY_SEAL, doc.getTitle());
+        logger.info("Applying notary seal {} to document: {}", NOTARY_SEAL_NAME, doc.getTitle());
+    }
+
+    // Notarizes a whole batch with one seal over the Merkle root of the document digests.
+    // Each document gets its own receipt with an inclusion proof.
+    public NotarizedBatch notarizeBatch(List<? extends Document> batch) throws DocumentProcessingException {
+        NotarizationEvent event = new NotarizationEvent();
+        event.begin();
+        try {
+            NotarizedBatch notarized = sealBatch(batch);
+            event.complete(batch.get(0).getTitle(), batch.size(), "SEALED");
+            return notarized;
+        } catch (DocumentProcessingException e) {
+            event.complete(null, batch != null ? batch.size() : 0, "FAILED");
+            throw e;
+        }
+    }
+
+    private NotarizedBatch sealBatch(List<? extends Document> batch) throws DocumentProcessingException {
+        if (batch == null || batch.isEmpty()) {
+            throw new DocumentProcessingException("Empty batch", "No documents to notarize");
+        }
+        for (Document doc : batch) {
+            if (doc == null) {
+                throw new DocumentProcessingException("null", "Null document in batch");
+            }
+        }
+
+        NotarizedBatch notarized = batchNotary.notarize(batch);
+        logger.info("Applying notary seal {} to batch of {} documents (root {})",
+                NOTARY_SEAL_NAME, notarized.size(), notarized.rootHex());
+        return notarized;
+    }
+
+    // Verifies that a document matches its receipt and the receipt's seal is genuine
+    public boolean verifyNotarization(Document doc, NotarizationReceipt receipt) {
+        boolean valid = batchNotary.verify(doc, receipt);
+        if (!valid) {
+            logger.warn("Notarization check failed for document: {}",
+                    doc != null ? doc.getTitle() : "null document");
+        }
+        return valid;
     }
 
     // Gets current queue size
@@ -79,9 +292,14 @@ public class LegalSecretary implements DocumentDraftable {
         return documentQueue.size();
     }
 
-    // Gets the current notary seal
+    // Gets the number of documents that can still be queued without blocking
+    public int getRemainingQueueCapacity() {
+        return documentQueue.remainingCapacity();
+    }
+
+    // Gets the display name of the notary seal (not the seal key)
     public static String getNotarySeal() {
         logger.trace("Accessing notary seal");
-        return NOTARY_SEAL;
+        return NOTARY_SEAL_NAME;
     }
 }
\ No newline at end of file
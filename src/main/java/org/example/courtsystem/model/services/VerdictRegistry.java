@@ -0,0 +1,122 @@
+package org.example.courtsystem.model.services;
+
+import org.example.courtsystem.custom.collections.HierarchicalTimingWheel;
+import org.example.courtsystem.model.documents.Verdict;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+// Registry of issued verdicts, indexed by id and result.
+// Open appeal windows are kept in a timing wheel keyed by deadline day, so
+// "which windows close today" only touches the verdicts that actually close.
+public class VerdictRegistry {
+    private static final Logger logger = LogManager.getLogger(VerdictRegistry.class);
+
+    private final Map<Long, Verdict> verdictsById = new HashMap<>();
+    private final Map<String, Set<Verdict>> verdictsByResult = new HashMap<>();
+    private final Map<Long, HierarchicalTimingWheel.Entry<Verdict>> openWindows = new HashMap<>();
+    private final HierarchicalTimingWheel<Verdict> deadlineWheel;
+
+    public VerdictRegistry() {
+        this(LocalDate.now());
+    }
+
+    public VerdictRegistry(LocalDate today) {
+        this.deadlineWheel = new HierarchicalTimingWheel<>(today.toEpochDay());
+    }
+
+    // Creates a verdict and registers it
+    public Verdict issueVerdict(String result) {
+        Verdict verdict = new Verdict(result);
+        register(verdict);
+        return verdict;
+    }
+
+    // Registers an existing verdict and opens its appeal window if it is appealable
+    public synchronized void register(Verdict verdict) {
+        if (verdict == null) {
+            throw new IllegalArgumentException("Verdict cannot be null");
+        }
+        if (verdictsById.putIfAbsent(verdict.getVerdictId(), verdict) != null) {
+            logger.warn("Verdict already registered: {}", verdict.getTitle());
+            return;
+        }
+        verdictsByResult.computeIfAbsent(verdict.getResult(), k -> new LinkedHashSet<>()).add(verdict);
+
+        if (verdict.hasGroundsForAppeal()) {
+            HierarchicalTimingWheel.Entry<Verdict> entry =
+                    deadlineWheel.schedule(verdict, verdict.getAppealDeadline().toEpochDay());
+            if (entry != null) {
+                openWindows.put(verdict.getVerdictId(), entry);
+            } else {
+                logger.debug("Appeal window already closed for {}", verdict.getTitle());
+            }
+        }
+        logger.debug("Registered verdict {} ({})", verdict.getTitle(), verdict.getResult());
+    }
+
+    public synchronized Optional<Verdict> findById(long verdictId) {
+        return Optional.ofNullable(verdictsById.get(verdictId));
+    }
+
+    public synchronized List<Verdict> findByResult(String result) {
+        if (result == null) {
+            return Collections.emptyList();
+        }
+        Set<Verdict> verdicts = verdictsByResult.get(result.trim().toUpperCase());
+        return verdicts == null ? Collections.emptyList() : new ArrayList<>(verdicts);
+    }
+
+    public synchronized int size() {
+        return verdictsById.size();
+    }
+
+    public synchronized int getOpenAppealWindowCount() {
+        return openWindows.size();
+    }
+
+    public synchronized boolean isAppealWindowOpen(Verdict verdict) {
+        return verdict != null && openWindows.containsKey(verdict.getVerdictId());
+    }
+
+    // Closes the appeal window early, e.g. once the appeal has been filed
+    public synchronized boolean closeAppealWindow(Verdict verdict) {
+        if (verdict == null) {
+            return false;
+        }
+        HierarchicalTimingWheel.Entry<Verdict> entry = openWindows.remove(verdict.getVerdictId());
+        return entry != null && deadlineWheel.cancel(entry);
+    }
+
+    // Verdicts whose last day to appeal is the given day.
+    // Windows that closed before that day are dropped along the way.
+    public synchronized List<Verdict> appealWindowsClosingOn(LocalDate day) {
+        expireBefore(day);
+        return deadlineWheel.dueOn(day.toEpochDay());
+    }
+
+    public List<Verdict> appealWindowsClosingToday() {
+        return appealWindowsClosingOn(LocalDate.now());
+    }
+
+    // Drops all windows whose deadline is before the given day and returns them
+    public synchronized List<Verdict> expireBefore(LocalDate day) {
+        List<Verdict> expired = deadlineWheel.advanceTo(day.toEpochDay());
+        for (Verdict verdict : expired) {
+            openWindows.remove(verdict.getVerdictId());
+        }
+        if (!expired.isEmpty()) {
+            logger.info("{} appeal windows closed before {}", expired.size(), day);
+        }
+        return expired;
+    }
+}
@@ -0,0 +1,122 @@
+package org.example.courtsystem.notary;
+
+import org.example.courtsystem.model.documents.Document;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyStore;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+// Seals batches of documents with one HMAC over a Merkle root instead of
+// one seal per document. Each document keeps an O(log n) inclusion proof.
+public class BatchNotary {
+    private static final Logger logger = LogManager.getLogger(BatchNotary.class);
+    private static final String SEAL_ALGORITHM = "HmacSHA256";
+    // Below this size hashing on the caller's thread is cheaper than forking
+    private static final int PARALLEL_HASH_THRESHOLD = 64;
+    private static final int GENERATED_KEY_BYTES = 32;
+
+    private final SecretKeySpec sealKey;
+
+    public BatchNotary(byte[] sealKey) {
+        if (sealKey == null || sealKey.length == 0) {
+            throw new IllegalArgumentException("Seal key cannot be empty");
+        }
+        this.sealKey = new SecretKeySpec(sealKey.clone(), SEAL_ALGORITHM);
+    }
+
+    // A fresh random key. Seals made with it can only be verified by notaries
+    // holding the same bytes, so persist it (e.g. in a keystore) if receipts
+    // must outlive the process.
+    public static byte[] generateKey() {
+        byte[] key = new byte[GENERATED_KEY_BYTES];
+        new SecureRandom().nextBytes(key);
+        return key;
+    }
+
+    // Reads the seal key stored under alias in a PKCS12 (or other JDK-supported)
+    // keystore file, e.g. one created with
+    //   keytool -genseckey -alias notary -keyalg HmacSHA256 -storetype PKCS12 -keystore notary.p12
+    public static byte[] loadKey(Path keystore, char[] password, String alias) throws IOException {
+        try (InputStream in = Files.newInputStream(keystore)) {
+            KeyStore store = KeyStore.getInstance(KeyStore.getDefaultType());
+            store.load(in, password);
+            Key key = store.getKey(alias, password);
+            if (!(key instanceof SecretKey) || key.getEncoded() == null) {
+                throw new IOException("No secret key under alias '" + alias + "' in " + keystore);
+            }
+            return key.getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Could not read notary key from " + keystore, e);
+        }
+    }
+
+    public NotarizedBatch notarize(List<? extends Document> batch) {
+        if (batch == null || batch.isEmpty()) {
+            throw new IllegalArgumentException("Batch cannot be empty");
+        }
+        byte[][] leaves = hashLeaves(batch);
+        MerkleTree tree = new MerkleTree(leaves);
+        byte[] root = tree.getRoot();
+        Instant sealedAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        byte[] seal = seal(root, sealedAt);
+
+        List<NotarizationReceipt> receipts = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            receipts.add(new NotarizationReceipt(batch.get(i).getTitle(), tree.proofFor(i),
+                    root, sealedAt, seal));
+        }
+        logger.debug("Sealed batch of {} documents", batch.size());
+        return new NotarizedBatch(root, sealedAt, seal, receipts);
+    }
+
+    // Checks that the document is unchanged, included under the receipt's root,
+    // and that the root carries a seal made with this notary's key
+    public boolean verify(Document doc, NotarizationReceipt receipt) {
+        if (doc == null || receipt == null) {
+            return false;
+        }
+        if (!receipt.proof().verify(Digests.leafHash(doc), receipt.root())) {
+            return false;
+        }
+        return MessageDigest.isEqual(seal(receipt.root(), receipt.sealedAt()), receipt.seal());
+    }
+
+    private static byte[][] hashLeaves(List<? extends Document> batch) {
+        byte[][] leaves = new byte[batch.size()][];
+        IntStream indexes = IntStream.range(0, batch.size());
+        if (batch.size() >= PARALLEL_HASH_THRESHOLD) {
+            indexes = indexes.parallel();
+        }
+        indexes.forEach(i -> leaves[i] = Digests.leafHash(batch.get(i)));
+        return leaves;
+    }
+
+    private byte[] seal(byte[] root, Instant sealedAt) {
+        try {
+            Mac mac = Mac.getInstance(SEAL_ALGORITHM);
+            mac.init(sealKey);
+            mac.update(root);
+            mac.update(ByteBuffer.allocate(Long.BYTES).putLong(sealedAt.toEpochMilli()).array());
+            return mac.doFinal();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to apply notary seal", e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.courtsystem.notary;
+
+import org.example.courtsystem.model.documents.Document;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+// SHA-256 helpers shared by the Merkle tree and the notary.
+// Leaf and node hashes use different prefixes so a leaf can never pass as an inner node.
+final class Digests {
+    private static final byte LEAF_PREFIX = 0x00;
+    private static final byte NODE_PREFIX = 0x01;
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    });
+
+    private Digests() {
+    }
+
+    // Hashes the document title and body as a Merkle leaf
+    static byte[] leafHash(Document doc) {
+        byte[] title = doc.getTitle() != null
+                ? doc.getTitle().getBytes(StandardCharsets.UTF_8) : new byte[0];
+        byte[] body = doc.getContent().getBytes(StandardCharsets.UTF_8);
+
+        MessageDigest digest = SHA_256.get();
+        digest.reset();
+        digest.update(LEAF_PREFIX);
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(title.length).array());
+        digest.update(title);
+        digest.update(body);
+        return digest.digest();
+    }
+
+    static byte[] nodeHash(byte[] left, byte[] right) {
+        MessageDigest digest = SHA_256.get();
+        digest.reset();
+        digest.update(NODE_PREFIX);
+        digest.update(left);
+        digest.update(right);
+        return digest.digest();
+    }
+}
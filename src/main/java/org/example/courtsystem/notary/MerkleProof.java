@@ -0,0 +1,30 @@
+package org.example.courtsystem.notary;
+
+import java.security.MessageDigest;
+import java.util.List;
+
+// Inclusion proof for one leaf: the sibling hashes on the path to the root.
+// Verification hashes one sibling per level, so it costs O(log n).
+public record MerkleProof(int leafIndex, List<Step> path) {
+    // One level of the path; siblingOnLeft tells which side the sibling is on
+    public record Step(byte[] siblingHash, boolean siblingOnLeft) {
+    }
+
+    public MerkleProof {
+        path = List.copyOf(path);
+    }
+
+    public byte[] computeRoot(byte[] leafHash) {
+        byte[] current = leafHash;
+        for (Step step : path) {
+            current = step.siblingOnLeft()
+                    ? Digests.nodeHash(step.siblingHash(), current)
+                    : Digests.nodeHash(current, step.siblingHash());
+        }
+        return current;
+    }
+
+    public boolean verify(byte[] leafHash, byte[] expectedRoot) {
+        return MessageDigest.isEqual(computeRoot(leafHash), expectedRoot);
+    }
+}
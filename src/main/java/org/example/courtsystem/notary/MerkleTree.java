@@ -0,0 +1,55 @@
+package org.example.courtsystem.notary;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Binary Merkle tree over a fixed list of leaf hashes.
+// An odd node at the end of a level is promoted unchanged to the next level.
+public class MerkleTree {
+    // levels.get(0) are the leaves, the last level holds only the root
+    private final List<byte[][]> levels = new ArrayList<>();
+
+    public MerkleTree(byte[][] leafHashes) {
+        if (leafHashes == null || leafHashes.length == 0) {
+            throw new IllegalArgumentException("Merkle tree needs at least one leaf");
+        }
+        byte[][] level = leafHashes.clone();
+        levels.add(level);
+        while (level.length > 1) {
+            byte[][] next = new byte[(level.length + 1) / 2][];
+            for (int i = 0; i < next.length; i++) {
+                int left = 2 * i;
+                next[i] = left + 1 < level.length
+                        ? Digests.nodeHash(level[left], level[left + 1])
+                        : level[left];
+            }
+            levels.add(next);
+            level = next;
+        }
+    }
+
+    public byte[] getRoot() {
+        return levels.get(levels.size() - 1)[0].clone();
+    }
+
+    public int getLeafCount() {
+        return levels.get(0).length;
+    }
+
+    public MerkleProof proofFor(int leafIndex) {
+        if (leafIndex < 0 || leafIndex >= getLeafCount()) {
+            throw new IndexOutOfBoundsException("Leaf index out of range: " + leafIndex);
+        }
+        List<MerkleProof.Step> path = new ArrayList<>();
+        int index = leafIndex;
+        for (int depth = 0; depth < levels.size() - 1; depth++) {
+            byte[][] level = levels.get(depth);
+            int sibling = index ^ 1;
+            if (sibling < level.length) {
+                path.add(new MerkleProof.Step(level[sibling], sibling < index));
+            }
+            index /= 2;
+        }
+        return new MerkleProof(leafIndex, path);
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.courtsystem.notary;
+
+import java.time.Instant;
+import java.util.HexFormat;
+
+// Issued to each document of a sealed batch. Holds the inclusion proof plus
+// the batch root and the seal that was applied to that root.
+public record NotarizationReceipt(String documentTitle, MerkleProof proof, byte[] root,
+                                  Instant sealedAt, byte[] seal) {
+    public String rootHex() {
+        return HexFormat.of().formatHex(root);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("NotarizationReceipt{document='%s', leaf=%d, proofLength=%d, root=%s}",
+                documentTitle, proof.leafIndex(), proof.path().size(), rootHex());
+    }
+}
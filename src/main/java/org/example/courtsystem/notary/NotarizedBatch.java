@@ -0,0 +1,22 @@
+package org.example.courtsystem.notary;
+
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+
+// Result of sealing one batch: a single seal over the Merkle root and one
+// receipt per document, in the same order as the input batch.
+public record NotarizedBatch(byte[] root, Instant sealedAt, byte[] seal,
+                             List<NotarizationReceipt> receipts) {
+    public NotarizedBatch {
+        receipts = List.copyOf(receipts);
+    }
+
+    public int size() {
+        return receipts.size();
+    }
+
+    public String rootHex() {
+        return HexFormat.of().formatHex(root);
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.courtsystem.query;
+
+import org.example.courtsystem.model.cases.Case;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+// Conjunction evaluated left to right with short-circuit.
+// Optimized order puts the children that reject the most per unit of cost first.
+final class AndFilter extends QueryFilter {
+    private final List<QueryFilter> children;
+
+    AndFilter(List<QueryFilter> children) {
+        this.children = List.copyOf(children);
+    }
+
+    List<QueryFilter> children() {
+        return children;
+    }
+
+    @Override
+    boolean evaluate(Case courtCase, SelectivityStatistics statistics) {
+        for (QueryFilter child : children) {
+            if (!child.evaluate(courtCase, statistics)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    double estimatedCost(SelectivityStatistics statistics) {
+        double cost = 0;
+        double reaching = 1.0;
+        for (QueryFilter child : children) {
+            cost += reaching * child.estimatedCost(statistics);
+            reaching *= child.estimatedSelectivity(statistics);
+        }
+        return cost;
+    }
+
+    @Override
+    double estimatedSelectivity(SelectivityStatistics statistics) {
+        double selectivity = 1.0;
+        for (QueryFilter child : children) {
+            selectivity *= child.estimatedSelectivity(statistics);
+        }
+        return selectivity;
+    }
+
+    @Override
+    QueryFilter optimize(SelectivityStatistics statistics) {
+        List<QueryFilter> optimized = new ArrayList<>(children.size());
+        for (QueryFilter child : children) {
+            optimized.add(child.optimize(statistics));
+        }
+        optimized.sort(Comparator.comparingDouble(child ->
+                child.estimatedCost(statistics) / Math.max(1e-9, 1.0 - child.estimatedSelectivity(statistics))));
+        return new AndFilter(optimized);
+    }
+
+    @Override
+    void explain(StringBuilder out, SelectivityStatistics statistics, int depth) {
+        indent(out, depth);
+        out.append(String.format("AND [cost=%.2f, selectivity=%.3f]%n",
+                estimatedCost(statistics), estimatedSelectivity(statistics)));
+        children.forEach(child -> child.explain(out, statistics, depth + 1));
+    }
+
+    @Override
+    public String toString() {
+        return "AND" + children;
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.courtsystem.query;
+
+import org.example.courtsystem.interfaces.CaseFilter;
+import org.example.courtsystem.model.EvidenceType;
+import org.example.courtsystem.model.cases.ConcreteCase;
+
+import java.util.List;
+import java.util.Objects;
+
+// Factory for the predicates understood by the query planner.
+// Costs are relative: a field comparison is 1, walking the evidence list is more.
+// Statistics keys leave out free-form literals (names, titles, counts) but keep
+// small closed domains (the complex flag, evidence types).
+public final class CaseFilters {
+    private static final double FIELD_COST = 1.0;
+    private static final double FLAG_COST = 0.5;
+    private static final double SUBSTRING_COST = 2.0;
+    private static final double EVIDENCE_SCAN_COST = 4.0;
+    private static final double CUSTOM_COST = 8.0;
+
+    private CaseFilters() {
+    }
+
+    public static QueryFilter titleEquals(String title) {
+        return new LeafFilter("title=" + title, "title=", FIELD_COST,
+                courtCase -> Objects.equals(courtCase.getTitle(), title), IndexedField.TITLE, title);
+    }
+
+    public static QueryFilter titleContains(String fragment) {
+        return new LeafFilter("title~" + fragment, "title~", SUBSTRING_COST,
+                courtCase -> courtCase.getTitle() != null && courtCase.getTitle().contains(fragment));
+    }
+
+    public static QueryFilter clientNamed(String name) {
+        return new LeafFilter("client=" + name, "client=", FIELD_COST,
+                courtCase -> Objects.equals(IndexedField.CLIENT.valueOf(courtCase), name), IndexedField.CLIENT, name);
+    }
+
+    public static QueryFilter lawyerNamed(String name) {
+        return new LeafFilter("lawyer=" + name, "lawyer=", FIELD_COST,
+                courtCase -> Objects.equals(IndexedField.LAWYER.valueOf(courtCase), name), IndexedField.LAWYER, name);
+    }
+
+    public static QueryFilter complex(boolean complex) {
+        return new LeafFilter("complex=" + complex, "complex=" + complex, FLAG_COST,
+                courtCase -> Boolean.valueOf(complex).equals(IndexedField.COMPLEX.valueOf(courtCase)),
+                IndexedField.COMPLEX, complex);
+    }
+
+    public static QueryFilter evidenceAtLeast(EvidenceType type, int count) {
+        return new LeafFilter("evidence[" + type + "]>=" + count, "evidence[" + type + "]>=", EVIDENCE_SCAN_COST,
+                courtCase -> courtCase instanceof ConcreteCase concrete && concrete.countEvidence(type) >= count);
+    }
+
+    public static QueryFilter evidenceAtMost(EvidenceType type, int count) {
+        return new LeafFilter("evidence[" + type + "]<=" + count, "evidence[" + type + "]<=", EVIDENCE_SCAN_COST,
+                courtCase -> courtCase instanceof ConcreteCase concrete && concrete.countEvidence(type) <= count);
+    }
+
+    // Wraps an arbitrary filter; the name keys its selectivity statistics
+    public static QueryFilter custom(String name, CaseFilter filter) {
+        return custom(name, CUSTOM_COST, filter);
+    }
+
+    public static QueryFilter custom(String name, double cost, CaseFilter filter) {
+        return new LeafFilter(name, name, cost, filter);
+    }
+
+    public static QueryFilter and(QueryFilter... filters) {
+        return new AndFilter(List.of(filters));
+    }
+
+    public static QueryFilter or(QueryFilter... filters) {
+        return new OrFilter(List.of(filters));
+    }
+
+    public static QueryFilter not(QueryFilter filter) {
+        return filter.negate();
+    }
+}
@@ -0,0 +1,215 @@
+package org.example.courtsystem.query;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.example.courtsystem.model.cases.AttributeVersion;
+import org.example.courtsystem.model.cases.Case;
+import org.example.courtsystem.model.cases.ConcreteCase;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// Runs QueryFilter expressions over a fixed set of cases.
+// Each query is planned against the statistics gathered by earlier queries:
+// AND/OR children are reordered by cost and observed selectivity, an indexed
+// equality predicate narrows the candidates, and large candidate sets are
+// evaluated in parallel.
+// The indexed predicate stays in the residual filter, so a case whose value
+// changed after indexing is never returned; indexes on mutable fields are
+// rebuilt before use once the lawyer or complexity of one of this engine's
+// cases has changed, so such a case is not missed either.
+public class CaseQueryEngine<T extends Case> {
+    private static final Logger logger = LogManager.getLogger(CaseQueryEngine.class);
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 10_000;
+
+    private final List<T> cases;
+    private final Map<IndexedField, Map<Object, List<T>>> indexes = new EnumMap<>(IndexedField.class);
+    // Tracked by every ConcreteCase here once a mutable-field index exists
+    private final AttributeVersion attributeVersion = new AttributeVersion();
+    private boolean trackingAttributes;
+    // attributeVersion when the mutable-field indexes were last built
+    private long indexedAttributeVersion;
+    private final SelectivityStatistics statistics;
+    private volatile int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+
+    public CaseQueryEngine(Collection<? extends T> cases) {
+        this(cases, new SelectivityStatistics());
+    }
+
+    public CaseQueryEngine(Collection<? extends T> cases, SelectivityStatistics statistics) {
+        this.cases = List.copyOf(cases);
+        this.statistics = statistics;
+    }
+
+    public synchronized void createIndex(IndexedField field) {
+        if (indexes.containsKey(field)) {
+            return;
+        }
+        if (field.isMutable()) {
+            trackAttributes();
+            refreshMutableIndexes();
+        }
+        indexes.put(field, buildIndex(field));
+        logger.info("Created {} index over {} cases ({} distinct values)", field, cases.size(),
+                indexes.get(field).size());
+    }
+
+    private Map<Object, List<T>> buildIndex(IndexedField field) {
+        Map<Object, List<T>> index = new HashMap<>();
+        for (T courtCase : cases) {
+            Object value = field.valueOf(courtCase);
+            if (value != null) {
+                index.computeIfAbsent(value, v -> new ArrayList<>()).add(courtCase);
+            }
+        }
+        return index;
+    }
+
+    // Caller holds the monitor
+    private void trackAttributes() {
+        if (trackingAttributes) {
+            return;
+        }
+        for (T courtCase : cases) {
+            if (courtCase instanceof ConcreteCase concrete) {
+                concrete.trackAttributesIn(attributeVersion);
+            }
+        }
+        trackingAttributes = true;
+    }
+
+    // Caller holds the monitor. The version is read before scanning, so a change
+    // made during the rebuild triggers another one next time.
+    private void refreshMutableIndexes() {
+        long version = attributeVersion.get();
+        if (version == indexedAttributeVersion) {
+            return;
+        }
+        for (Map.Entry<IndexedField, Map<Object, List<T>>> entry : indexes.entrySet()) {
+            if (entry.getKey().isMutable()) {
+                entry.setValue(buildIndex(entry.getKey()));
+                logger.debug("Rebuilt {} index after case attributes changed", entry.getKey());
+            }
+        }
+        indexedAttributeVersion = version;
+    }
+
+    public synchronized boolean hasIndex(IndexedField field) {
+        return indexes.containsKey(field);
+    }
+
+    public QueryPlan plan(QueryFilter filter) {
+        QueryFilter optimized = filter.optimize(statistics);
+
+        LeafFilter bestLeaf = null;
+        int bestSize = cases.size();
+        for (LeafFilter leaf : indexableLeaves(optimized)) {
+            int size = lookup(leaf).size();
+            if (bestLeaf == null || size < bestSize) {
+                bestLeaf = leaf;
+                bestSize = size;
+            }
+        }
+
+        // The index may predate a change to the case, so the leaf is checked again
+        QueryFilter residual = optimized;
+        double perCandidate = residual.estimatedCost(statistics);
+        return new QueryPlan(residual,
+                bestLeaf != null ? bestLeaf.indexField() : null,
+                bestLeaf != null ? bestLeaf.indexValue() : null,
+                bestSize,
+                bestSize >= parallelThreshold,
+                bestSize * perCandidate);
+    }
+
+    public List<T> execute(QueryFilter filter) {
+        return execute(plan(filter));
+    }
+
+    public List<T> execute(QueryPlan plan) {
+        List<T> candidates = candidates(plan);
+        QueryFilter residual = plan.residual();
+        if (residual == null) {
+            return List.copyOf(candidates);
+        }
+        if (plan.parallel()) {
+            return candidates.parallelStream()
+                    .filter(courtCase -> residual.evaluate(courtCase, statistics))
+                    .collect(Collectors.toList());
+        }
+        List<T> matches = new ArrayList<>();
+        for (T courtCase : candidates) {
+            if (residual.evaluate(courtCase, statistics)) {
+                matches.add(courtCase);
+            }
+        }
+        return matches;
+    }
+
+    public String explain(QueryFilter filter) {
+        return plan(filter).explain(statistics);
+    }
+
+    public SelectivityStatistics getStatistics() {
+        return statistics;
+    }
+
+    public int size() {
+        return cases.size();
+    }
+
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    public void setParallelThreshold(int parallelThreshold) {
+        if (parallelThreshold < 1) {
+            throw new IllegalArgumentException("Parallel threshold must be positive");
+        }
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    // Leaves that can replace a scan: the root itself or a direct child of a root AND
+    private List<LeafFilter> indexableLeaves(QueryFilter filter) {
+        List<LeafFilter> leaves = new ArrayList<>();
+        if (filter instanceof LeafFilter leaf) {
+            addIfIndexed(leaves, leaf);
+        } else if (filter instanceof AndFilter and) {
+            for (QueryFilter child : and.children()) {
+                if (child instanceof LeafFilter leaf) {
+                    addIfIndexed(leaves, leaf);
+                }
+            }
+        }
+        return leaves;
+    }
+
+    private synchronized void addIfIndexed(List<LeafFilter> leaves, LeafFilter leaf) {
+        if (leaf.indexField() != null && indexes.containsKey(leaf.indexField())) {
+            if (leaf.indexField().isMutable()) {
+                refreshMutableIndexes();
+            }
+            leaves.add(leaf);
+        }
+    }
+
+    private synchronized List<T> candidates(QueryPlan plan) {
+        if (!plan.usesIndex()) {
+            return cases;
+        }
+        if (plan.indexField().isMutable()) {
+            refreshMutableIndexes();
+        }
+        return indexes.get(plan.indexField()).getOrDefault(plan.indexValue(), Collections.emptyList());
+    }
+
+    private synchronized List<T> lookup(LeafFilter leaf) {
+        return indexes.get(leaf.indexField()).getOrDefault(leaf.indexValue(), Collections.emptyList());
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.courtsystem.query;
+
+import org.example.courtsystem.model.cases.Case;
+import org.example.courtsystem.model.cases.ConcreteCase;
+
+import java.util.function.Function;
+
+// Case attributes that CaseQueryEngine can build hash indexes on
+public enum IndexedField {
+    TITLE(Case::getTitle, false),
+    CLIENT(courtCase -> courtCase instanceof ConcreteCase concrete && concrete.getClient() != null
+            ? concrete.getClient().getName() : null, false),
+    // Changed by ConcreteCase.setLawyer, e.g. through LawyerRoster.assign
+    LAWYER(courtCase -> courtCase instanceof ConcreteCase concrete && concrete.getLawyer() != null
+            ? concrete.getLawyer().getName() : null, true),
+    COMPLEX(courtCase -> courtCase instanceof ConcreteCase concrete ? concrete.isComplex() : null, true);
+
+    private final Function<Case, Object> extractor;
+    private final boolean mutable;
+
+    IndexedField(Function<Case, Object> extractor, boolean mutable) {
+        this.extractor = extractor;
+        this.mutable = mutable;
+    }
+
+    // True if the value can change after the case is created; indexes on such
+    // fields are rebuilt when one of the engine's cases reports a change
+    public boolean isMutable() {
+        return mutable;
+    }
+
+    // Value to index the case under; null if the case has no such attribute
+    public Object valueOf(Case courtCase) {
+        return extractor.apply(courtCase);
+    }
+}
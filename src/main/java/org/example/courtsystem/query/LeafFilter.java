@@ -0,0 +1,79 @@
+package org.example.courtsystem.query;
+
+import org.example.courtsystem.interfaces.CaseFilter;
+import org.example.courtsystem.model.cases.Case;
+
+// Single predicate with a fixed cost. Equality predicates on an IndexedField
+// carry the field and value so the engine can answer them from an index.
+// Statistics are kept per statisticsKey (field and operator, not the literal),
+// so the number of counters stays bounded however many values are queried.
+final class LeafFilter extends QueryFilter {
+    private final String key;
+    private final String statisticsKey;
+    private final double cost;
+    private final CaseFilter predicate;
+    private final IndexedField indexField;
+    private final Object indexValue;
+
+    LeafFilter(String key, String statisticsKey, double cost, CaseFilter predicate) {
+        this(key, statisticsKey, cost, predicate, null, null);
+    }
+
+    LeafFilter(String key, String statisticsKey, double cost, CaseFilter predicate, IndexedField indexField,
+               Object indexValue) {
+        this.key = key;
+        this.statisticsKey = statisticsKey;
+        this.cost = cost;
+        this.predicate = predicate;
+        this.indexField = indexField;
+        this.indexValue = indexValue;
+    }
+
+    String key() {
+        return key;
+    }
+
+    IndexedField indexField() {
+        return indexField;
+    }
+
+    Object indexValue() {
+        return indexValue;
+    }
+
+    @Override
+    boolean evaluate(Case courtCase, SelectivityStatistics statistics) {
+        boolean passed = predicate.test(courtCase);
+        if (statistics != null) {
+            statistics.record(statisticsKey, passed);
+        }
+        return passed;
+    }
+
+    @Override
+    double estimatedCost(SelectivityStatistics statistics) {
+        return cost;
+    }
+
+    @Override
+    double estimatedSelectivity(SelectivityStatistics statistics) {
+        return statistics != null ? statistics.selectivity(statisticsKey) : 0.5;
+    }
+
+    @Override
+    QueryFilter optimize(SelectivityStatistics statistics) {
+        return this;
+    }
+
+    @Override
+    void explain(StringBuilder out, SelectivityStatistics statistics, int depth) {
+        indent(out, depth);
+        out.append(String.format("%s [cost=%.1f, selectivity=%.3f%s]%n", key, cost,
+                estimatedSelectivity(statistics), indexField != null ? ", indexable" : ""));
+    }
+
+    @Override
+    public String toString() {
+        return key;
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.courtsystem.query;
+
+import org.example.courtsystem.model.cases.Case;
+
+// Negation of another filter
+final class NotFilter extends QueryFilter {
+    private final QueryFilter child;
+
+    NotFilter(QueryFilter child) {
+        this.child = child;
+    }
+
+    @Override
+    boolean evaluate(Case courtCase, SelectivityStatistics statistics) {
+        return !child.evaluate(courtCase, statistics);
+    }
+
+    @Override
+    double estimatedCost(SelectivityStatistics statistics) {
+        return child.estimatedCost(statistics);
+    }
+
+    @Override
+    double estimatedSelectivity(SelectivityStatistics statistics) {
+        return 1.0 - child.estimatedSelectivity(statistics);
+    }
+
+    @Override
+    QueryFilter optimize(SelectivityStatistics statistics) {
+        return new NotFilter(child.optimize(statistics));
+    }
+
+    @Override
+    void explain(StringBuilder out, SelectivityStatistics statistics, int depth) {
+        indent(out, depth);
+        out.append(String.format("NOT [selectivity=%.3f]%n", estimatedSelectivity(statistics)));
+        child.explain(out, statistics, depth + 1);
+    }
+
+    @Override
+    public String toString() {
+        return "NOT(" + child + ")";
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.courtsystem.query;
+
+import org.example.courtsystem.model.cases.Case;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+// Disjunction evaluated left to right with short-circuit.
+// Optimized order puts the children that accept the most per unit of cost first.
+final class OrFilter extends QueryFilter {
+    private final List<QueryFilter> children;
+
+    OrFilter(List<QueryFilter> children) {
+        this.children = List.copyOf(children);
+    }
+
+    @Override
+    boolean evaluate(Case courtCase, SelectivityStatistics statistics) {
+        for (QueryFilter child : children) {
+            if (child.evaluate(courtCase, statistics)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    double estimatedCost(SelectivityStatistics statistics) {
+        double cost = 0;
+        double reaching = 1.0;
+        for (QueryFilter child : children) {
+            cost += reaching * child.estimatedCost(statistics);
+            reaching *= 1.0 - child.estimatedSelectivity(statistics);
+        }
+        return cost;
+    }
+
+    @Override
+    double estimatedSelectivity(SelectivityStatistics statistics) {
+        double rejected = 1.0;
+        for (QueryFilter child : children) {
+            rejected *= 1.0 - child.estimatedSelectivity(statistics);
+        }
+        return 1.0 - rejected;
+    }
+
+    @Override
+    QueryFilter optimize(SelectivityStatistics statistics) {
+        List<QueryFilter> optimized = new ArrayList<>(children.size());
+        for (QueryFilter child : children) {
+            optimized.add(child.optimize(statistics));
+        }
+        optimized.sort(Comparator.comparingDouble(child ->
+                child.estimatedCost(statistics) / Math.max(1e-9, child.estimatedSelectivity(statistics))));
+        return new OrFilter(optimized);
+    }
+
+    @Override
+    void explain(StringBuilder out, SelectivityStatistics statistics, int depth) {
+        indent(out, depth);
+        out.append(String.format("OR [cost=%.2f, selectivity=%.3f]%n",
+                estimatedCost(statistics), estimatedSelectivity(statistics)));
+        children.forEach(child -> child.explain(out, statistics, depth + 1));
+    }
+
+    @Override
+    public String toString() {
+        return "OR" + children;
+    }
+}
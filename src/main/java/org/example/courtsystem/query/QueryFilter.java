@@ -0,0 +1,48 @@
+package org.example.courtsystem.query;
+
+import org.example.courtsystem.interfaces.CaseFilter;
+import org.example.courtsystem.model.cases.Case;
+
+import java.util.List;
+
+// Composable case filter that the query planner can inspect and reorder.
+// Build instances with CaseFilters; evaluating through test() records nothing,
+// CaseQueryEngine evaluates through evaluate() and updates the statistics.
+public abstract class QueryFilter implements CaseFilter {
+
+    @Override
+    public boolean test(Case courtCase) {
+        return evaluate(courtCase, null);
+    }
+
+    // Evaluates the filter, recording leaf outcomes when statistics is not null
+    abstract boolean evaluate(Case courtCase, SelectivityStatistics statistics);
+
+    // Expected cost of one evaluation, in units of a cheap field comparison
+    abstract double estimatedCost(SelectivityStatistics statistics);
+
+    // Expected fraction of cases that pass
+    abstract double estimatedSelectivity(SelectivityStatistics statistics);
+
+    // Returns an equivalent filter with children ordered for the current statistics
+    abstract QueryFilter optimize(SelectivityStatistics statistics);
+
+    abstract void explain(StringBuilder out, SelectivityStatistics statistics, int depth);
+
+    public QueryFilter and(QueryFilter other) {
+        return new AndFilter(List.of(this, other));
+    }
+
+    public QueryFilter or(QueryFilter other) {
+        return new OrFilter(List.of(this, other));
+    }
+
+    @Override
+    public QueryFilter negate() {
+        return new NotFilter(this);
+    }
+
+    static void indent(StringBuilder out, int depth) {
+        out.append("  ".repeat(depth));
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.courtsystem.query;
+
+// Execution plan chosen by CaseQueryEngine: an optional index lookup that
+// narrows the candidates, then a residual filter evaluated on each candidate.
+public record QueryPlan(QueryFilter residual,
+                        IndexedField indexField,
+                        Object indexValue,
+                        int candidateCount,
+                        boolean parallel,
+                        double estimatedCost) {
+
+    public boolean usesIndex() {
+        return indexField != null;
+    }
+
+    String explain(SelectivityStatistics statistics) {
+        StringBuilder out = new StringBuilder();
+        if (usesIndex()) {
+            out.append(String.format("INDEX LOOKUP %s=%s -> %d candidates%n", indexField, indexValue, candidateCount));
+        } else {
+            out.append(String.format("FULL SCAN -> %d candidates%n", candidateCount));
+        }
+        out.append(String.format("%s evaluation, estimated cost %.1f%n", parallel ? "Parallel" : "Sequential", estimatedCost));
+        if (residual != null) {
+            residual.explain(out, statistics, 1);
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.courtsystem.query;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Observed pass rates of leaf predicates, keyed by predicate description.
+// Updated on every evaluation during query execution and read by the planner.
+public class SelectivityStatistics {
+    // Used until a predicate has been evaluated at least once
+    private static final double DEFAULT_SELECTIVITY = 0.5;
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    private static final class Counter {
+        final LongAdder evaluated = new LongAdder();
+        final LongAdder passed = new LongAdder();
+    }
+
+    void record(String key, boolean passed) {
+        Counter counter = counters.computeIfAbsent(key, k -> new Counter());
+        counter.evaluated.increment();
+        if (passed) {
+            counter.passed.increment();
+        }
+    }
+
+    // Estimated fraction of cases that pass; smoothed so unseen predicates start at 0.5
+    public double selectivity(String key) {
+        Counter counter = counters.get(key);
+        if (counter == null) {
+            return DEFAULT_SELECTIVITY;
+        }
+        long evaluated = counter.evaluated.sum();
+        return (counter.passed.sum() + DEFAULT_SELECTIVITY) / (evaluated + 1.0);
+    }
+
+    public long evaluations(String key) {
+        Counter counter = counters.get(key);
+        return counter == null ? 0 : counter.evaluated.sum();
+    }
+
+    public void reset() {
+        counters.clear();
+    }
+}
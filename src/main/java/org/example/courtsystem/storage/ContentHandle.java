@@ -0,0 +1,19 @@
+package org.example.courtsystem.storage;
+
+// Small reference to a document body kept in the DocumentContentStore.
+// The digest is the SHA-256 of the original text, so equal bodies share one handle.
+public record ContentHandle(String digest, int length) {
+    public ContentHandle {
+        if (digest == null || digest.isBlank()) {
+            throw new IllegalArgumentException("Content digest cannot be null or empty");
+        }
+        if (length < 0) {
+            throw new IllegalArgumentException("Content length cannot be negative");
+        }
+    }
+
+    // Reads the body back from the shared store
+    public String resolve() {
+        return DocumentContentStore.getInstance().load(this);
+    }
+}
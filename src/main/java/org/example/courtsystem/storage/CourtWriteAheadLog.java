@@ -0,0 +1,602 @@
+package org.example.courtsystem.storage;
+
+import org.example.courtsystem.exceptions.CourtException;
+import org.example.courtsystem.model.cases.ConcreteCase;
+import org.example.courtsystem.model.cases.Evidence;
+import org.example.courtsystem.model.court.Court;
+import org.example.courtsystem.model.documents.Document;
+import org.example.courtsystem.model.documents.Verdict;
+import org.example.courtsystem.model.people.Witness;
+import org.example.courtsystem.model.services.LegalSecretary;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Write-ahead log for the docket: every mutation is written and fsynced before
+// the call that made it returns, so an acknowledged change survives a crash.
+//
+// Directory layout:
+//   wal-<first lsn>.log         log segments, frames as described in WalFrames
+//   checkpoint-<lsn>.ckpt       full DocketState as of lsn, ending in a CHECKPOINT record
+//
+// Per type (key is the case title unless noted):
+//   CASE_OPENED        text1 = client, text2 = lawyer, a = lawyer experience,
+//                      b = lawyer years of service, c = 1 if complex
+//   EVIDENCE_ADDED     a = evidence type ordinal, text1 = description
+//   WITNESS_ADDED      text1 = name, text2 = testimony, a = witness id
+//   VERDICT_ISSUED     text1 = result, c = epoch day
+//   DOCUMENT_ADDED     key = court case id, text1 = title, text2 = body,
+//                      a = 1 for a verdict (text2 = result, c = epoch day)
+//   DOCUMENT_QUEUED    text1 = title, text2 = body, c = queue id (0 means the
+//                      record's own lsn; checkpoints keep the original id)
+//   DOCUMENT_DEQUEUED  c = queue id of the document taken or withdrawn
+//   DOCUMENTS_DEQUEUED a = number taken from the head (older logs only)
+//   CHECKPOINT         c = lsn covered (last record of a checkpoint file)
+// CASE_OPENED is written automatically before the first record of a case.
+// A document is logged as queued before it enters the in-memory queue and
+// dequeues name the document, so replay does not depend on the order in which
+// concurrent producers and workers reached the log.
+//
+// Group commit: writers append to a shared buffer and then wait for their lsn
+// to become durable. Whoever finds no flush running becomes the leader, writes
+// everything buffered so far with one fsync and wakes the others; writers that
+// arrive during that fsync are batched into the next one. Throughput therefore
+// grows with the number of concurrent writers instead of being capped at one
+// record per disk sync.
+//
+// Every checkpointInterval records the leader copies the docket state as
+// records, which is the only part done under the append lock, and starts a new
+// segment. A background thread then encodes and syncs the checkpoint file and
+// deletes the segments it covers, so recovery replays at most about one
+// interval of log while writers keep appending and committing.
+public class CourtWriteAheadLog implements Closeable {
+    private static final Logger logger = LogManager.getLogger(CourtWriteAheadLog.class);
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 50_000;
+    private static final String SEGMENT_PREFIX = "wal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String CHECKPOINT_PREFIX = "checkpoint-";
+    private static final String CHECKPOINT_SUFFIX = ".ckpt";
+
+    private final Path directory;
+    private final int checkpointInterval;
+    private final DocketState recovered;
+
+    // Guards the buffer, lsn counter and docket state
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final DocketState state;
+    private ByteArrayOutputStream pending = new ByteArrayOutputStream(64 * 1024);
+    private long nextLsn;
+    private long recordsSinceCheckpoint;
+
+    // Held by the leader while it writes and syncs; guards the segment channel
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private FileChannel segment;
+
+    private final ReentrantLock waitLock = new ReentrantLock();
+    private final Condition durableAdvanced = waitLock.newCondition();
+    // True while the leader is syncing; guarded by waitLock
+    private boolean busy;
+    private volatile long durableLsn;
+    private volatile IOException failure;
+    private volatile boolean closed;
+
+    // One checkpoint file is written at a time, off the append and flush paths
+    private final ExecutorService checkpointWriter = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "wal-checkpoint");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // Guarded by flushLock
+    private Future<Void> checkpointInFlight;
+
+    private long records;
+    private long syncs;
+    private final LongAdder checkpoints = new LongAdder();
+
+    // Docket state as records, covering everything up to lsn
+    private record Snapshot(List<WalRecord> records, long lsn) {
+    }
+
+    public record Stats(long records, long syncs, long checkpoints, long durableLsn) {
+        public double recordsPerSync() {
+            return syncs == 0 ? 0 : (double) records / syncs;
+        }
+    }
+
+    private CourtWriteAheadLog(Path directory, int checkpointInterval, DocketState state, long lastLsn)
+            throws IOException {
+        this.directory = directory;
+        this.checkpointInterval = checkpointInterval;
+        this.state = state;
+        this.recovered = state.copy();
+        this.nextLsn = lastLsn + 1;
+        this.durableLsn = lastLsn;
+        this.segment = openSegment(nextLsn);
+    }
+
+    public static CourtWriteAheadLog open(Path directory) throws IOException {
+        return open(directory, DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    // Opens the log, replaying the latest checkpoint and the segments after it.
+    // A torn record at the end of the last segment is cut off.
+    public static CourtWriteAheadLog open(Path directory, int checkpointInterval) throws IOException {
+        if (checkpointInterval <= 0) {
+            throw new IllegalArgumentException("Checkpoint interval must be positive");
+        }
+        Files.createDirectories(directory);
+        long start = System.nanoTime();
+        DocketState state = new DocketState();
+        long checkpointLsn = loadCheckpoint(directory, state);
+        long lastLsn = replaySegments(directory, state, checkpointLsn);
+        logger.info("Write-ahead log {} recovered to lsn {} in {} ms ({} cases, {} documents)", directory,
+                lastLsn, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), state.getCaseCount(),
+                state.getDocumentCount());
+        return new CourtWriteAheadLog(directory, checkpointInterval, state, lastLsn);
+    }
+
+    // State found on disk when the log was opened; not changed by later writes
+    public DocketState getRecoveredState() {
+        return recovered;
+    }
+
+    // Startup path: files the recovered documents with the court, refills the
+    // secretary's queue and only then attaches this log to both, so nothing is
+    // logged twice. Size the secretary's queue from getQueuedDocumentCount().
+    // Returns the recovered cases; what happens to them later is logged when it
+    // goes through Court.fileEvidence, admitWitness and startTrial. Closed cases
+    // come back without their Verdict or appeal window (see DocketState.restoreCases).
+    public List<ConcreteCase> restoreInto(Court court, LegalSecretary secretary) throws CourtException {
+        if (court.getWriteAheadLog() != null) {
+            throw new IllegalStateException("Court already has a write-ahead log attached");
+        }
+        recovered.restoreDocuments(court);
+        recovered.restoreQueue(secretary);
+        court.setWriteAheadLog(this);
+        secretary.setWriteAheadLog(this);
+        return recovered.restoreCases();
+    }
+
+    public void documentAdded(String caseId, Document doc) throws IOException {
+        if (doc instanceof Verdict verdict) {
+            commit(null, new WalRecord(0, WalRecordType.DOCUMENT_ADDED, caseId, 1, 0,
+                    verdict.getDate().toEpochDay(), verdict.getTitle(), verdict.getResult()));
+        } else {
+            commit(null, new WalRecord(0, WalRecordType.DOCUMENT_ADDED, caseId, 0, 0, 0,
+                    doc.getTitle(), doc.hasContent() ? doc.getContent() : null));
+        }
+    }
+
+    public void evidenceAdded(ConcreteCase courtCase, Evidence evidence) throws IOException {
+        commit(courtCase, new WalRecord(0, WalRecordType.EVIDENCE_ADDED, courtCase.getTitle(),
+                evidence.type().ordinal(), 0, 0, evidence.description(), null));
+    }
+
+    public void witnessAdded(ConcreteCase courtCase, Witness witness) throws IOException {
+        commit(courtCase, new WalRecord(0, WalRecordType.WITNESS_ADDED, courtCase.getTitle(),
+                witness.getWitnessId(), 0, 0, witness.getName(), witness.getTestimony()));
+    }
+
+    public void verdictIssued(ConcreteCase courtCase, Verdict verdict) throws IOException {
+        commit(courtCase, new WalRecord(0, WalRecordType.VERDICT_ISSUED, courtCase.getTitle(), 0, 0,
+                verdict.getDate().toEpochDay(), verdict.getResult(), null));
+    }
+
+    // Logs a document about to be queued and returns its queue id, which the
+    // caller passes to documentsDequeued once the document has been processed
+    public long documentQueued(Document doc) throws IOException {
+        long lsn = append(null, new WalRecord(0, WalRecordType.DOCUMENT_QUEUED, null, 0, 0, 0,
+                doc.getTitle(), doc.hasContent() ? doc.getContent() : null));
+        awaitDurable(lsn);
+        return lsn;
+    }
+
+    // Logs that the documents with these queue ids were processed, with one sync
+    public void documentsDequeued(long[] queueIds, int count) throws IOException {
+        if (count <= 0) {
+            return;
+        }
+        long lsn;
+        appendLock.lock();
+        try {
+            ensureUsable();
+            lsn = 0;
+            for (int i = 0; i < count; i++) {
+                lsn = appendLocked(new WalRecord(0, WalRecordType.DOCUMENT_DEQUEUED, null, 0, 0, queueIds[i],
+                        null, null));
+            }
+        } finally {
+            appendLock.unlock();
+        }
+        awaitDurable(lsn);
+    }
+
+    // Buffers the record and returns its lsn without waiting for the disk
+    public long append(ConcreteCase courtCase, WalRecord record) throws IOException {
+        appendLock.lock();
+        try {
+            ensureUsable();
+            if (courtCase != null && !state.hasCase(courtCase.getTitle())) {
+                appendLocked(new WalRecord(0, WalRecordType.CASE_OPENED, courtCase.getTitle(),
+                        courtCase.getLawyer() != null ? courtCase.getLawyer().getExperience() : 0,
+                        courtCase.getLawyer() != null ? courtCase.getLawyer().getYearsOfService() : 0,
+                        courtCase.isComplex() ? 1 : 0,
+                        courtCase.getClient() != null ? courtCase.getClient().getName() : null,
+                        courtCase.getLawyer() != null ? courtCase.getLawyer().getName() : null));
+            }
+            return appendLocked(record);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    // Blocks until every record up to lsn is on disk
+    public void awaitDurable(long lsn) throws IOException {
+        while (durableLsn < lsn) {
+            ensureHealthy();
+            if (flushLock.tryLock()) {
+                try {
+                    if (durableLsn < lsn) {
+                        flush();
+                    }
+                } finally {
+                    flushLock.unlock();
+                }
+                continue;
+            }
+            boolean waited = false;
+            waitLock.lock();
+            try {
+                // The leader clears busy and signals under waitLock, so no wakeup is lost
+                while (busy && durableLsn < lsn && failure == null) {
+                    durableAdvanced.awaitUninterruptibly();
+                    waited = true;
+                }
+            } finally {
+                waitLock.unlock();
+            }
+            if (!waited) {
+                // The leader holds flushLock but has not marked itself busy yet
+                Thread.yield();
+            }
+        }
+        ensureHealthy();
+    }
+
+    // Writes a checkpoint now instead of waiting for the interval and returns
+    // once it is on disk
+    public void checkpoint() throws IOException {
+        Future<Void> written;
+        flushLock.lock();
+        try {
+            flush();
+            written = startCheckpoint();
+        } finally {
+            flushLock.unlock();
+        }
+        awaitCheckpoint(written);
+    }
+
+    public long getDurableLsn() {
+        return durableLsn;
+    }
+
+    public Stats getStats() {
+        flushLock.lock();
+        try {
+            return new Stats(records, syncs, checkpoints.sum(), durableLsn);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // Flushes everything and writes a final checkpoint so the next start replays nothing
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            flush();
+            Future<Void> written = failure == null && recordsSinceCheckpoint() > 0
+                    ? startCheckpoint() : checkpointInFlight;
+            try {
+                awaitCheckpoint(written);
+            } finally {
+                closed = true;
+                segment.close();
+                checkpointWriter.shutdown();
+            }
+            logger.info("Write-ahead log {} closed at lsn {}", directory, durableLsn);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void commit(ConcreteCase courtCase, WalRecord record) throws IOException {
+        awaitDurable(append(courtCase, record));
+    }
+
+    // Caller holds appendLock. An oversized record is rejected before anything is buffered.
+    private long appendLocked(WalRecord record) throws IOException {
+        long lsn = nextLsn;
+        WalRecord stamped = new WalRecord(lsn, record.type(), record.key(), record.a(), record.b(), record.c(),
+                record.text1(), record.text2());
+        WalFrames.write(stamped, pending);
+        nextLsn++;
+        state.apply(stamped);
+        recordsSinceCheckpoint++;
+        return lsn;
+    }
+
+    // Caller holds flushLock
+    private void flush() throws IOException {
+        ByteArrayOutputStream batch;
+        long batchLsn;
+        appendLock.lock();
+        try {
+            if (pending.size() == 0) {
+                return;
+            }
+            batch = pending;
+            batchLsn = nextLsn - 1;
+            pending = new ByteArrayOutputStream(Math.max(64 * 1024, batch.size()));
+        } finally {
+            appendLock.unlock();
+        }
+
+        setBusy();
+        try {
+            ByteBuffer bytes = ByteBuffer.wrap(batch.toByteArray());
+            while (bytes.hasRemaining()) {
+                segment.write(bytes);
+            }
+            segment.force(false);
+            records += batchLsn - durableLsn;
+            syncs++;
+        } catch (IOException e) {
+            // Records after durableLsn may or may not be on disk; refuse further writes
+            failure = e;
+            logger.error("Write-ahead log write failed; the log is now read-only", e);
+            throw e;
+        } finally {
+            waitLock.lock();
+            try {
+                if (failure == null) {
+                    durableLsn = batchLsn;
+                }
+                busy = false;
+                durableAdvanced.signalAll();
+            } finally {
+                waitLock.unlock();
+            }
+        }
+
+        if (recordsSinceCheckpoint() >= checkpointInterval
+                && (checkpointInFlight == null || checkpointInFlight.isDone())) {
+            startCheckpoint();
+        }
+    }
+
+    // Caller holds flushLock. Takes a snapshot, moves on to a new segment and
+    // queues the checkpoint file for the background writer.
+    private Future<Void> startCheckpoint() throws IOException {
+        Snapshot snapshot;
+        appendLock.lock();
+        try {
+            snapshot = new Snapshot(state.toRecords(), nextLsn - 1);
+            recordsSinceCheckpoint = 0;
+        } finally {
+            appendLock.unlock();
+        }
+        // Records up to the snapshot lsn that are still buffered go to the new segment,
+        // where replay skips them once the checkpoint exists
+        segment.close();
+        segment = openSegment(snapshot.lsn() + 1);
+        checkpointInFlight = checkpointWriter.submit(() -> {
+            try {
+                writeCheckpointFile(snapshot);
+            } catch (IOException | RuntimeException e) {
+                // The covered segments are kept, so nothing is lost; the next interval tries again
+                logger.warn("Checkpoint at lsn {} failed: {}", snapshot.lsn(), e.getMessage());
+                throw e;
+            }
+            return null;
+        });
+        return checkpointInFlight;
+    }
+
+    private static void awaitCheckpoint(Future<Void> written) throws IOException {
+        if (written == null) {
+            return;
+        }
+        try {
+            written.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for checkpoint", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            throw new IOException("Checkpoint failed", e.getCause());
+        }
+    }
+
+    // Runs on the checkpoint writer thread
+    private void writeCheckpointFile(Snapshot snapshot) throws IOException {
+        long checkpointLsn = snapshot.lsn();
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream(64 * 1024);
+        for (WalRecord record : snapshot.records()) {
+            WalFrames.write(record, encoded);
+        }
+        WalFrames.write(new WalRecord(0, WalRecordType.CHECKPOINT, null, 0, 0, checkpointLsn, null, null), encoded);
+
+        Path target = directory.resolve(CHECKPOINT_PREFIX + format(checkpointLsn) + CHECKPOINT_SUFFIX);
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer bytes = ByteBuffer.wrap(encoded.toByteArray());
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            channel.force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        syncDirectory();
+
+        // The active segment starts after checkpointLsn, so only finished ones go
+        for (Path old : list(directory, SEGMENT_PREFIX, SEGMENT_SUFFIX)) {
+            if (lsnOf(old, SEGMENT_PREFIX, SEGMENT_SUFFIX) <= checkpointLsn) {
+                Files.deleteIfExists(old);
+            }
+        }
+        for (Path old : list(directory, CHECKPOINT_PREFIX, CHECKPOINT_SUFFIX)) {
+            if (lsnOf(old, CHECKPOINT_PREFIX, CHECKPOINT_SUFFIX) < checkpointLsn) {
+                Files.deleteIfExists(old);
+            }
+        }
+        checkpoints.increment();
+        logger.debug("Checkpoint written at lsn {} ({} bytes)", checkpointLsn, encoded.size());
+    }
+
+    private long recordsSinceCheckpoint() {
+        appendLock.lock();
+        try {
+            return recordsSinceCheckpoint;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private void setBusy() {
+        waitLock.lock();
+        try {
+            busy = true;
+        } finally {
+            waitLock.unlock();
+        }
+    }
+
+    private FileChannel openSegment(long firstLsn) throws IOException {
+        Path path = directory.resolve(SEGMENT_PREFIX + format(firstLsn) + SEGMENT_SUFFIX);
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        syncDirectory();
+        return channel;
+    }
+
+    // Makes new and renamed file names durable
+    private void syncDirectory() {
+        try (FileChannel dir = FileChannel.open(directory, StandardOpenOption.READ)) {
+            dir.force(true);
+        } catch (IOException e) {
+            logger.debug("Directory sync not supported here: {}", e.getMessage());
+        }
+    }
+
+    private void ensureUsable() throws IOException {
+        if (closed) {
+            throw new IllegalStateException("Write-ahead log is closed");
+        }
+        ensureHealthy();
+    }
+
+    private void ensureHealthy() throws IOException {
+        IOException e = failure;
+        if (e != null) {
+            throw new IOException("Write-ahead log failed earlier", e);
+        }
+    }
+
+    // Returns the lsn the newest intact checkpoint covers, or 0 if there is none
+    private static long loadCheckpoint(Path directory, DocketState state) throws IOException {
+        List<Path> checkpoints = list(directory, CHECKPOINT_PREFIX, CHECKPOINT_SUFFIX);
+        for (int i = checkpoints.size() - 1; i >= 0; i--) {
+            Path path = checkpoints.get(i);
+            List<WalRecord> records = new ArrayList<>();
+            WalFrames.read(ByteBuffer.wrap(Files.readAllBytes(path)), records::add);
+            if (records.isEmpty() || records.get(records.size() - 1).type() != WalRecordType.CHECKPOINT) {
+                logger.warn("Ignoring incomplete checkpoint {}", path);
+                continue;
+            }
+            for (WalRecord record : records) {
+                state.apply(record);
+            }
+            return records.get(records.size() - 1).c();
+        }
+        return 0;
+    }
+
+    // Applies segment records after the checkpoint and returns the last lsn seen
+    private static long replaySegments(Path directory, DocketState state, long checkpointLsn) throws IOException {
+        long[] lastLsn = {checkpointLsn};
+        List<Path> segments = list(directory, SEGMENT_PREFIX, SEGMENT_SUFFIX);
+        for (int i = 0; i < segments.size(); i++) {
+            Path path = segments.get(i);
+            byte[] bytes = Files.readAllBytes(path);
+            int intact = WalFrames.read(ByteBuffer.wrap(bytes), record -> {
+                if (record.lsn() > lastLsn[0]) {
+                    state.apply(record);
+                    lastLsn[0] = record.lsn();
+                }
+            });
+            if (intact < bytes.length) {
+                if (i < segments.size() - 1) {
+                    throw new IOException("Write-ahead log segment " + path + " is damaged at byte " + intact
+                            + " and later segments exist");
+                }
+                logger.warn("Cutting torn tail of {} at byte {} ({} bytes dropped)", path, intact,
+                        bytes.length - intact);
+                try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                    channel.truncate(intact);
+                    channel.force(true);
+                }
+            }
+        }
+        return lastLsn[0];
+    }
+
+    // Files with the prefix and suffix, oldest lsn first
+    private static List<Path> list(Path directory, String prefix, String suffix) throws IOException {
+        List<Path> paths = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, prefix + "*" + suffix)) {
+            stream.forEach(paths::add);
+        }
+        paths.sort((a, b) -> Long.compare(lsnOf(a, prefix, suffix), lsnOf(b, prefix, suffix)));
+        return paths;
+    }
+
+    private static long lsnOf(Path path, String prefix, String suffix) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(prefix.length(), name.length() - suffix.length()));
+    }
+
+    private static String format(long lsn) {
+        return String.format("%016d", lsn);
+    }
+}
@@ -0,0 +1,216 @@
+package org.example.courtsystem.storage;
+
+import org.example.courtsystem.exceptions.CourtException;
+import org.example.courtsystem.exceptions.DocumentProcessingException;
+import org.example.courtsystem.model.CaseStatus;
+import org.example.courtsystem.model.EvidenceType;
+import org.example.courtsystem.model.cases.ConcreteCase;
+import org.example.courtsystem.model.cases.Evidence;
+import org.example.courtsystem.model.court.Court;
+import org.example.courtsystem.model.documents.LegalDocument;
+import org.example.courtsystem.model.documents.Verdict;
+import org.example.courtsystem.model.people.Client;
+import org.example.courtsystem.model.people.Lawyer;
+import org.example.courtsystem.model.people.Witness;
+import org.example.courtsystem.model.services.LegalSecretary;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// The docket as described by the write-ahead log: cases with their evidence,
+// witnesses and verdicts, court documents per case id, and the secretary's queue.
+// CourtWriteAheadLog keeps one up to date under its own lock and writes it out
+// as a checkpoint; after recovery the restore methods turn it back into domain
+// objects. Not thread-safe on its own.
+public class DocketState {
+    private static final EvidenceType[] EVIDENCE_TYPES = EvidenceType.values();
+
+    private final Map<String, CaseEntry> cases = new LinkedHashMap<>();
+    private final Map<String, List<DocumentEntry>> documents = new LinkedHashMap<>();
+    // Queued documents by queue id, oldest first
+    private final Map<Long, DocumentEntry> queue = new LinkedHashMap<>();
+
+    private static final class CaseEntry {
+        private final String title;
+        private final String client;
+        private final String lawyer;
+        private final int lawyerExperience;
+        private final int lawyerYears;
+        private final boolean complex;
+        private final List<Evidence> evidence = new ArrayList<>();
+        private final List<WitnessEntry> witnesses = new ArrayList<>();
+        private String verdict;
+        private long verdictEpochDay;
+
+        CaseEntry(String title, String client, String lawyer, int lawyerExperience, int lawyerYears,
+                  boolean complex) {
+            this.title = title;
+            this.client = client;
+            this.lawyer = lawyer;
+            this.lawyerExperience = lawyerExperience;
+            this.lawyerYears = lawyerYears;
+            this.complex = complex;
+        }
+    }
+
+    private record WitnessEntry(String name, String testimony, int witnessId) {
+    }
+
+    // Verdicts are kept by result and date; other documents by title and body
+    private record DocumentEntry(String title, String content, boolean verdict, long epochDay) {
+    }
+
+    void apply(WalRecord record) {
+        switch (record.type()) {
+            case CASE_OPENED -> cases.putIfAbsent(record.key(), new CaseEntry(record.key(), record.text1(),
+                    record.text2(), record.a(), record.b(), record.c() != 0));
+            case EVIDENCE_ADDED -> caseFor(record).evidence.add(
+                    new Evidence(record.text1(), EVIDENCE_TYPES[record.a()]));
+            case WITNESS_ADDED -> caseFor(record).witnesses.add(new WitnessEntry(record.text1(), record.text2(),
+                    record.a()));
+            case VERDICT_ISSUED -> {
+                CaseEntry entry = caseFor(record);
+                entry.verdict = record.text1();
+                entry.verdictEpochDay = record.c();
+            }
+            case DOCUMENT_ADDED -> documents.computeIfAbsent(record.key(), k -> new ArrayList<>())
+                    .add(new DocumentEntry(record.text1(), record.text2(), record.a() == 1, record.c()));
+            case DOCUMENT_QUEUED -> queue.put(record.c() != 0 ? record.c() : record.lsn(),
+                    new DocumentEntry(record.text1(), record.text2(), false, 0));
+            case DOCUMENT_DEQUEUED -> queue.remove(record.c());
+            case DOCUMENTS_DEQUEUED -> {
+                Iterator<Long> oldest = queue.keySet().iterator();
+                for (int i = 0; i < record.a() && oldest.hasNext(); i++) {
+                    oldest.next();
+                    oldest.remove();
+                }
+            }
+            case CHECKPOINT -> { }
+        }
+    }
+
+    boolean hasCase(String title) {
+        return cases.containsKey(title);
+    }
+
+    // The whole state as records, in an order apply() accepts
+    List<WalRecord> toRecords() {
+        List<WalRecord> records = new ArrayList<>();
+        for (CaseEntry entry : cases.values()) {
+            records.add(new WalRecord(0, WalRecordType.CASE_OPENED, entry.title, entry.lawyerExperience,
+                    entry.lawyerYears, entry.complex ? 1 : 0, entry.client, entry.lawyer));
+            for (Evidence evidence : entry.evidence) {
+                records.add(new WalRecord(0, WalRecordType.EVIDENCE_ADDED, entry.title, evidence.type().ordinal(),
+                        0, 0, evidence.description(), null));
+            }
+            for (WitnessEntry witness : entry.witnesses) {
+                records.add(new WalRecord(0, WalRecordType.WITNESS_ADDED, entry.title, witness.witnessId(), 0, 0,
+                        witness.name(), witness.testimony()));
+            }
+            if (entry.verdict != null) {
+                records.add(new WalRecord(0, WalRecordType.VERDICT_ISSUED, entry.title, 0, 0,
+                        entry.verdictEpochDay, entry.verdict, null));
+            }
+        }
+        documents.forEach((caseId, list) -> {
+            for (DocumentEntry doc : list) {
+                records.add(new WalRecord(0, WalRecordType.DOCUMENT_ADDED, caseId, doc.verdict() ? 1 : 0, 0,
+                        doc.epochDay(), doc.title(), doc.content()));
+            }
+        });
+        queue.forEach((queueId, doc) -> records.add(new WalRecord(0, WalRecordType.DOCUMENT_QUEUED, null, 0, 0,
+                queueId, doc.title(), doc.content())));
+        return records;
+    }
+
+    DocketState copy() {
+        DocketState copy = new DocketState();
+        toRecords().forEach(copy::apply);
+        return copy;
+    }
+
+    public int getCaseCount() {
+        return cases.size();
+    }
+
+    public int getEvidenceCount() {
+        return cases.values().stream().mapToInt(entry -> entry.evidence.size()).sum();
+    }
+
+    public int getDocumentCount() {
+        return documents.values().stream().mapToInt(List::size).sum();
+    }
+
+    public int getQueuedDocumentCount() {
+        return queue.size();
+    }
+
+    // Rebuilds the cases. People with the same name share one object, a witness
+    // heard in several cases comes back as one Witness with its recorded id, and
+    // cases that had a verdict come back CLOSED.
+    // The verdict itself is not rebuilt: the logged result and date only mark the
+    // case closed, and no appeal window is reopened for it. A verdict that was
+    // filed with Court.addDocument comes back through restoreDocuments.
+    public List<ConcreteCase> restoreCases() {
+        Map<String, Client> clients = new HashMap<>();
+        Map<String, Lawyer> lawyers = new HashMap<>();
+        Map<WitnessEntry, Witness> witnesses = new HashMap<>();
+        List<ConcreteCase> restored = new ArrayList<>(cases.size());
+        for (CaseEntry entry : cases.values()) {
+            Client client = entry.client == null ? null : clients.computeIfAbsent(entry.client, Client::new);
+            Lawyer lawyer = entry.lawyer == null ? null : lawyers.computeIfAbsent(entry.lawyer,
+                    name -> new Lawyer(name, entry.lawyerExperience, entry.lawyerYears));
+            ConcreteCase courtCase = new ConcreteCase(entry.title, client, lawyer);
+            courtCase.setComplex(entry.complex);
+            entry.evidence.forEach(courtCase::addEvidence);
+            for (WitnessEntry witness : entry.witnesses) {
+                courtCase.addWitness(witnesses.computeIfAbsent(witness,
+                        w -> Witness.restore(w.name(), w.testimony(), w.witnessId())));
+            }
+            if (entry.verdict != null) {
+                courtCase.transitionTo(CaseStatus.CLOSED);
+            }
+            restored.add(courtCase);
+        }
+        return restored;
+    }
+
+    // Files the recovered documents with the court. Call this before attaching
+    // the log to the court, or every document is logged a second time.
+    public void restoreDocuments(Court court) throws CourtException {
+        for (Map.Entry<String, List<DocumentEntry>> entry : documents.entrySet()) {
+            for (DocumentEntry doc : entry.getValue()) {
+                court.addDocument(entry.getKey(), doc.verdict()
+                        ? new Verdict(doc.content(), LocalDate.ofEpochDay(doc.epochDay()))
+                        : new LegalDocument(doc.title(), doc.content()));
+            }
+        }
+    }
+
+    // Puts the documents that were still waiting back into the queue, in order and
+    // under their original queue ids so later dequeues match them. The secretary's
+    // queue must hold at least getQueuedDocumentCount() documents.
+    public void restoreQueue(LegalSecretary secretary) throws DocumentProcessingException {
+        if (secretary.getRemainingQueueCapacity() < queue.size()) {
+            throw new DocumentProcessingException(queue.size() + " recovered documents",
+                    "Queue has room for only " + secretary.getRemainingQueueCapacity());
+        }
+        for (Map.Entry<Long, DocumentEntry> entry : queue.entrySet()) {
+            DocumentEntry doc = entry.getValue();
+            secretary.restoreQueued(new LegalDocument(doc.title(), doc.content()), entry.getKey());
+        }
+    }
+
+    private CaseEntry caseFor(WalRecord record) {
+        CaseEntry entry = cases.get(record.key());
+        if (entry == null) {
+            throw new IllegalStateException("Log record for unknown case " + record.key());
+        }
+        return entry;
+    }
+}
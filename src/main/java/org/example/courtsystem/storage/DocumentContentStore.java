@@ -0,0 +1,171 @@
+package org.example.courtsystem.storage;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+// Singleton content-addressed store for document bodies.
+// Bodies are keyed by their SHA-256 digest, so identical text is kept only once,
+// and each body is split into fixed-size blocks that are deflated independently.
+public class DocumentContentStore {
+    private static final Logger logger = LogManager.getLogger(DocumentContentStore.class);
+    private static final int BLOCK_SIZE = 16 * 1024;
+    private static volatile DocumentContentStore instance;
+
+    private final Map<String, StoredBody> bodies = new ConcurrentHashMap<>();
+    private final AtomicLong storeRequests = new AtomicLong();
+    private final AtomicLong rawBytes = new AtomicLong();
+    private final AtomicLong compressedBytes = new AtomicLong();
+
+    // Compressed blocks of one body plus its uncompressed size
+    private record StoredBody(byte[][] blocks, int byteLength) {
+    }
+
+    private DocumentContentStore() {
+    }
+
+    public static DocumentContentStore getInstance() {
+        if (instance == null) {
+            synchronized (DocumentContentStore.class) {
+                if (instance == null) {
+                    instance = new DocumentContentStore();
+                }
+            }
+        }
+        return instance;
+    }
+
+    // Stores a body (or reuses the existing copy) and returns its handle
+    public ContentHandle store(String content) {
+        if (content == null) {
+            throw new IllegalArgumentException("Content cannot be null");
+        }
+        byte[] raw = content.getBytes(StandardCharsets.UTF_8);
+        String digest = digest(raw);
+        storeRequests.incrementAndGet();
+
+        bodies.computeIfAbsent(digest, key -> {
+            StoredBody body = compress(raw);
+            rawBytes.addAndGet(raw.length);
+            compressedBytes.addAndGet(sizeOf(body));
+            logger.debug("Stored new document body {} ({} bytes, {} blocks)",
+                    key, raw.length, body.blocks().length);
+            return body;
+        });
+        return new ContentHandle(digest, content.length());
+    }
+
+    // Decompresses the body referenced by the handle
+    public String load(ContentHandle handle) {
+        if (handle == null) {
+            throw new IllegalArgumentException("Content handle cannot be null");
+        }
+        StoredBody body = bodies.get(handle.digest());
+        if (body == null) {
+            throw new IllegalStateException("No document body stored for digest " + handle.digest());
+        }
+        return new String(decompress(body), StandardCharsets.UTF_8);
+    }
+
+    public boolean contains(ContentHandle handle) {
+        return handle != null && bodies.containsKey(handle.digest());
+    }
+
+    // Number of distinct bodies held
+    public int getUniqueBodyCount() {
+        return bodies.size();
+    }
+
+    // Number of store() calls, including those served by an existing body
+    public long getStoreRequestCount() {
+        return storeRequests.get();
+    }
+
+    public long getRawBytes() {
+        return rawBytes.get();
+    }
+
+    public long getCompressedBytes() {
+        return compressedBytes.get();
+    }
+
+    private static StoredBody compress(byte[] raw) {
+        int blockCount = Math.max(1, (raw.length + BLOCK_SIZE - 1) / BLOCK_SIZE);
+        byte[][] blocks = new byte[blockCount][];
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        byte[] buffer = new byte[BLOCK_SIZE];
+        try {
+            for (int i = 0; i < blockCount; i++) {
+                int offset = i * BLOCK_SIZE;
+                int length = Math.min(BLOCK_SIZE, raw.length - offset);
+                deflater.reset();
+                deflater.setInput(raw, offset, length);
+                deflater.finish();
+
+                ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(16, length / 2));
+                while (!deflater.finished()) {
+                    int written = deflater.deflate(buffer);
+                    out.write(buffer, 0, written);
+                }
+                blocks[i] = out.toByteArray();
+            }
+        } finally {
+            deflater.end();
+        }
+        return new StoredBody(blocks, raw.length);
+    }
+
+    private static byte[] decompress(StoredBody body) {
+        byte[] raw = new byte[body.byteLength()];
+        Inflater inflater = new Inflater();
+        try {
+            int position = 0;
+            byte[][] blocks = body.blocks();
+            for (int i = 0; i < blocks.length; i++) {
+                inflater.reset();
+                inflater.setInput(blocks[i]);
+                while (!inflater.finished() && position < raw.length) {
+                    int inflated = inflater.inflate(raw, position, raw.length - position);
+                    // No progress with all input consumed: the block was cut short
+                    if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                        throw new DataFormatException("Block " + i + " ends before its deflate stream");
+                    }
+                    position += inflated;
+                }
+            }
+            if (position != raw.length) {
+                throw new IllegalStateException("Document body truncated: expected "
+                        + raw.length + " bytes, got " + position);
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupted document body block", e);
+        } finally {
+            inflater.end();
+        }
+        return raw;
+    }
+
+    private static long sizeOf(StoredBody body) {
+        return Arrays.stream(body.blocks()).mapToLong(block -> block.length).sum();
+    }
+
+    private static String digest(byte[] raw) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(raw));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.courtsystem.storage;
+
+// One decoded trial journal record. The meaning of a, b, c and the two text
+// fields depends on the type (see TrialJournal for the layout).
+public record JournalRecord(TrialEventType type, int caseId, long timestampNanos,
+                            int a, int b, long c, String text1, String text2) {
+}
@@ -0,0 +1,339 @@
+package org.example.courtsystem.storage;
+
+import org.example.courtsystem.model.EvidenceType;
+import org.example.courtsystem.model.cases.Evidence;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.Closeable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+// Evidence for one case kept in native memory instead of as Evidence objects.
+// Meant for very large digital-evidence manifests, where millions of small
+// records would otherwise sit on the heap and be traced by every old-gen GC.
+//
+// Layout: direct data segments of SEGMENT_SIZE bytes hold records
+//   int byteLength, byte[byteLength] description (UTF-8)
+// and direct index segments hold one long per item:
+//   typeOrdinal << 56 | segment << 32 | offset
+// Keeping the type in the index lets type filters scan only the dense index
+// without touching the data segments.
+// A record never straddles two data segments; one larger than a segment gets
+// a segment of its own.
+//
+// The store's memory is released by close(), not by the GC. No case object owns
+// it (a closed case can still be appealed and retried), so whoever creates the
+// store for a case must close it once that case is archived or dropped, e.g.
+// with try-with-resources around the import and analysis that need it. If it is
+// never closed the segments are only freed when the GC collects them.
+// After close() the store and any Entry taken from it throw IllegalStateException.
+// Like a case's own lists it is not thread-safe.
+public class OffHeapEvidenceStore implements Closeable {
+    private static final Logger logger = LogManager.getLogger(OffHeapEvidenceStore.class);
+    private static final int SEGMENT_SIZE = 1 << 20;
+    private static final int INDEX_ENTRIES_PER_SEGMENT = 1 << 13;
+    private static final int RECORD_HEADER = Integer.BYTES;
+    private static final EvidenceType[] TYPES = EvidenceType.values();
+    // Frees a direct buffer right away; null if the running JDK does not allow it
+    private static final MethodHandle INVOKE_CLEANER = findCleaner();
+
+    private final String caseTitle;
+    private final List<ByteBuffer> dataSegments = new ArrayList<>();
+    private final List<ByteBuffer> indexSegments = new ArrayList<>();
+    private ByteBuffer current;
+    private int size;
+    private long reservedBytes;
+    private long usedBytes;
+    private boolean closed;
+
+    public OffHeapEvidenceStore(String caseTitle) {
+        if (caseTitle == null || caseTitle.isBlank()) {
+            throw new IllegalArgumentException("Case title cannot be null or empty");
+        }
+        this.caseTitle = caseTitle;
+    }
+
+    // Copies the evidence into native memory and returns its index
+    public int add(Evidence evidence) {
+        if (evidence == null) {
+            throw new IllegalArgumentException("Evidence cannot be null");
+        }
+        return add(evidence.description(), evidence.type());
+    }
+
+    public int add(String description, EvidenceType type) {
+        ensureOpen();
+        if (description == null || description.isBlank() || type == null) {
+            throw new IllegalArgumentException("Evidence needs a description and a type");
+        }
+        byte[] bytes = description.getBytes(StandardCharsets.UTF_8);
+        int recordSize = RECORD_HEADER + bytes.length;
+        if (current == null || current.remaining() < recordSize) {
+            current = allocate(Math.max(SEGMENT_SIZE, recordSize));
+            dataSegments.add(current);
+        }
+        int offset = current.position();
+        current.putInt(bytes.length).put(bytes);
+        usedBytes += recordSize;
+
+        int index = size;
+        if (index % INDEX_ENTRIES_PER_SEGMENT == 0) {
+            indexSegments.add(allocate(INDEX_ENTRIES_PER_SEGMENT * Long.BYTES));
+        }
+        indexSegments.get(index / INDEX_ENTRIES_PER_SEGMENT)
+                .putLong((index % INDEX_ENTRIES_PER_SEGMENT) * Long.BYTES,
+                        (long) type.ordinal() << 56 | (long) (dataSegments.size() - 1) << 32 | offset);
+        usedBytes += Long.BYTES;
+        size++;
+        return index;
+    }
+
+    public void addAll(Iterable<Evidence> evidence) {
+        for (Evidence e : evidence) {
+            add(e);
+        }
+    }
+
+    public String getCaseTitle() {
+        return caseTitle;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public EvidenceType typeAt(int index) {
+        return position(index).type();
+    }
+
+    public String descriptionAt(int index) {
+        return position(index).description();
+    }
+
+    // Materializes one item as a heap Evidence record
+    public Evidence get(int index) {
+        Entry entry = position(index);
+        return new Evidence(entry.description(), entry.type());
+    }
+
+    // Visits every item through a single reused Entry. The entry is only valid
+    // inside the callback; call description() or toEvidence() to keep anything.
+    public void forEach(Consumer<Entry> action) {
+        ensureOpen();
+        Entry cursor = new Entry();
+        for (int i = 0; i < size; i++) {
+            action.accept(cursor.moveTo(i));
+        }
+    }
+
+    public int count(Predicate<Entry> filter) {
+        ensureOpen();
+        Entry cursor = new Entry();
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (filter.test(cursor.moveTo(i))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public int count(EvidenceType type) {
+        return count(entry -> entry.type() == type);
+    }
+
+    // Indices of matching items, in insertion order
+    public int[] indicesMatching(Predicate<Entry> filter) {
+        ensureOpen();
+        Entry cursor = new Entry();
+        int[] matches = new int[16];
+        int found = 0;
+        for (int i = 0; i < size; i++) {
+            if (filter.test(cursor.moveTo(i))) {
+                if (found == matches.length) {
+                    matches = Arrays.copyOf(matches, found * 2);
+                }
+                matches[found++] = i;
+            }
+        }
+        return Arrays.copyOf(matches, found);
+    }
+
+    // Native bytes allocated, including unused segment tails
+    public long getReservedBytes() {
+        return reservedBytes;
+    }
+
+    public long getUsedBytes() {
+        return usedBytes;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    // Releases the native memory. The store cannot be used afterwards.
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (ByteBuffer segment : dataSegments) {
+            free(segment);
+        }
+        for (ByteBuffer segment : indexSegments) {
+            free(segment);
+        }
+        dataSegments.clear();
+        indexSegments.clear();
+        current = null;
+        logger.debug("Released {} bytes of off-heap evidence for case {}", reservedBytes, caseTitle);
+    }
+
+    private Entry position(int index) {
+        ensureOpen();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Evidence index " + index + " out of " + size);
+        }
+        return new Entry().moveTo(index);
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Evidence store for case " + caseTitle + " is closed");
+        }
+    }
+
+    private ByteBuffer allocate(int bytes) {
+        reservedBytes += bytes;
+        return ByteBuffer.allocateDirect(bytes);
+    }
+
+    private static void free(ByteBuffer buffer) {
+        if (INVOKE_CLEANER == null) {
+            return; // left to the GC
+        }
+        try {
+            INVOKE_CLEANER.invoke(buffer);
+        } catch (Throwable e) {
+            logger.warn("Could not release off-heap segment: {}", e.getMessage());
+        }
+    }
+
+    private static MethodHandle findCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            return MethodHandles.lookup()
+                    .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(field.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            logger.warn("Off-heap evidence will be freed by the GC only: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // Read-only view of one stored item. Reads straight from native memory;
+    // nothing is allocated unless description() or toEvidence() is called.
+    public final class Entry {
+        private long address;
+        private ByteBuffer segment;
+        private int offset;
+        private int index;
+        private byte[] scratch = new byte[64];
+
+        // Only reads the index; the data segment is resolved on first use
+        private Entry moveTo(int index) {
+            ensureOpen();
+            this.address = indexSegments.get(index / INDEX_ENTRIES_PER_SEGMENT)
+                    .getLong((index % INDEX_ENTRIES_PER_SEGMENT) * Long.BYTES);
+            this.segment = null;
+            this.index = index;
+            return this;
+        }
+
+        // Checked on every read, since an entry may escape a callback and outlive the store
+        private ByteBuffer data() {
+            ensureOpen();
+            if (segment == null) {
+                segment = dataSegments.get((int) (address >>> 32) & 0xFFFFFF);
+                offset = (int) address;
+            }
+            return segment;
+        }
+
+        public int index() {
+            return index;
+        }
+
+        public EvidenceType type() {
+            return TYPES[(int) (address >>> 56)];
+        }
+
+        // Length of the description in UTF-8 bytes
+        public int descriptionLength() {
+            return data().getInt(offset);
+        }
+
+        // Searches for an already encoded UTF-8 needle. The bytes are copied in
+        // bulk into a per-entry scratch array, which is much faster than reading
+        // the direct buffer one byte at a time.
+        public boolean descriptionContains(byte[] utf8) {
+            int length = descriptionLength();
+            if (utf8.length > length) {
+                return false;
+            }
+            if (scratch.length < length) {
+                scratch = new byte[Math.max(length, scratch.length * 2)];
+            }
+            data().get(offset + RECORD_HEADER, scratch, 0, length);
+            int last = length - utf8.length;
+            outer:
+            for (int i = 0; i <= last; i++) {
+                for (int j = 0; j < utf8.length; j++) {
+                    if (scratch[i + j] != utf8[j]) {
+                        continue outer;
+                    }
+                }
+                return true;
+            }
+            return false;
+        }
+
+        public boolean descriptionStartsWith(byte[] utf8) {
+            if (utf8.length > descriptionLength()) {
+                return false;
+            }
+            ByteBuffer data = data();
+            int start = offset + RECORD_HEADER;
+            for (int j = 0; j < utf8.length; j++) {
+                if (data.get(start + j) != utf8[j]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        public String description() {
+            byte[] bytes = new byte[descriptionLength()];
+            data().get(offset + RECORD_HEADER, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        public Evidence toEvidence() {
+            return new Evidence(description(), type());
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.courtsystem.storage;
+
+// Record types in the trial journal. Codes are part of the file format: never reuse one.
+public enum TrialEventType {
+    CASE_OPENED(1),
+    PHASE_STARTED(2),
+    PHASE_ENDED(3),
+    EVIDENCE_ACCEPTED(4),
+    EVIDENCE_REJECTED(5),
+    WITNESS_EXAMINED(6),
+    VERDICT_ISSUED(7);
+
+    private static final TrialEventType[] BY_CODE = new TrialEventType[8];
+
+    static {
+        for (TrialEventType type : values()) {
+            BY_CODE[type.code] = type;
+        }
+    }
+
+    private final int code;
+
+    TrialEventType(int code) {
+        this.code = code;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    // Returns null for 0 (an unwritten slot) and unknown codes
+    public static TrialEventType fromCode(int code) {
+        return code > 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+    }
+}
@@ -0,0 +1,183 @@
+package org.example.courtsystem.storage;
+
+import org.example.courtsystem.model.cases.Evidence;
+import org.example.courtsystem.model.court.TrialPhase;
+import org.example.courtsystem.model.documents.Verdict;
+import org.example.courtsystem.model.people.Witness;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Append-only binary journal of trial events written through memory-mapped segments.
+//
+// File layout: a 64-byte header followed by fixed 128-byte records.
+//   header: int magic, int version, int recordSize, int reserved,
+//           long openedAtEpochMillis, long recordCount (set on close)
+//   record: int type, int caseId, long nanosSinceOpen, int a, int b, long c,
+//           byte[48] text1, byte[48] text2 (UTF-8, truncated, zero padded)
+//
+// Per type:
+//   CASE_OPENED        text1 = case title
+//   PHASE_STARTED      a = phase ordinal
+//   PHASE_ENDED        a = phase ordinal, c = duration in nanos
+//   EVIDENCE_ACCEPTED  a = index in case, b = evidence type ordinal, text1 = description
+//   EVIDENCE_REJECTED  same as accepted, text2 = reason
+//   WITNESS_EXAMINED   a = witness id, text1 = name
+//   VERDICT_ISSUED     a = 1 if guilty, c = verdict id, text1 = result
+//
+// Writers claim slots with a CAS on the write position, so concurrent trials
+// can share one journal. The type is written last so a slot stays 0 until the
+// record is complete; readers skip such slots.
+public class TrialJournal implements Closeable {
+    private static final Logger logger = LogManager.getLogger(TrialJournal.class);
+
+    static final int MAGIC = 0x43525431; // "CRT1"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 64;
+    static final int RECORD_SIZE = 128;
+    static final int TEXT_SIZE = 48;
+    static final int TEXT1_OFFSET = 32;
+    static final int TEXT2_OFFSET = TEXT1_OFFSET + TEXT_SIZE;
+    static final int RECORD_COUNT_OFFSET = 24;
+    private static final long SEGMENT_SIZE = 16L * 1024 * 1024;
+    private static final long RECORDS_PER_SEGMENT = SEGMENT_SIZE / RECORD_SIZE;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final Map<Long, MappedByteBuffer> segments = new ConcurrentHashMap<>();
+    private final AtomicLong nextRecord = new AtomicLong();
+    private final AtomicInteger nextCaseId = new AtomicInteger();
+    private final long openedAtNanos;
+    private volatile boolean closed;
+
+    private TrialJournal(FileChannel channel) throws IOException {
+        this.channel = channel;
+        this.openedAtNanos = System.nanoTime();
+        this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+        header.putInt(0, MAGIC);
+        header.putInt(4, VERSION);
+        header.putInt(8, RECORD_SIZE);
+        header.putLong(16, System.currentTimeMillis());
+        header.putLong(RECORD_COUNT_OFFSET, 0);
+    }
+
+    // Creates a new journal, replacing any existing file
+    public static TrialJournal create(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        logger.info("Trial journal opened: {}", path);
+        return new TrialJournal(channel);
+    }
+
+    // Registers a case and returns the id used by its other records
+    public int openCase(String caseTitle) {
+        int caseId = nextCaseId.incrementAndGet();
+        append(TrialEventType.CASE_OPENED, caseId, 0, 0, 0, caseTitle, null);
+        return caseId;
+    }
+
+    public void phaseStarted(int caseId, TrialPhase phase) {
+        append(TrialEventType.PHASE_STARTED, caseId, phase.ordinal(), 0, 0, null, null);
+    }
+
+    public void phaseEnded(int caseId, TrialPhase phase, long durationNanos) {
+        append(TrialEventType.PHASE_ENDED, caseId, phase.ordinal(), 0, durationNanos, null, null);
+    }
+
+    public void evidenceAccepted(int caseId, int index, Evidence evidence) {
+        append(TrialEventType.EVIDENCE_ACCEPTED, caseId, index, evidence.type().ordinal(), 0,
+                evidence.description(), null);
+    }
+
+    public void evidenceRejected(int caseId, int index, Evidence evidence, String reason) {
+        append(TrialEventType.EVIDENCE_REJECTED, caseId, index,
+                evidence != null ? evidence.type().ordinal() : -1, 0,
+                evidence != null ? evidence.description() : null, reason);
+    }
+
+    public void witnessExamined(int caseId, Witness witness) {
+        append(TrialEventType.WITNESS_EXAMINED, caseId, witness.getWitnessId(), 0, 0,
+                witness.getName(), null);
+    }
+
+    public void verdictIssued(int caseId, Verdict verdict) {
+        append(TrialEventType.VERDICT_ISSUED, caseId, "GUILTY".equals(verdict.getResult()) ? 1 : 0, 0,
+                verdict.getVerdictId(), verdict.getResult(), null);
+    }
+
+    public long getRecordCount() {
+        return nextRecord.get();
+    }
+
+    // Flushes written segments to disk
+    public void force() {
+        segments.values().forEach(MappedByteBuffer::force);
+        header.putLong(RECORD_COUNT_OFFSET, nextRecord.get());
+        header.force();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        force();
+        channel.close();
+        logger.info("Trial journal closed with {} records", nextRecord.get());
+    }
+
+    private void append(TrialEventType type, int caseId, int a, int b, long c, String text1, String text2) {
+        if (closed) {
+            throw new IllegalStateException("Trial journal is closed");
+        }
+        long record = nextRecord.getAndIncrement();
+        MappedByteBuffer segment = segmentFor(record / RECORDS_PER_SEGMENT);
+        int offset = (int) ((record % RECORDS_PER_SEGMENT) * RECORD_SIZE);
+
+        segment.putInt(offset + 4, caseId);
+        segment.putLong(offset + 8, System.nanoTime() - openedAtNanos);
+        segment.putInt(offset + 16, a);
+        segment.putInt(offset + 20, b);
+        segment.putLong(offset + 24, c);
+        putText(segment, offset + TEXT1_OFFSET, text1);
+        putText(segment, offset + TEXT2_OFFSET, text2);
+        segment.putInt(offset, type.getCode());
+    }
+
+    private MappedByteBuffer segmentFor(long segmentIndex) {
+        return segments.computeIfAbsent(segmentIndex, index -> {
+            try {
+                return channel.map(FileChannel.MapMode.READ_WRITE,
+                        HEADER_SIZE + index * SEGMENT_SIZE, SEGMENT_SIZE);
+            } catch (IOException e) {
+                throw new IllegalStateException("Unable to map trial journal segment " + index, e);
+            }
+        });
+    }
+
+    private static void putText(ByteBuffer buffer, int offset, String text) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        int length = Math.min(bytes.length, TEXT_SIZE);
+        // Do not cut a multi-byte character in half
+        while (length < bytes.length && length > 0 && (bytes[length] & 0xC0) == 0x80) {
+            length--;
+        }
+        buffer.put(offset, bytes, 0, length);
+    }
+}
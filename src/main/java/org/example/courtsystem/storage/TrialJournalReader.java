@@ -0,0 +1,88 @@
+package org.example.courtsystem.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+// Sequential reader for files written by TrialJournal
+public class TrialJournalReader implements Closeable {
+    private static final long MAX_MAPPING = Integer.MAX_VALUE - (Integer.MAX_VALUE % TrialJournal.RECORD_SIZE);
+
+    private final FileChannel channel;
+    private final long openedAtEpochMillis;
+    private final long recordLimit;
+
+    public TrialJournalReader(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, TrialJournal.HEADER_SIZE);
+        if (header.getInt(0) != TrialJournal.MAGIC) {
+            channel.close();
+            throw new IOException("Not a trial journal: " + path);
+        }
+        if (header.getInt(8) != TrialJournal.RECORD_SIZE) {
+            channel.close();
+            throw new IOException("Unsupported trial journal record size: " + header.getInt(8));
+        }
+        this.openedAtEpochMillis = header.getLong(16);
+        long slots = (channel.size() - TrialJournal.HEADER_SIZE) / TrialJournal.RECORD_SIZE;
+        long recordCount = header.getLong(TrialJournal.RECORD_COUNT_OFFSET);
+        // A journal that was not closed cleanly has no count; scan every slot instead
+        this.recordLimit = recordCount > 0 ? Math.min(recordCount, slots) : slots;
+    }
+
+    public long getOpenedAtEpochMillis() {
+        return openedAtEpochMillis;
+    }
+
+    // Calls the consumer for every complete record, in append order
+    public void forEach(Consumer<JournalRecord> consumer) throws IOException {
+        long position = TrialJournal.HEADER_SIZE;
+        long end = TrialJournal.HEADER_SIZE + recordLimit * TrialJournal.RECORD_SIZE;
+        while (position < end) {
+            long length = Math.min(MAX_MAPPING, end - position);
+            MappedByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            for (int offset = 0; offset < length; offset += TrialJournal.RECORD_SIZE) {
+                TrialEventType type = TrialEventType.fromCode(chunk.getInt(offset));
+                if (type != null) {
+                    consumer.accept(decode(chunk, offset, type));
+                }
+            }
+            position += length;
+        }
+    }
+
+    private static JournalRecord decode(ByteBuffer buffer, int offset, TrialEventType type) {
+        return new JournalRecord(type,
+                buffer.getInt(offset + 4),
+                buffer.getLong(offset + 8),
+                buffer.getInt(offset + 16),
+                buffer.getInt(offset + 20),
+                buffer.getLong(offset + 24),
+                getText(buffer, offset + TrialJournal.TEXT1_OFFSET),
+                getText(buffer, offset + TrialJournal.TEXT2_OFFSET));
+    }
+
+    private static String getText(ByteBuffer buffer, int offset) {
+        int length = 0;
+        while (length < TrialJournal.TEXT_SIZE && buffer.get(offset + length) != 0) {
+            length++;
+        }
+        if (length == 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes, 0, length);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
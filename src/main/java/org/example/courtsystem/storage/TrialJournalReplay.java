@@ -0,0 +1,159 @@
+package org.example.courtsystem.storage;
+
+import org.example.courtsystem.model.EvidenceType;
+import org.example.courtsystem.model.court.TrialPhase;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Offline replay of a trial journal: rebuilds each case's timeline and
+// aggregate statistics without touching the text log.
+// Usage: TrialJournalReplay <journal file> [case title to print]
+public class TrialJournalReplay {
+    private final Map<Integer, CaseTimeline> timelines = new HashMap<>();
+    private final Map<TrialEventType, Long> eventCounts = new EnumMap<>(TrialEventType.class);
+    private final long[] phaseTotalNanos = new long[TrialPhase.values().length];
+    private final long[] phaseMaxNanos = new long[TrialPhase.values().length];
+    private final long[] phaseCounts = new long[TrialPhase.values().length];
+    private final Map<String, Long> verdicts = new HashMap<>();
+    private final Map<String, Long> rejectionReasons = new HashMap<>();
+
+    // Everything recorded for one case, in journal order
+    public static class CaseTimeline {
+        private final int caseId;
+        private String title;
+        private final List<JournalRecord> events = new ArrayList<>();
+
+        CaseTimeline(int caseId) {
+            this.caseId = caseId;
+        }
+
+        public int getCaseId() {
+            return caseId;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public List<JournalRecord> getEvents() {
+            return events;
+        }
+    }
+
+    public static TrialJournalReplay replay(Path journal) throws IOException {
+        TrialJournalReplay replay = new TrialJournalReplay();
+        try (TrialJournalReader reader = new TrialJournalReader(journal)) {
+            reader.forEach(replay::apply);
+        }
+        return replay;
+    }
+
+    private void apply(JournalRecord record) {
+        eventCounts.merge(record.type(), 1L, Long::sum);
+        CaseTimeline timeline = timelines.computeIfAbsent(record.caseId(), CaseTimeline::new);
+        timeline.events.add(record);
+
+        switch (record.type()) {
+            case CASE_OPENED -> timeline.title = record.text1();
+            case PHASE_ENDED -> {
+                int phase = record.a();
+                phaseTotalNanos[phase] += record.c();
+                phaseMaxNanos[phase] = Math.max(phaseMaxNanos[phase], record.c());
+                phaseCounts[phase]++;
+            }
+            case EVIDENCE_REJECTED -> rejectionReasons.merge(
+                    record.text2() != null ? record.text2() : "unknown", 1L, Long::sum);
+            case VERDICT_ISSUED -> verdicts.merge(record.text1(), 1L, Long::sum);
+            default -> {
+            }
+        }
+    }
+
+    public Map<Integer, CaseTimeline> getTimelines() {
+        return timelines;
+    }
+
+    public Map<TrialEventType, Long> getEventCounts() {
+        return eventCounts;
+    }
+
+    public Map<String, Long> getVerdictCounts() {
+        return verdicts;
+    }
+
+    public Map<String, Long> getRejectionReasons() {
+        return rejectionReasons;
+    }
+
+    public double getAveragePhaseNanos(TrialPhase phase) {
+        long count = phaseCounts[phase.ordinal()];
+        return count == 0 ? 0.0 : (double) phaseTotalNanos[phase.ordinal()] / count;
+    }
+
+    public long getMaxPhaseNanos(TrialPhase phase) {
+        return phaseMaxNanos[phase.ordinal()];
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: TrialJournalReplay <journal file> [case title]");
+            return;
+        }
+        Path path = Paths.get(args[0]);
+        long start = System.nanoTime();
+        TrialJournalReplay replay = replay(path);
+        long elapsed = System.nanoTime() - start;
+        long records = replay.getEventCounts().values().stream().mapToLong(Long::longValue).sum();
+
+        System.out.printf("Replayed %d records for %d cases in %.1f ms (%.0f records/s)%n",
+                records, replay.getTimelines().size(), elapsed / 1e6, records * 1e9 / Math.max(1, elapsed));
+        System.out.println("Events: " + replay.getEventCounts());
+        System.out.println("Verdicts: " + replay.getVerdictCounts());
+        System.out.println("Rejections: " + replay.getRejectionReasons());
+        for (TrialPhase phase : TrialPhase.values()) {
+            System.out.printf("  %-22s avg=%.1f us max=%.1f us%n", phase.getDescription(),
+                    replay.getAveragePhaseNanos(phase) / 1e3, replay.getMaxPhaseNanos(phase) / 1e3);
+        }
+
+        if (args.length > 1) {
+            long openedAt;
+            try (TrialJournalReader reader = new TrialJournalReader(path)) {
+                openedAt = reader.getOpenedAtEpochMillis();
+            }
+            replay.getTimelines().values().stream()
+                    .filter(timeline -> args[1].equals(timeline.getTitle()))
+                    .forEach(timeline -> printTimeline(timeline, openedAt));
+        }
+    }
+
+    private static void printTimeline(CaseTimeline timeline, long openedAtEpochMillis) {
+        System.out.println("\nTimeline for " + timeline.getTitle() + " (#" + timeline.getCaseId() + ")");
+        for (JournalRecord record : timeline.getEvents()) {
+            Instant at = Instant.ofEpochMilli(openedAtEpochMillis).plusNanos(record.timestampNanos());
+            System.out.println("  " + at + " " + describe(record));
+        }
+    }
+
+    private static String describe(JournalRecord record) {
+        return switch (record.type()) {
+            case CASE_OPENED -> "case opened: " + record.text1();
+            case PHASE_STARTED -> TrialPhase.values()[record.a()].getDescription() + " started";
+            case PHASE_ENDED -> TrialPhase.values()[record.a()].getDescription()
+                    + " ended after " + record.c() / 1000 + " us";
+            case EVIDENCE_ACCEPTED -> "evidence #" + record.a() + " accepted ("
+                    + EvidenceType.values()[record.b()] + "): " + record.text1();
+            case EVIDENCE_REJECTED -> "evidence #" + record.a() + " rejected: " + record.text1()
+                    + " - " + record.text2();
+            case WITNESS_EXAMINED -> "witness #" + record.a() + " examined: " + record.text1();
+            case VERDICT_ISSUED -> "verdict " + record.text1() + " (verdict id " + record.c() + ")";
+        };
+    }
+}
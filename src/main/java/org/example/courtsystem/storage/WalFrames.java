@@ -0,0 +1,121 @@
+package org.example.courtsystem.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+// Binary framing shared by log segments and checkpoints.
+//   frame:   int payloadLength, int crc32c(payload), payload
+//   payload: byte type, long lsn, int a, int b, long c, str key, str text1, str text2
+//   str:     int byteLength (-1 for null), UTF-8 bytes
+// Reading stops at the first frame that is cut short or fails its checksum,
+// which is how a write torn by a crash shows up. Payloads over MAX_PAYLOAD are
+// refused when written, since reading treats them as damage.
+final class WalFrames {
+    private static final int FRAME_HEADER = 8;
+    static final int MAX_PAYLOAD = 64 * 1024 * 1024;
+
+    private WalFrames() {
+    }
+
+    // Appends one frame; out is left untouched if the record is too large
+    static void write(WalRecord record, ByteArrayOutputStream out) throws IOException {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream(64);
+        try (DataOutputStream data = new DataOutputStream(payload)) {
+            data.writeByte(record.type().getCode());
+            data.writeLong(record.lsn());
+            data.writeInt(record.a());
+            data.writeInt(record.b());
+            data.writeLong(record.c());
+            writeString(data, record.key());
+            writeString(data, record.text1());
+            writeString(data, record.text2());
+        } catch (IOException e) {
+            throw new IllegalStateException("In-memory write failed", e);
+        }
+        if (payload.size() > MAX_PAYLOAD) {
+            throw new IOException("Log record of " + payload.size() + " bytes exceeds the limit of "
+                    + MAX_PAYLOAD + " bytes");
+        }
+        byte[] bytes = payload.toByteArray();
+        CRC32C crc = new CRC32C();
+        crc.update(bytes);
+        ByteBuffer header = ByteBuffer.allocate(FRAME_HEADER);
+        header.putInt(bytes.length).putInt((int) crc.getValue());
+        out.write(header.array(), 0, FRAME_HEADER);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    // Decodes frames until the data ends or a damaged frame is found.
+    // Returns the number of bytes that held intact frames.
+    static int read(ByteBuffer buffer, Consumer<WalRecord> sink) {
+        int good = buffer.position();
+        while (buffer.remaining() >= FRAME_HEADER) {
+            int length = buffer.getInt();
+            int checksum = buffer.getInt();
+            if (length <= 0 || length > MAX_PAYLOAD || length > buffer.remaining()) {
+                break;
+            }
+            ByteBuffer payload = buffer.slice(buffer.position(), length);
+            CRC32C crc = new CRC32C();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+            WalRecord record;
+            try {
+                record = decode(payload);
+            } catch (BufferUnderflowException | IllegalArgumentException e) {
+                break;
+            }
+            if (record == null) {
+                break;
+            }
+            buffer.position(buffer.position() + length);
+            good = buffer.position();
+            sink.accept(record);
+        }
+        return good;
+    }
+
+    private static WalRecord decode(ByteBuffer payload) {
+        WalRecordType type = WalRecordType.fromCode(payload.get());
+        if (type == null) {
+            return null;
+        }
+        long lsn = payload.getLong();
+        int a = payload.getInt();
+        int b = payload.getInt();
+        long c = payload.getLong();
+        return new WalRecord(lsn, type, readString(payload), a, b, c, readString(payload), readString(payload));
+    }
+
+    private static void writeString(DataOutputStream data, String value) throws IOException {
+        if (value == null) {
+            data.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        data.writeInt(bytes.length);
+        data.write(bytes);
+    }
+
+    private static String readString(ByteBuffer payload) {
+        int length = payload.getInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > payload.remaining()) {
+            throw new IllegalArgumentException("String runs past the record");
+        }
+        String value = new String(payload.array(), payload.arrayOffset() + payload.position(), length,
+                StandardCharsets.UTF_8);
+        payload.position(payload.position() + length);
+        return value;
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.courtsystem.storage;
+
+// One write-ahead log record. The meaning of key, a, b, c and the two text
+// fields depends on the type (see CourtWriteAheadLog for the layout).
+public record WalRecord(long lsn, WalRecordType type, String key, int a, int b, long c,
+                        String text1, String text2) {
+}
@@ -0,0 +1,38 @@
+package org.example.courtsystem.storage;
+
+// Record types in the court write-ahead log. Codes are part of the file format: never reuse one.
+public enum WalRecordType {
+    CASE_OPENED(1),
+    DOCUMENT_ADDED(2),
+    EVIDENCE_ADDED(3),
+    WITNESS_ADDED(4),
+    VERDICT_ISSUED(5),
+    DOCUMENT_QUEUED(6),
+    // Count-based dequeue; only read from older logs
+    DOCUMENTS_DEQUEUED(7),
+    CHECKPOINT(8),
+    DOCUMENT_DEQUEUED(9);
+
+    private static final WalRecordType[] BY_CODE = new WalRecordType[10];
+
+    static {
+        for (WalRecordType type : values()) {
+            BY_CODE[type.code] = type;
+        }
+    }
+
+    private final int code;
+
+    WalRecordType(int code) {
+        this.code = code;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    // Returns null for unknown codes
+    public static WalRecordType fromCode(int code) {
+        return code > 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+    }
+}
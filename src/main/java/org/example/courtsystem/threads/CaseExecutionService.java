@@ -0,0 +1,187 @@
+package org.example.courtsystem.threads;
+
+import org.example.courtsystem.model.cases.ConcreteCase;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// Runs each case on its own virtual thread so that blocking case work does
+// not tie up a platform thread.
+// The project is compiled for Java 17, so virtual threads are looked up at
+// runtime: on Java 21+ every case gets a virtual thread, on older runtimes the
+// service falls back to a fixed pool of platform threads.
+public class CaseExecutionService implements AutoCloseable {
+    private static final Logger logger = LogManager.getLogger(CaseExecutionService.class);
+    private static final int DEFAULT_FALLBACK_POOL_SIZE = 64;
+
+    private final ExecutorService executor;
+    private final boolean virtualThreads;
+    private final Map<ConcreteCase, Future<?>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder cancelled = new LongAdder();
+
+    public CaseExecutionService() {
+        this(DEFAULT_FALLBACK_POOL_SIZE);
+    }
+
+    // fallbackPoolSize is only used when the runtime has no virtual threads
+    public CaseExecutionService(int fallbackPoolSize) {
+        ExecutorService virtual = newVirtualThreadExecutor();
+        this.virtualThreads = virtual != null;
+        this.executor = virtual != null ? virtual : newPlatformPool(fallbackPoolSize);
+        logger.info("Case execution service started on {}",
+                virtualThreads ? "virtual threads" : fallbackPoolSize + " platform threads");
+    }
+
+    // True when the running JVM provides virtual threads (Java 21+)
+    public static boolean isVirtualThreadSupported() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    public boolean usesVirtualThreads() {
+        return virtualThreads;
+    }
+
+    // Submits the standard case processing work
+    public Future<?> submit(ConcreteCase courtCase) {
+        return submit(courtCase, new CaseProcessorThread(courtCase));
+    }
+
+    // Submits custom work for a case. A case can have only one task in flight.
+    public Future<?> submit(ConcreteCase courtCase, Runnable work) {
+        if (courtCase == null || work == null) {
+            throw new IllegalArgumentException("Case and work cannot be null");
+        }
+        CaseTask task = new CaseTask(courtCase, work);
+        if (inFlight.putIfAbsent(courtCase, task) != null) {
+            throw new IllegalStateException("Case already in flight: " + courtCase.getTitle());
+        }
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(courtCase, task);
+            throw e;
+        }
+        return task;
+    }
+
+    // Cancels a case's task, interrupting it if it is already running
+    public boolean cancel(ConcreteCase courtCase) {
+        Future<?> task = inFlight.get(courtCase);
+        return task != null && task.cancel(true);
+    }
+
+    // Cancels every case still in flight and returns how many were cancelled
+    public int cancelAll() {
+        int count = 0;
+        for (Future<?> task : new ArrayList<>(inFlight.values())) {
+            if (task.cancel(true)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    public long getCompletedCount() {
+        return completed.sum();
+    }
+
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    public long getCancelledCount() {
+        return cancelled.sum();
+    }
+
+    // Stops accepting cases and waits for the ones in flight. Cases still
+    // running at the deadline are cancelled. Returns true if all finished in time.
+    public boolean shutdown(long timeout, TimeUnit unit) throws InterruptedException {
+        executor.shutdown();
+        if (executor.awaitTermination(timeout, unit)) {
+            return true;
+        }
+        int stopped = cancelAll();
+        List<Runnable> neverStarted = executor.shutdownNow();
+        logger.warn("Shutdown timed out: {} cases cancelled, {} never started", stopped, neverStarted.size());
+        return false;
+    }
+
+    @Override
+    public void close() {
+        try {
+            shutdown(60, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static ExecutorService newPlatformPool(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Pool size must be positive");
+        }
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(size, runnable -> {
+            Thread thread = new Thread(runnable, "case-worker-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // Tracks a case from submission until it finishes, fails or is cancelled
+    private final class CaseTask extends FutureTask<Void> {
+        private final ConcreteCase courtCase;
+
+        CaseTask(ConcreteCase courtCase, Runnable work) {
+            super(work, null);
+            this.courtCase = courtCase;
+        }
+
+        @Override
+        protected void done() {
+            inFlight.remove(courtCase, this);
+            if (isCancelled()) {
+                cancelled.increment();
+                return;
+            }
+            try {
+                get();
+                completed.increment();
+            } catch (Exception e) {
+                failed.increment();
+                logger.error("Case {} failed: {}", courtCase.getTitle(), e.getMessage());
+            }
+        }
+    }
+}
@@ -4,26 +4,34 @@ import org.example.courtsystem.util.CourtLogger;
 import org.example.courtsystem.model.cases.ConcreteCase;
 
 public class CaseProcessorThread implements Runnable {
+    private static final long DEFAULT_PROCESSING_MILLIS = 1000;
     private final ConcreteCase courtCase;
     private final CourtLogger logger;
+    private final long processingMillis;
 
     public CaseProcessorThread(ConcreteCase courtCase) {
+        this(courtCase, DEFAULT_PROCESSING_MILLIS);
+    }
+
+    // processingMillis is how long the simulated blocking work takes
+    public CaseProcessorThread(ConcreteCase courtCase, long processingMillis) {
         this.courtCase = courtCase;
         this.logger = CourtLogger.getInstance();
+        this.processingMillis = processingMillis;
     }
 
     @Override
     public void run() {
         try {
-            logger.logEvent("Processing case: " + courtCase.getTitle() + " in thread: "
-                    + Thread.currentThread().getName());
+            // CourtLogger records the calling thread with every entry
+            logger.logEvent("Processing case: {}", courtCase.getTitle());
 
             // Case processing simulation
-            Thread.sleep(1000);
+            Thread.sleep(processingMillis);
 
-            logger.logEvent("Case processed: " + courtCase.getTitle());
+            logger.logEvent("Case processed: {}", courtCase.getTitle());
         } catch (InterruptedException e) {
-            logger.logError("Thread interrupted for case: " + courtCase.getTitle());
+            logger.logError("Thread interrupted for case: {}", courtCase.getTitle());
             Thread.currentThread().interrupt();
         }
     }
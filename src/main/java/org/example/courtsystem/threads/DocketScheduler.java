@@ -0,0 +1,318 @@
+package org.example.courtsystem.threads;
+
+import org.example.courtsystem.exceptions.CourtException;
+import org.example.courtsystem.model.CourtType;
+import org.example.courtsystem.model.cases.ConcreteCase;
+import org.example.courtsystem.model.court.Court;
+import org.example.courtsystem.model.documents.Verdict;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Spreads trials across many courts grouped by CourtType.
+// Every court has its own docket deque and one worker thread, since a judge
+// hears one trial at a time. The owner takes its oldest case from the head;
+// an idle court steals from the tail of the longest docket in its own tier,
+// so a busy judge's backlog is picked up without crossing jurisdictions.
+public class DocketScheduler {
+    private static final Logger logger = LogManager.getLogger(DocketScheduler.class);
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Map<CourtType, List<Docket>> tiers = new EnumMap<>(CourtType.class);
+    private final Map<CourtType, AtomicInteger> roundRobin = new EnumMap<>(CourtType.class);
+    private final boolean stealing;
+    // Submitters hold the read lock from the running check until the case is on a
+    // docket; shutdown clears running under the write lock, so once a worker sees
+    // running == false every accepted case is already on some deque
+    private final ReadWriteLock lifecycleLock = new ReentrantReadWriteLock();
+    private volatile boolean running;
+    private volatile boolean started;
+
+    // Per-court view of the docket
+    public record CourtMetrics(String court, CourtType tier, int queueLength, long completed,
+                               long failed, long steals, long stolenFrom) {
+    }
+
+    private record DocketEntry(ConcreteCase courtCase, CompletableFuture<Verdict> result) {
+    }
+
+    private final class Docket implements Runnable {
+        final Court court;
+        final CourtType tier;
+        final ConcurrentLinkedDeque<DocketEntry> deque = new ConcurrentLinkedDeque<>();
+        // ConcurrentLinkedDeque.size() is O(n), so the length is tracked separately
+        final AtomicInteger length = new AtomicInteger();
+        final LongAdder completed = new LongAdder();
+        final LongAdder failed = new LongAdder();
+        final LongAdder steals = new LongAdder();
+        final LongAdder stolenFrom = new LongAdder();
+        volatile Thread worker;
+        volatile boolean idle;
+
+        Docket(Court court, CourtType tier) {
+            this.court = court;
+            this.tier = tier;
+        }
+
+        void push(DocketEntry entry) {
+            deque.addLast(entry);
+            length.incrementAndGet();
+        }
+
+        DocketEntry pollOwn() {
+            DocketEntry entry = deque.pollFirst();
+            if (entry != null) {
+                length.decrementAndGet();
+            }
+            return entry;
+        }
+
+        DocketEntry pollStolen() {
+            DocketEntry entry = deque.pollLast();
+            if (entry != null) {
+                length.decrementAndGet();
+            }
+            return entry;
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                DocketEntry entry = pollOwn();
+                if (entry == null && stealing) {
+                    entry = steal(this);
+                }
+                if (entry == null) {
+                    if (!running) {
+                        // A case pushed after the poll above but before shutdown is still here
+                        entry = pollOwn();
+                        if (entry == null) {
+                            return;
+                        }
+                        hear(entry);
+                        continue;
+                    }
+                    idle = true;
+                    if (length.get() == 0) {
+                        LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                    }
+                    idle = false;
+                    continue;
+                }
+                hear(entry);
+            }
+        }
+
+        private void hear(DocketEntry entry) {
+            try {
+                Verdict verdict = court.startTrial(entry.courtCase());
+                completed.increment();
+                entry.result().complete(verdict);
+            } catch (CourtException | RuntimeException e) {
+                failed.increment();
+                entry.result().completeExceptionally(e);
+            }
+        }
+
+        CourtMetrics metrics() {
+            return new CourtMetrics(court.getName(), tier, length.get(), completed.sum(), failed.sum(),
+                    steals.sum(), stolenFrom.sum());
+        }
+    }
+
+    public DocketScheduler() {
+        this(true);
+    }
+
+    public DocketScheduler(boolean stealing) {
+        this.stealing = stealing;
+    }
+
+    // Courts must be registered before start()
+    public synchronized void registerCourt(Court court, CourtType tier) {
+        if (court == null || tier == null) {
+            throw new IllegalArgumentException("Court and tier cannot be null");
+        }
+        if (started) {
+            throw new IllegalStateException("Cannot register courts after the scheduler has started");
+        }
+        tiers.computeIfAbsent(tier, t -> new ArrayList<>()).add(new Docket(court, tier));
+        roundRobin.computeIfAbsent(tier, t -> new AtomicInteger());
+    }
+
+    public synchronized void start() {
+        if (started) {
+            return;
+        }
+        started = true;
+        running = true;
+        for (List<Docket> dockets : tiers.values()) {
+            for (Docket docket : dockets) {
+                Thread worker = new Thread(docket, "docket-" + docket.court.getName());
+                worker.setDaemon(true);
+                docket.worker = worker;
+                worker.start();
+            }
+        }
+        logger.info("Docket scheduler started: {} courts, stealing {}", getCourtCount(), stealing);
+    }
+
+    // Places the case on the next court of the tier in round-robin order
+    public CompletableFuture<Verdict> submit(ConcreteCase courtCase, CourtType tier) {
+        List<Docket> dockets = dockets(tier);
+        int index = Math.floorMod(roundRobin.get(tier).getAndIncrement(), dockets.size());
+        return enqueue(dockets.get(index), courtCase);
+    }
+
+    // Places the case on a specific court's docket
+    public CompletableFuture<Verdict> submit(ConcreteCase courtCase, Court court) {
+        for (List<Docket> dockets : tiers.values()) {
+            for (Docket docket : dockets) {
+                if (docket.court == court) {
+                    return enqueue(docket, courtCase);
+                }
+            }
+        }
+        throw new IllegalArgumentException("Court " + court.getName() + " is not registered");
+    }
+
+    public List<CourtMetrics> getMetrics() {
+        List<CourtMetrics> metrics = new ArrayList<>();
+        for (List<Docket> dockets : tiers.values()) {
+            for (Docket docket : dockets) {
+                metrics.add(docket.metrics());
+            }
+        }
+        return metrics;
+    }
+
+    public int getQueueLength(CourtType tier) {
+        int total = 0;
+        for (Docket docket : tiers.getOrDefault(tier, Collections.emptyList())) {
+            total += docket.length.get();
+        }
+        return total;
+    }
+
+    public int getCourtCount() {
+        int count = 0;
+        for (List<Docket> dockets : tiers.values()) {
+            count += dockets.size();
+        }
+        return count;
+    }
+
+    // Stops accepting work once every docket has been heard
+    public boolean shutdown(long timeout, TimeUnit unit) throws InterruptedException {
+        lifecycleLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            lifecycleLock.writeLock().unlock();
+        }
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        boolean finished = true;
+        for (List<Docket> dockets : tiers.values()) {
+            for (Docket docket : dockets) {
+                Thread worker = docket.worker;
+                if (worker == null) {
+                    continue;
+                }
+                LockSupport.unpark(worker);
+                long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                worker.join(Math.max(1, remaining));
+                finished &= !worker.isAlive();
+            }
+        }
+        if (!finished) {
+            logger.warn("Docket scheduler did not drain in time");
+        }
+        logger.info("Docket scheduler stopped: {}", getMetrics());
+        return finished;
+    }
+
+    private CompletableFuture<Verdict> enqueue(Docket docket, ConcreteCase courtCase) {
+        if (courtCase == null) {
+            throw new IllegalArgumentException("Case cannot be null");
+        }
+        CompletableFuture<Verdict> result = new CompletableFuture<>();
+        lifecycleLock.readLock().lock();
+        try {
+            ensureRunning();
+            docket.push(new DocketEntry(courtCase, result));
+        } finally {
+            lifecycleLock.readLock().unlock();
+        }
+        LockSupport.unpark(docket.worker);
+        if (stealing) {
+            wakeIdleSibling(docket);
+        }
+        return result;
+    }
+
+    // Takes one case from the tail of the longest docket in the thief's tier
+    private DocketEntry steal(Docket thief) {
+        List<Docket> dockets = tiers.get(thief.tier);
+        int size = dockets.size();
+        if (size < 2) {
+            return null;
+        }
+        int start = ThreadLocalRandom.current().nextInt(size);
+        Docket victim = null;
+        int longest = 0;
+        for (int i = 0; i < size; i++) {
+            Docket candidate = dockets.get((start + i) % size);
+            int length = candidate.length.get();
+            if (candidate != thief && length > longest) {
+                victim = candidate;
+                longest = length;
+            }
+        }
+        if (victim == null) {
+            return null;
+        }
+        DocketEntry entry = victim.pollStolen();
+        if (entry != null) {
+            thief.steals.increment();
+            victim.stolenFrom.increment();
+        }
+        return entry;
+    }
+
+    private void wakeIdleSibling(Docket owner) {
+        for (Docket sibling : tiers.get(owner.tier)) {
+            if (sibling != owner && sibling.idle) {
+                LockSupport.unpark(sibling.worker);
+                return;
+            }
+        }
+    }
+
+    private void ensureRunning() {
+        if (!running) {
+            throw new IllegalStateException("Docket scheduler is not running");
+        }
+    }
+
+    private List<Docket> dockets(CourtType tier) {
+        List<Docket> dockets = tiers.get(tier);
+        if (dockets == null || dockets.isEmpty()) {
+            throw new IllegalArgumentException("No courts registered for tier " + tier);
+        }
+        return dockets;
+    }
+}
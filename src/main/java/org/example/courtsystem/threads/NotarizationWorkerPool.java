@@ -0,0 +1,233 @@
+package org.example.courtsystem.threads;
+
+import org.example.courtsystem.exceptions.DocumentProcessingException;
+import org.example.courtsystem.model.documents.Document;
+import org.example.courtsystem.model.services.LegalSecretary;
+import org.example.courtsystem.model.services.LegalSecretary.QueuedDocument;
+import org.example.courtsystem.notary.NotarizedBatch;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+// Pool of background workers that drain a LegalSecretary's queue in batches
+// and notarize each document. Producers keep calling draftDocument/addToQueue
+// and are blocked by the bounded queue when the workers fall behind.
+// A batch that fails is counted and logged and the worker moves on; if the
+// queue itself fails (e.g. its write-ahead log), the pool stops and reports
+// the cause through getFailure().
+// Documents are acknowledged to the secretary only after they are sealed (and,
+// in batch mode, handed to the receipt sink), so a crash or a failure leaves
+// them queued in the write-ahead log.
+public class NotarizationWorkerPool {
+    private static final Logger logger = LogManager.getLogger(NotarizationWorkerPool.class);
+    private static final long POLL_TIMEOUT_MS = 100;
+
+    private final LegalSecretary secretary;
+    private final int workerCount;
+    private final int batchSize;
+    // When set, each drained batch is sealed once over its Merkle root and the
+    // receipts are handed here; otherwise documents are sealed one by one
+    private final ReceiptSink receiptSink;
+    private final ExecutorService workers;
+    private volatile boolean running;
+    // First error that stopped the workers, or null
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    private final LongAdder notarized = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final AtomicReference<RateSample> lastSample = new AtomicReference<>();
+
+    // Point-in-time view of the pool's metrics
+    public record Metrics(int queueDepth, long notarized, long failed, long batches,
+                          double notarizationsPerSecond) {
+    }
+
+    private record RateSample(long nanos, long count) {
+    }
+
+    // Receives each sealed batch with its documents; receipts are in document order.
+    // Called on a worker thread, so implementations must be thread-safe.
+    @FunctionalInterface
+    public interface ReceiptSink {
+        void accept(List<Document> documents, NotarizedBatch notarized);
+    }
+
+    public NotarizationWorkerPool(LegalSecretary secretary, int workerCount, int batchSize) {
+        this(secretary, workerCount, batchSize, null);
+    }
+
+    // Seals whole batches over their Merkle root when receiptSink is not null
+    public NotarizationWorkerPool(LegalSecretary secretary, int workerCount, int batchSize,
+                                  ReceiptSink receiptSink) {
+        if (secretary == null) {
+            throw new IllegalArgumentException("Secretary cannot be null");
+        }
+        if (workerCount <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("Worker count and batch size must be positive");
+        }
+        this.secretary = secretary;
+        this.workerCount = workerCount;
+        this.batchSize = batchSize;
+        this.receiptSink = receiptSink;
+        this.workers = Executors.newFixedThreadPool(workerCount, namedThreads());
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        lastSample.set(new RateSample(System.nanoTime(), 0));
+        for (int i = 0; i < workerCount; i++) {
+            workers.execute(this::runWorker);
+        }
+        logger.info("Notarization pool started: {} workers, batch size {}, merkle batches {}",
+                workerCount, batchSize, receiptSink != null);
+    }
+
+    // Stops the workers after the queue has been drained
+    public void shutdown(long timeout, TimeUnit unit) throws InterruptedException {
+        running = false;
+        workers.shutdown();
+        if (!workers.awaitTermination(timeout, unit)) {
+            logger.warn("Notarization workers did not finish in time, {} documents left in queue",
+                    secretary.getQueueSize());
+            workers.shutdownNow();
+        }
+        Throwable cause = failure.get();
+        if (cause != null) {
+            logger.error("Notarization pool had stopped after a queue failure: {}", cause.toString());
+        }
+        logger.info("Notarization pool stopped: {} notarized, {} failed", notarized.sum(), failed.sum());
+    }
+
+    // Error that stopped the workers early, or null if they are healthy
+    public Throwable getFailure() {
+        return failure.get();
+    }
+
+    private void runWorker() {
+        List<QueuedDocument> batch = new ArrayList<>(batchSize);
+        try {
+            while (true) {
+                batch.clear();
+                int taken;
+                try {
+                    taken = secretary.takeBatch(batch, batchSize, POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                } catch (RuntimeException e) {
+                    fail(e);
+                    return;
+                }
+                if (taken == 0) {
+                    if (!running) {
+                        return;
+                    }
+                    continue;
+                }
+                List<QueuedDocument> done;
+                try {
+                    done = notarizeBatch(batch);
+                } catch (RuntimeException e) {
+                    // E.g. a throwing receipt sink; the next batch may still succeed
+                    failed.add(batch.size());
+                    logger.error("Notarization of a batch of {} documents failed", batch.size(), e);
+                    continue;
+                }
+                try {
+                    secretary.acknowledge(done);
+                } catch (RuntimeException e) {
+                    fail(e);
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // The queue can no longer be read; every worker stops
+    private void fail(RuntimeException e) {
+        if (failure.compareAndSet(null, e)) {
+            logger.error("Notarization queue failed, stopping workers", e);
+        }
+        running = false;
+    }
+
+    // Returns the documents that were sealed
+    private List<QueuedDocument> notarizeBatch(List<QueuedDocument> batch) {
+        if (receiptSink != null) {
+            List<Document> documents = new ArrayList<>(batch.size());
+            for (QueuedDocument queued : batch) {
+                documents.add(queued.doc());
+            }
+            batches.increment();
+            try {
+                NotarizedBatch sealed = secretary.notarizeBatch(documents);
+                // Round-trip one receipt so a broken proof or seal never reaches the sink
+                if (!secretary.verifyNotarization(documents.get(0), sealed.receipts().get(0))) {
+                    throw new DocumentProcessingException(documents.get(0).getTitle(),
+                            "Receipt failed verification");
+                }
+                receiptSink.accept(List.copyOf(documents), sealed);
+                notarized.add(batch.size());
+                return batch;
+            } catch (DocumentProcessingException e) {
+                failed.add(batch.size());
+                logger.error("Batch notarization failed: {}", e.getMessage());
+                return List.of();
+            }
+        }
+        batches.increment();
+        List<QueuedDocument> done = new ArrayList<>(batch.size());
+        for (QueuedDocument queued : batch) {
+            try {
+                secretary.notarizeDocument(queued.doc());
+                notarized.increment();
+                done.add(queued);
+            } catch (DocumentProcessingException e) {
+                failed.increment();
+                logger.error("Notarization failed: {}", e.getMessage());
+            }
+        }
+        return done;
+    }
+
+    public int getQueueDepth() {
+        return secretary.getQueueSize();
+    }
+
+    public long getNotarizedCount() {
+        return notarized.sum();
+    }
+
+    // Rate is measured between consecutive calls to this method
+    public Metrics snapshotMetrics() {
+        long now = System.nanoTime();
+        long count = notarized.sum();
+        RateSample previous = lastSample.getAndSet(new RateSample(now, count));
+        double rate = 0.0;
+        if (previous != null && now > previous.nanos()) {
+            rate = (count - previous.count()) * 1_000_000_000.0 / (now - previous.nanos());
+        }
+        return new Metrics(secretary.getQueueSize(), count, failed.sum(), batches.sum(), rate);
+    }
+
+    private static ThreadFactory namedThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "notary-worker-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,195 @@
+package org.example.courtsystem.threads;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Structured scope for subtasks of one trial, in the spirit of
+// StructuredTaskScope.ShutdownOnFailure (not available on Java 17).
+// At most maxConcurrency subtasks run at once; fork() blocks the owner until a
+// slot is free. The first failure cancels every sibling, join() returns
+// results in fork order, and close() cancels anything still running.
+// Both join() and close() return only once no subtask body is still running,
+// including bodies that were interrupted by a cancellation.
+public final class TrialScope<T> implements AutoCloseable {
+    private static volatile ExecutorService sharedExecutor;
+
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    // Subtasks cancel their siblings from worker threads, so iteration must be safe
+    private final List<Subtask> subtasks = new CopyOnWriteArrayList<>();
+    private final AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+
+    public TrialScope(int maxConcurrency) {
+        this(sharedExecutor(), maxConcurrency);
+    }
+
+    public TrialScope(ExecutorService executor, int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Concurrency limit must be positive");
+        }
+        this.executor = executor;
+        this.permits = new Semaphore(maxConcurrency);
+    }
+
+    // Starts a subtask. Returns false without starting it if a sibling has already failed.
+    public boolean fork(Callable<T> work) throws InterruptedException {
+        permits.acquire();
+        if (firstFailure.get() != null) {
+            permits.release();
+            return false;
+        }
+        Subtask subtask = new Subtask(work);
+        subtasks.add(subtask);
+        try {
+            executor.execute(subtask);
+        } catch (RuntimeException | Error e) {
+            // Never queued: cancelling it releases the permit through done()
+            subtasks.remove(subtask);
+            subtask.cancel(false);
+            throw e;
+        }
+        return true;
+    }
+
+    // Waits for every subtask and returns their results in fork order.
+    // Throws the first failure (wrapped) if any subtask failed.
+    public List<T> join() throws InterruptedException, ExecutionException {
+        for (Subtask subtask : subtasks) {
+            subtask.exited.await();
+        }
+        List<T> results = new ArrayList<>(subtasks.size());
+        for (Future<T> subtask : subtasks) {
+            try {
+                results.add(subtask.get());
+            } catch (CancellationException | ExecutionException e) {
+                throw failure(e);
+            }
+        }
+        Throwable failure = firstFailure.get();
+        if (failure != null) {
+            throw new ExecutionException(failure);
+        }
+        return results;
+    }
+
+    @Override
+    public void close() {
+        cancelAll(null);
+        boolean interrupted = false;
+        for (Subtask subtask : subtasks) {
+            while (true) {
+                try {
+                    subtask.exited.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void cancelAll(Subtask failed) {
+        for (Subtask subtask : subtasks) {
+            if (subtask != failed) {
+                subtask.cancel(true);
+            }
+        }
+    }
+
+    // Holds a permit from fork() until its body has run, or until it is cancelled
+    // before the body started. Whichever of run() and done() claims the subtask
+    // first releases the permit; done() alone would free the slot too early, since
+    // a FutureTask can be cancelled while its body is still running.
+    private final class Subtask extends FutureTask<T> {
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private final CountDownLatch exited = new CountDownLatch(1);
+
+        Subtask(Callable<T> work) {
+            super(work);
+        }
+
+        @Override
+        public void run() {
+            if (!claimed.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                super.run();
+            } finally {
+                exit();
+            }
+        }
+
+        @Override
+        protected void setException(Throwable t) {
+            // A cancelled sibling failing from its interrupt is not the cause
+            if (!isCancelled() && firstFailure.compareAndSet(null, t)) {
+                cancelAll(this);
+            }
+            super.setException(t);
+        }
+
+        @Override
+        protected void done() {
+            if (claimed.compareAndSet(false, true)) {
+                exit();
+            }
+        }
+
+        private void exit() {
+            permits.release();
+            exited.countDown();
+        }
+    }
+
+    // Reports the first failure rather than the cancellation it caused in a sibling
+    private ExecutionException failure(Exception e) {
+        Throwable first = firstFailure.get();
+        if (first != null) {
+            return new ExecutionException(first);
+        }
+        return e instanceof ExecutionException executionException
+                ? executionException : new ExecutionException(e);
+    }
+
+    // Virtual threads on Java 21+, otherwise a cached pool of daemon threads
+    private static ExecutorService sharedExecutor() {
+        if (sharedExecutor == null) {
+            synchronized (TrialScope.class) {
+                if (sharedExecutor == null) {
+                    sharedExecutor = newSharedExecutor();
+                }
+            }
+        }
+        return sharedExecutor;
+    }
+
+    private static ExecutorService newSharedExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger counter = new AtomicInteger();
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "trial-scope-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
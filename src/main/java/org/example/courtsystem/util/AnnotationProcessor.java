@@ -1,28 +1,68 @@
 package org.example.courtsystem.util;
 
+import org.example.courtsystem.annotations.AnnotatedClassMetadata;
 import org.example.courtsystem.annotations.AuthorAnnotation;
 import org.example.courtsystem.annotations.CaseMetadata;
+import org.example.courtsystem.annotations.GeneratedAnnotationRegistry;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.LogManager;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
 
+// Reports @CaseMetadata and @AuthorAnnotation values.
+// Classes compiled in this module are answered from GeneratedAnnotationRegistry,
+// written at build time by CourtMetadataProcessor; anything else is read reflectively.
 public class AnnotationProcessor {
     private static final Logger logger = LogManager.getLogger(AnnotationProcessor.class);
 
     public static void processAnnotations(Class<?> clazz) {
         logger.info("\nProcessing annotations for: {}", clazz.getSimpleName());
+        AnnotatedClassMetadata metadata = metadataFor(clazz);
 
         // Processing class annotations
-        processClassAnnotations(clazz);
+        processClassAnnotations(metadata);
 
         // Processing method annotations
-        processMethodAnnotations(clazz);
+        processMethodAnnotations(metadata);
     }
 
-    private static void processClassAnnotations(Class<?> clazz) {
-        // CaseMetadata annotation
+    public static AnnotatedClassMetadata metadataFor(Class<?> clazz) {
+        AnnotatedClassMetadata metadata = GeneratedAnnotationRegistry.lookup(clazz.getName());
+        return metadata != null ? metadata : readReflectively(clazz);
+    }
+
+    // Looks up by binary class name; only loads the class if it was compiled elsewhere
+    public static AnnotatedClassMetadata metadataFor(String className) throws ClassNotFoundException {
+        AnnotatedClassMetadata metadata = GeneratedAnnotationRegistry.lookup(className);
+        return metadata != null ? metadata : readReflectively(Class.forName(className));
+    }
+
+    public static AnnotatedClassMetadata readReflectively(Class<?> clazz) {
         CaseMetadata caseMetadata = clazz.getAnnotation(CaseMetadata.class);
+        AuthorAnnotation authorAnnotation = clazz.getAnnotation(AuthorAnnotation.class);
+        List<AnnotatedClassMetadata.MethodAuthor> methodAuthors = new ArrayList<>();
+        for (Method method : clazz.getDeclaredMethods()) {
+            AuthorAnnotation methodAnnotation = method.getAnnotation(AuthorAnnotation.class);
+            if (methodAnnotation != null) {
+                methodAuthors.add(new AnnotatedClassMetadata.MethodAuthor(method.getName(), toInfo(methodAnnotation)));
+            }
+        }
+        return new AnnotatedClassMetadata(clazz.getName(),
+                caseMetadata == null ? null : new AnnotatedClassMetadata.CaseInfo(caseMetadata.author(),
+                        caseMetadata.creationDate(), caseMetadata.lastModified(), caseMetadata.version()),
+                authorAnnotation == null ? null : toInfo(authorAnnotation),
+                methodAuthors);
+    }
+
+    private static AnnotatedClassMetadata.AuthorInfo toInfo(AuthorAnnotation annotation) {
+        return new AnnotatedClassMetadata.AuthorInfo(annotation.author(), annotation.date(), annotation.description());
+    }
+
+    private static void processClassAnnotations(AnnotatedClassMetadata metadata) {
+        // CaseMetadata annotation
+        AnnotatedClassMetadata.CaseInfo caseMetadata = metadata.caseMetadata();
         if (caseMetadata != null) {
             logger.info("Case Metadata:");
             logger.info("  Author: {}", caseMetadata.author());
@@ -31,7 +71,7 @@ public class AnnotationProcessor {
         }
 
         // AuthorAnnotation annotation
-        AuthorAnnotation authorAnnotation = clazz.getAnnotation(AuthorAnnotation.class);
+        AnnotatedClassMetadata.AuthorInfo authorAnnotation = metadata.author();
         if (authorAnnotation != null) {
             logger.info("Author Info:");
             logger.info("  Author: {}", authorAnnotation.author());
@@ -40,14 +80,11 @@ public class AnnotationProcessor {
         }
     }
 
-    private static void processMethodAnnotations(Class<?> clazz) {
-        for (Method method : clazz.getDeclaredMethods()) {
-            AuthorAnnotation methodAnnotation = method.getAnnotation(AuthorAnnotation.class);
-            if (methodAnnotation != null) {
-                logger.info("\nMethod '{}' annotations:", method.getName());
-                logger.info("  Author: {}", methodAnnotation.author());
-                logger.info("  Date: {}", methodAnnotation.date());
-            }
+    private static void processMethodAnnotations(AnnotatedClassMetadata metadata) {
+        for (AnnotatedClassMetadata.MethodAuthor methodAuthor : metadata.methodAuthors()) {
+            logger.info("\nMethod '{}' annotations:", methodAuthor.methodName());
+            logger.info("  Author: {}", methodAuthor.author().author());
+            logger.info("  Date: {}", methodAuthor.author().date());
         }
     }
-}
\ No newline at end of file
+}
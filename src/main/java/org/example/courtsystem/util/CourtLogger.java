@@ -1,15 +1,100 @@
 // Singleton class for logging court events
 package org.example.courtsystem.util;
 
+import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.util.Constants;
 
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+// Calls only copy the pattern and arguments into a preallocated ring buffer
+// slot; a background thread formats them into a reused buffer and hands them
+// to Log4j, so callers never wait on appender I/O.
+// Strings, boxed primitives and enums are captured by reference; any other
+// argument is rendered with toString() on the calling thread, so the entry
+// shows its state at the time of the call.
+// Capacity and overflow policy come from the courtlogger.capacity and
+// courtlogger.overflowPolicy system properties.
+// After shutdown() messages are written synchronously on the calling thread.
 public class CourtLogger {
+    private static final String EVENT_PREFIX = "[COURT EVENT] ";
+    private static final String ERROR_PREFIX = "[COURT ERROR] ";
+    private static final int DEFAULT_CAPACITY = 8192;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long WAIT_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    // With thread locals enabled Log4j wraps a CharSequence in a reusable message
+    // and copies it into the event before log() returns; otherwise it may keep
+    // the reference until an async appender formats it, so a copy is passed
+    private static final boolean REUSE_MESSAGE_BUFFER = Constants.ENABLE_THREADLOCALS;
+
     private static volatile CourtLogger instance;
     private final Logger logger;
 
+    // What a caller does when the ring buffer is full
+    public enum OverflowPolicy {
+        BLOCK,        // wait for the drainer to free a slot
+        DROP,         // discard the message and count it
+        CALLER_RUNS   // log synchronously on the calling thread
+    }
+
+    // Preallocated slot; fields are overwritten for every message
+    private static final class Entry {
+        Level level;
+        String prefix;
+        String pattern;
+        Object arg0;
+        Object arg1;
+        Object arg2;
+        int argCount;
+        String threadName;
+
+        void clear() {
+            pattern = null;
+            arg0 = null;
+            arg1 = null;
+            arg2 = null;
+            threadName = null;
+        }
+    }
+
+    // Bounded multi-producer ring (Vyukov style): a slot's sequence tells
+    // producers when it is free and the drainer when it is published
+    private final Entry[] entries;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    private volatile OverflowPolicy overflowPolicy;
+    private final LongAdder dropped = new LongAdder();
+    // Only the drainer (or, once it has exited, a caller holding its lock) uses this
+    private final StringBuilder formatBuffer = new StringBuilder(256);
+    private final Thread drainer;
+    private volatile boolean running = true;
+
     private CourtLogger() {
         this.logger = LogManager.getLogger(CourtLogger.class);
+        int capacity = Integer.highestOneBit(Math.max(2,
+                Integer.getInteger("courtlogger.capacity", DEFAULT_CAPACITY)) * 2 - 1);
+        this.entries = new Entry[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            entries[i] = new Entry();
+            sequences.set(i, i);
+        }
+        this.mask = capacity - 1;
+        this.overflowPolicy = OverflowPolicy.valueOf(
+                System.getProperty("courtlogger.overflowPolicy", OverflowPolicy.BLOCK.name()));
+
+        this.drainer = new Thread(this::drainLoop, "court-logger");
+        this.drainer.setDaemon(true);
+        this.drainer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "court-logger-shutdown"));
     }
 
     public static CourtLogger getInstance() {
@@ -24,10 +109,237 @@ public class CourtLogger {
     }
 
     public void logEvent(String message) {
-        logger.info("[COURT EVENT] " + message);
+        enqueue(Level.INFO, EVENT_PREFIX, message, 0, null, null, null);
+    }
+
+    public void logEvent(String pattern, Object arg) {
+        enqueue(Level.INFO, EVENT_PREFIX, pattern, 1, arg, null, null);
+    }
+
+    public void logEvent(String pattern, Object arg0, Object arg1) {
+        enqueue(Level.INFO, EVENT_PREFIX, pattern, 2, arg0, arg1, null);
+    }
+
+    public void logEvent(String pattern, Object arg0, Object arg1, Object arg2) {
+        enqueue(Level.INFO, EVENT_PREFIX, pattern, 3, arg0, arg1, arg2);
     }
 
     public void logError(String error) {
-        logger.error("[COURT ERROR] " + error);
+        enqueue(Level.ERROR, ERROR_PREFIX, error, 0, null, null, null);
+    }
+
+    public void logError(String pattern, Object arg) {
+        enqueue(Level.ERROR, ERROR_PREFIX, pattern, 1, arg, null, null);
+    }
+
+    public void logError(String pattern, Object arg0, Object arg1) {
+        enqueue(Level.ERROR, ERROR_PREFIX, pattern, 2, arg0, arg1, null);
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        if (overflowPolicy == null) {
+            throw new IllegalArgumentException("Overflow policy cannot be null");
+        }
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    public int getCapacity() {
+        return entries.length;
+    }
+
+    // Messages waiting to be written
+    public int getPendingCount() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    // Messages discarded under the DROP policy
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    // Waits until everything queued so far has been handed to Log4j
+    public boolean flush(long timeout, TimeUnit unit) {
+        long target = tail.get();
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (head < target) {
+            if (System.nanoTime() > deadline || !drainer.isAlive()) {
+                return false;
+            }
+            LockSupport.unpark(drainer);
+            LockSupport.parkNanos(IDLE_PARK_NANOS / 10);
+        }
+        return true;
+    }
+
+    // Stops the drainer after writing out what is already queued
+    public void shutdown() {
+        if (!running) {
+            return;
+        }
+        flush(5, TimeUnit.SECONDS);
+        running = false;
+        LockSupport.unpark(drainer);
+    }
+
+    private void enqueue(Level level, String prefix, String pattern, int argCount,
+                         Object arg0, Object arg1, Object arg2) {
+        if (!logger.isEnabled(level)) {
+            return;
+        }
+        if (!running) {
+            writeDirect(level, prefix, pattern, argCount, arg0, arg1, arg2);
+            return;
+        }
+        arg0 = capture(arg0);
+        arg1 = capture(arg1);
+        arg2 = capture(arg2);
+        while (true) {
+            long position = tail.get();
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    Entry entry = entries[index];
+                    entry.level = level;
+                    entry.prefix = prefix;
+                    entry.pattern = pattern;
+                    entry.argCount = argCount;
+                    entry.arg0 = arg0;
+                    entry.arg1 = arg1;
+                    entry.arg2 = arg2;
+                    entry.threadName = Thread.currentThread().getName();
+                    sequences.set(index, position + 1);
+                    if (!running) {
+                        // Shutdown began after the check above; the drainer may be gone
+                        awaitWritten(position);
+                    }
+                    return;
+                }
+            } else if (difference < 0) {
+                // Ring is full
+                switch (overflowPolicy) {
+                    case DROP -> {
+                        dropped.increment();
+                        return;
+                    }
+                    case CALLER_RUNS -> {
+                        writeDirect(level, prefix, pattern, argCount, arg0, arg1, arg2);
+                        return;
+                    }
+                    default -> {
+                        if (!running) {
+                            writeDirect(level, prefix, pattern, argCount, arg0, arg1, arg2);
+                            return;
+                        }
+                        LockSupport.unpark(drainer);
+                        LockSupport.parkNanos(WAIT_PARK_NANOS);
+                    }
+                }
+            }
+        }
+    }
+
+    // Waits until the entry at position has been written, writing queued entries
+    // on this thread once the drainer has exited
+    private void awaitWritten(long position) {
+        while (head <= position) {
+            if (drainer.isAlive()) {
+                LockSupport.unpark(drainer);
+                LockSupport.parkNanos(WAIT_PARK_NANOS);
+            } else {
+                synchronized (formatBuffer) {
+                    drainOne();
+                }
+            }
+        }
+    }
+
+    private void drainLoop() {
+        while (running || head < tail.get()) {
+            if (!drainOne()) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    private boolean drainOne() {
+        long position = head;
+        int index = (int) (position & mask);
+        if (sequences.get(index) != position + 1) {
+            return false;
+        }
+        Entry entry = entries[index];
+        try {
+            formatBuffer.setLength(0);
+            formatBuffer.append('[').append(entry.threadName).append("] ").append(entry.prefix);
+            appendFormatted(formatBuffer, entry.pattern, entry.argCount, entry.arg0, entry.arg1, entry.arg2);
+            logger.log(entry.level, REUSE_MESSAGE_BUFFER ? formatBuffer : formatBuffer.toString());
+        } catch (RuntimeException e) {
+            logger.error("Failed to write court log entry", e);
+        } finally {
+            entry.clear();
+            sequences.set(index, position + entries.length);
+            head = position + 1;
+        }
+        return true;
+    }
+
+    private void writeDirect(Level level, String prefix, String pattern, int argCount,
+                             Object arg0, Object arg1, Object arg2) {
+        StringBuilder buffer = new StringBuilder(64);
+        buffer.append('[').append(Thread.currentThread().getName()).append("] ").append(prefix);
+        appendFormatted(buffer, pattern, argCount, arg0, arg1, arg2);
+        logger.log(level, buffer.toString());
+    }
+
+    // Values that cannot change before the drainer formats them are kept as they
+    // are; anything else is rendered now
+    private static Object capture(Object arg) {
+        if (arg == null || arg instanceof String || arg instanceof Integer || arg instanceof Long
+                || arg instanceof Boolean || arg instanceof Double || arg instanceof Float
+                || arg instanceof Short || arg instanceof Byte || arg instanceof Character
+                || arg instanceof Enum<?>) {
+            return arg;
+        }
+        return String.valueOf(arg);
+    }
+
+    // Replaces each "{}" in the pattern with the next argument
+    private static void appendFormatted(StringBuilder buffer, String pattern, int argCount,
+                                        Object arg0, Object arg1, Object arg2) {
+        if (pattern == null) {
+            buffer.append("null");
+            return;
+        }
+        int used = 0;
+        int start = 0;
+        int placeholder;
+        while (used < argCount && (placeholder = pattern.indexOf("{}", start)) >= 0) {
+            buffer.append(pattern, start, placeholder);
+            appendArgument(buffer, used == 0 ? arg0 : used == 1 ? arg1 : arg2);
+            used++;
+            start = placeholder + 2;
+        }
+        buffer.append(pattern, start, pattern.length());
+    }
+
+    // Appends numbers through the primitive overloads so they are not turned
+    // into temporary Strings first
+    private static void appendArgument(StringBuilder buffer, Object arg) {
+        if (arg instanceof Integer value) {
+            buffer.append(value.intValue());
+        } else if (arg instanceof Long value) {
+            buffer.append(value.longValue());
+        } else if (arg instanceof Boolean value) {
+            buffer.append(value.booleanValue());
+        } else if (arg instanceof Double value) {
+            buffer.append(value.doubleValue());
+        } else {
+            buffer.append(arg);
+        }
     }
 }
@@ -1,5 +1,6 @@
 package org.example.courtsystem.util;
 
+import org.example.courtsystem.metrics.events.DocumentAnalysisEvent;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 
@@ -16,9 +17,28 @@ import java.util.Map;
 
 public class DocumentAnalyzer {
     private static final String OUTPUT_FILE = "analysis_results.txt";
+    private static final Path DEFAULT_OUTPUT_DIRECTORY = Paths.get("src/main/resources");
     private static final String[] SPECIAL_WORDS = {"court", "evidence", "witness", "judge", "law"};
 
     public static void analyzeDocument(String resourcePath) throws IOException {
+        analyzeDocument(resourcePath, DEFAULT_OUTPUT_DIRECTORY);
+    }
+
+    // Writes the report to analysis_results.txt in the given directory
+    public static void analyzeDocument(String resourcePath, Path outputDirectory) throws IOException {
+        DocumentAnalysisEvent event = new DocumentAnalysisEvent();
+        event.begin();
+        try {
+            String content = analyze(resourcePath, outputDirectory);
+            event.complete(resourcePath, content, "COMPLETED");
+        } catch (IOException e) {
+            event.complete(resourcePath, null, "FAILED");
+            throw e;
+        }
+    }
+
+    // Runs the analysis, writes the report and returns the document text
+    private static String analyze(String resourcePath, Path outputDirectory) throws IOException {
         // Loading an input file from resources
         InputStream inputStream = DocumentAnalyzer.class.getClassLoader().getResourceAsStream(resourcePath);
         if (inputStream == null) {
@@ -52,8 +72,9 @@ public class DocumentAnalyzer {
             result.append(entry.getKey()).append(": ").append(entry.getValue()).append("\n");
         }
 
-        // Writing the result to a file in the resources folder
-        Path outputPath = Paths.get("src/main/resources", OUTPUT_FILE);
+        // Writing the result to a file in the output folder
+        Path outputPath = outputDirectory.resolve(OUTPUT_FILE);
         Files.write(outputPath, result.toString().getBytes(StandardCharsets.UTF_8));
+        return content;
     }
 }
\ No newline at end of file
@@ -0,0 +1,134 @@
+package org.example.courtsystem.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// Lock-free log-linear histogram of non-negative values, normally nanoseconds.
+// Each power of two is split into 32 sub-buckets, so any recorded value is
+// reported within about 3% of its true value. Buckets are striped across a few
+// AtomicLongArrays, chosen by thread id, to keep concurrent recorders off each
+// other's cache lines; recording is one atomic increment plus adder updates.
+public class LatencyHistogram {
+    private static final int SUB_BITS = 6;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    private static final int HALF_COUNT = SUB_COUNT >> 1;
+    private static final int BUCKETS = SUB_COUNT + (63 - SUB_BITS) * HALF_COUNT;
+    private static final int MAX_STRIPES = 8;
+
+    private final AtomicLongArray[] stripes;
+    private final int stripeMask;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    // Summary of the histogram at one point in time
+    public record Snapshot(long count, double mean, long p50, long p90, long p99, long p999, long max) {
+        public String format(double unitNanos, String unit) {
+            return String.format("count=%d mean=%.2f%s p50=%.2f%s p90=%.2f%s p99=%.2f%s p999=%.2f%s max=%.2f%s",
+                    count, mean / unitNanos, unit, p50 / unitNanos, unit, p90 / unitNanos, unit,
+                    p99 / unitNanos, unit, p999 / unitNanos, unit, max / unitNanos, unit);
+        }
+    }
+
+    public LatencyHistogram() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        int stripeCount = Math.min(MAX_STRIPES, Integer.highestOneBit(Math.max(1, processors - 1)) << 1);
+        stripes = new AtomicLongArray[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new AtomicLongArray(BUCKETS);
+        }
+        stripeMask = stripeCount - 1;
+    }
+
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        int stripe = stripeMask == 0 ? 0 : (int) (Thread.currentThread().getId() & stripeMask);
+        stripes[stripe].getAndIncrement(bucketIndex(value));
+        count.increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public double getMean() {
+        long n = count.sum();
+        return n == 0 ? 0.0 : (double) sum.sum() / n;
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    // Smallest bucket bound at or below which the given fraction of values fall
+    public long percentile(double fraction) {
+        long[] merged = mergedBuckets();
+        long total = 0;
+        for (long bucket : merged) {
+            total += bucket;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(fraction * total));
+        long seen = 0;
+        for (int i = 0; i < merged.length; i++) {
+            seen += merged[i];
+            if (seen >= rank) {
+                return Math.min(upperBound(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    public Snapshot snapshot() {
+        return new Snapshot(count.sum(), getMean(), percentile(0.50), percentile(0.90),
+                percentile(0.99), percentile(0.999), max.get());
+    }
+
+    // Not atomic with concurrent record() calls
+    public void reset() {
+        for (AtomicLongArray stripe : stripes) {
+            for (int i = 0; i < BUCKETS; i++) {
+                stripe.set(i, 0);
+            }
+        }
+        count.reset();
+        sum.reset();
+        max.reset();
+    }
+
+    private long[] mergedBuckets() {
+        long[] merged = new long[BUCKETS];
+        for (AtomicLongArray stripe : stripes) {
+            for (int i = 0; i < BUCKETS; i++) {
+                merged[i] += stripe.get(i);
+            }
+        }
+        return merged;
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_COUNT) {
+            return (int) value;
+        }
+        int msb = 63 - Long.numberOfLeadingZeros(value);
+        int shift = msb - SUB_BITS + 1;
+        return SUB_COUNT + (shift - 1) * HALF_COUNT + (int) ((value >>> shift) - HALF_COUNT);
+    }
+
+    static long upperBound(int index) {
+        if (index < SUB_COUNT) {
+            return index;
+        }
+        int offset = index - SUB_COUNT;
+        int shift = offset / HALF_COUNT + 1;
+        long sub = offset % HALF_COUNT + HALF_COUNT;
+        return ((sub + 1) << shift) - 1;
+    }
+}